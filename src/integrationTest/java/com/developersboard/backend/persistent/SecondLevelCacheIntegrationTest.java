@@ -0,0 +1,214 @@
+package com.developersboard.backend.persistent;
+
+import com.developersboard.IntegrationTestUtils;
+import com.developersboard.backend.persistent.domain.mail.EmailOutbox;
+import com.developersboard.backend.persistent.domain.user.User;
+import com.developersboard.backend.persistent.domain.user.UserHistory;
+import com.developersboard.backend.persistent.domain.user.UserRole;
+import com.developersboard.backend.service.cache.CacheInvalidationBus;
+import com.developersboard.backend.service.cache.CacheInvalidationBus.Invalidation;
+import com.developersboard.backend.service.user.UserDetailsCacheService;
+import com.developersboard.config.jpa.SecondLevelCacheEndpoint;
+import com.developersboard.constant.CacheConstants;
+import com.developersboard.enums.UserCacheEvictionCause;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+class SecondLevelCacheIntegrationTest extends IntegrationTestUtils {
+
+  @Autowired private transient EntityManagerFactory entityManagerFactory;
+  @Autowired private transient PlatformTransactionManager transactionManager;
+  @Autowired private transient UserDetailsService userDetailsService;
+  @Autowired private transient UserDetailsCacheService userDetailsCacheService;
+  @Autowired private transient CacheInvalidationBus cacheInvalidationBus;
+  @Autowired private transient SecondLevelCacheEndpoint secondLevelCacheEndpoint;
+
+  private Statistics statistics;
+  private boolean statisticsEnabled;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statisticsEnabled = statistics.isStatisticsEnabled();
+    statistics.setStatisticsEnabled(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    statistics.setStatisticsEnabled(statisticsEnabled);
+  }
+
+  @Test
+  void loginAfterAnEvictionRunsNoStatement(TestInfo testInfo) {
+    var user = createAndAssertUser(testInfo.getDisplayName(), true);
+
+    var coldStatements = countStatements(() -> login(user.getUsername()));
+    userDetailsCacheService.evictById(user.getId(), UserCacheEvictionCause.UPDATED);
+    var warmStatements = countStatements(() -> login(user.getUsername()));
+
+    log.info("SQL statements per login: {} cold, {} warm", coldStatements, warmStatements);
+    Assertions.assertTrue(coldStatements > 0);
+    Assertions.assertEquals(0, warmStatements);
+  }
+
+  @Test
+  void userAndRolesAreReadFromTheCache(TestInfo testInfo) {
+    var user = createAndAssertUser(testInfo.getDisplayName(), true);
+    countRoles(user.getId());
+
+    var statements = countStatements(() -> Assertions.assertEquals(1, countRoles(user.getId())));
+
+    Assertions.assertEquals(0, statements);
+    var regions = secondLevelCacheEndpoint.statistics().regions();
+    Assertions.assertTrue(regions.get(User.class.getName()).hits() > 0);
+  }
+
+  @Test
+  void userIsLoadedByPublicIdFromTheCache(TestInfo testInfo) {
+    var user = createAndAssertUser(testInfo.getDisplayName(), true);
+    var cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    cache.evictEntityData(User.class);
+    cache.evictNaturalIdData(User.class);
+
+    var coldStatements = countStatements(() -> findByPublicId(user.getPublicId()));
+    var warmStatements = countStatements(() -> findByPublicId(user.getPublicId()));
+
+    log.info("SQL statements per lookup: {} cold, {} warm", coldStatements, warmStatements);
+    Assertions.assertTrue(coldStatements > 0);
+    Assertions.assertEquals(0, warmStatements);
+    Assertions.assertTrue(statistics.getNaturalIdCacheHitCount() > 0);
+  }
+
+  @Test
+  void publicIdIsTheNaturalIdOfUsersOnly() {
+    var mappingMetamodel =
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel();
+
+    var naturalId = mappingMetamodel.getEntityDescriptor(User.class).getNaturalIdMapping();
+    var attribute = naturalId.getNaturalIdAttributes().getFirst();
+    Assertions.assertEquals("publicId", attribute.getAttributeName());
+    for (var entity : List.of(UserRole.class, UserHistory.class, EmailOutbox.class)) {
+      Assertions.assertNull(mappingMetamodel.getEntityDescriptor(entity).getNaturalIdMapping());
+    }
+  }
+
+  @Test
+  void userChangedOnAnotherNodeIsEvicted(TestInfo testInfo) {
+    var user = createAndAssertUser(testInfo.getDisplayName(), true);
+    countRoles(user.getId());
+    var cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    Assertions.assertTrue(cache.containsEntity(User.class, user.getId()));
+
+    cacheInvalidationBus.publish(
+        new Invalidation(
+            "another node",
+            CacheConstants.USER_DETAILS,
+            String.valueOf(user.getId()),
+            Instant.now()));
+
+    Assertions.assertFalse(cache.containsEntity(User.class, user.getId()));
+  }
+
+  @Test
+  void userChangedOnAnotherNodeLeavesTheOtherUsersCached() {
+    var user = createAndAssertUser(FAKER.credentials().username(), true);
+    var otherUser = createAndAssertUser(FAKER.credentials().username(), true);
+    countRoles(user.getId());
+    countRoles(otherUser.getId());
+    var cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+
+    // The invalidations an update of the other user sends.
+    for (var key : List.of(otherUser.getUsername(), otherUser.getEmail())) {
+      cacheInvalidationBus.publish(
+          new Invalidation("another node", CacheConstants.USERS, key, Instant.now()));
+    }
+    cacheInvalidationBus.publish(
+        new Invalidation(
+            "another node",
+            CacheConstants.USER_DETAILS,
+            String.valueOf(otherUser.getId()),
+            Instant.now()));
+
+    Assertions.assertFalse(cache.containsEntity(User.class, otherUser.getId()));
+    Assertions.assertTrue(cache.containsEntity(User.class, user.getId()));
+    var statements = countStatements(() -> Assertions.assertEquals(1, countRoles(user.getId())));
+    Assertions.assertEquals(0, statements);
+  }
+
+  @Test
+  void loginAfterAnotherUserChangedOnAnotherNodeRunsOneStatement() {
+    var user = createAndAssertUser(FAKER.credentials().username(), true);
+    var otherUser = createAndAssertUser(FAKER.credentials().username(), true);
+    login(user.getUsername());
+    userDetailsCacheService.evictById(user.getId(), UserCacheEvictionCause.UPDATED);
+
+    cacheInvalidationBus.publish(
+        new Invalidation(
+            "another node",
+            CacheConstants.USER_DETAILS,
+            String.valueOf(otherUser.getId()),
+            Instant.now()));
+
+    // Only the cached credentials are dropped, they are read again in a single statement.
+    Assertions.assertEquals(1, countStatements(() -> login(user.getUsername())));
+  }
+
+  @Test
+  void userDeletedOnAnotherNodeDropsTheCachedQueries() {
+    var user = createAndAssertUser(FAKER.credentials().username(), true);
+    var cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    findByPublicId(user.getPublicId());
+    Assertions.assertTrue(cache.containsEntity(User.class, user.getId()));
+
+    cacheInvalidationBus.publish(
+        new Invalidation(
+            "another node", CacheConstants.DELETED_USERS, user.getPublicId(), Instant.now()));
+
+    Assertions.assertFalse(cache.containsEntity(User.class, user.getId()));
+    Assertions.assertTrue(countStatements(() -> findByPublicId(user.getPublicId())) > 0);
+  }
+
+  private void login(final String username) {
+    var userDetails = userDetailsService.loadUserByUsername(username);
+    Assertions.assertEquals(username, userDetails.getUsername());
+  }
+
+  private int countRoles(final Long id) {
+    var transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setReadOnly(true);
+    return transactionTemplate.execute(
+        status -> userRepository.findById(id).orElseThrow().getUserRoles().size());
+  }
+
+  private void findByPublicId(final String publicId) {
+    var transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setReadOnly(true);
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          // The second lookup within the session is resolved from the persistence context.
+          Assertions.assertEquals(publicId, userRepository.findByPublicId(publicId).getPublicId());
+          Assertions.assertEquals(publicId, userRepository.findByPublicId(publicId).getPublicId());
+        });
+  }
+
+  private long countStatements(final Runnable runnable) {
+    statistics.clear();
+    runnable.run();
+    return statistics.getPrepareStatementCount();
+  }
+}
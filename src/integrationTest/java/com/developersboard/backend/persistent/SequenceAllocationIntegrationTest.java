@@ -0,0 +1,30 @@
+package com.developersboard.backend.persistent;
+
+import com.developersboard.IntegrationTestUtils;
+import com.developersboard.backend.persistent.domain.user.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.PooledLoOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class SequenceAllocationIntegrationTest extends IntegrationTestUtils {
+
+  @Autowired private transient EntityManagerFactory entityManagerFactory;
+
+  @Test
+  void entityIdsAreAllocatedWithThePooledLoOptimizer() {
+    var generator =
+        entityManagerFactory
+            .unwrap(SessionFactoryImplementor.class)
+            .getMappingMetamodel()
+            .getEntityDescriptor(User.class)
+            .getGenerator();
+
+    var sequenceStyleGenerator =
+        Assertions.assertInstanceOf(SequenceStyleGenerator.class, generator);
+    Assertions.assertInstanceOf(PooledLoOptimizer.class, sequenceStyleGenerator.getOptimizer());
+  }
+}
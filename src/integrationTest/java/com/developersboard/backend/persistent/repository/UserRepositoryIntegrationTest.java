@@ -0,0 +1,33 @@
+package com.developersboard.backend.persistent.repository;
+
+import com.developersboard.IntegrationTestUtils;
+import com.developersboard.enums.RoleType;
+import com.developersboard.shared.util.UserUtils;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class UserRepositoryIntegrationTest extends IntegrationTestUtils {
+
+  @Test
+  void findCredentialsWithTheRoleNamesOfTheUser() {
+    var userDto = UserUtils.createUserDto(true);
+    var storedUser =
+        userService.createUser(userDto, Set.of(RoleType.ROLE_ADMIN, RoleType.ROLE_USER));
+
+    var byUsername = userRepository.findCredentialsByUsername(storedUser.getUsername());
+    var byEmail = userRepository.findCredentialsByEmail(storedUser.getEmail());
+
+    Assertions.assertEquals(byUsername, byEmail);
+    Assertions.assertEquals(storedUser.getId(), byUsername.id());
+    Assertions.assertEquals(storedUser.getPublicId(), byUsername.publicId());
+    Assertions.assertTrue(byUsername.enabled());
+    Assertions.assertEquals("ROLE_ADMIN,ROLE_USER", byUsername.roles());
+  }
+
+  @Test
+  void findCredentialsOfUnknownUserIsNull() {
+    Assertions.assertNull(userRepository.findCredentialsByUsername("unknown user"));
+    Assertions.assertNull(userRepository.findCredentialsByEmail("unknown@example.com"));
+  }
+}
@@ -0,0 +1,151 @@
+package com.developersboard.backend.persistent.repository;
+
+import com.developersboard.IntegrationTestUtils;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Calls the hot user finders, explains every statement Hibernate issues for them and fails if any
+ * of them reads a whole table. The second-level cache is cleared before each call, so the
+ * statements a cold cache runs are the ones explained.
+ */
+@TestPropertySource(
+    properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "com.developersboard.backend.persistent.repository"
+            + ".UserRepositoryQueryPlanIntegrationTest$RecordingStatementInspector")
+class UserRepositoryQueryPlanIntegrationTest extends IntegrationTestUtils {
+
+  private static final String TABLE_SCAN = "tableScan";
+
+  @Autowired private transient JdbcTemplate jdbcTemplate;
+  @Autowired private transient EntityManagerFactory entityManagerFactory;
+  @Autowired private transient PlatformTransactionManager transactionManager;
+
+  static Stream<Arguments> hotFinders() {
+    var usernames = Set.of("first", "second");
+    // Ids no user has, so that the deletes do not run into the foreign keys of existing users.
+    var ids = List.of(-1L, -2L);
+
+    return Stream.of(
+        finder("findByUsername", userRepository -> userRepository.findByUsername("username")),
+        finder("findByEmail", userRepository -> userRepository.findByEmail("email")),
+        finder("findByPublicId", userRepository -> userRepository.findByPublicId("publicId")),
+        finder(
+            "findCredentialsByUsername",
+            userRepository -> userRepository.findCredentialsByUsername("username")),
+        finder(
+            "findCredentialsByEmail",
+            userRepository -> userRepository.findCredentialsByEmail("email")),
+        finder("existsByUsername", userRepository -> userRepository.existsByUsername("username")),
+        finder(
+            "existsByUsernameAndEnabledTrue",
+            userRepository -> userRepository.existsByUsernameAndEnabledTrue("username")),
+        finder(
+            "existsByEmailAndEnabledTrue",
+            userRepository -> userRepository.existsByEmailAndEnabledTrue("email")),
+        finder(
+            "findExistingUsernames",
+            userRepository -> userRepository.findExistingUsernames(usernames)),
+        finder(
+            "findUserResponsesAfter",
+            userRepository -> userRepository.findUserResponsesAfter("publicId", Limit.of(100))),
+        finder(
+            "findNotEnabledUserIds",
+            userRepository ->
+                userRepository.findNotEnabledUserIds(LocalDateTime.now(), 0L, Limit.of(100))),
+        finder(
+            "lockNotEnabledUserIds", userRepository -> userRepository.lockNotEnabledUserIds(ids)),
+        finder(
+            "deleteUserRolesByUserIds",
+            userRepository -> userRepository.deleteUserRolesByUserIds(ids)),
+        finder(
+            "deleteUserHistoriesByUserIds",
+            userRepository -> userRepository.deleteUserHistoriesByUserIds(ids)),
+        finder("deleteByIdIn", userRepository -> userRepository.deleteByIdIn(ids)));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("hotFinders")
+  void hotFinderUsesAnIndex(final String finder, final Consumer<UserRepository> call) {
+    entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+
+    var statements = recordStatements(call);
+
+    Assertions.assertFalse(statements.isEmpty(), () -> finder + " issued no statement");
+    for (var sql : statements) {
+      var plan = String.join(" ", jdbcTemplate.queryForList("explain " + sql, String.class));
+      Assertions.assertFalse(plan.contains(TABLE_SCAN), () -> finder + " scans a table: " + plan);
+    }
+  }
+
+  /**
+   * Calls the finder in a transaction that is rolled back, so that the deletes leave the users of
+   * the other tests alone.
+   */
+  private List<String> recordStatements(final Consumer<UserRepository> call) {
+    RecordingStatementInspector.start();
+    try {
+      new TransactionTemplate(transactionManager)
+          .executeWithoutResult(
+              status -> {
+                call.accept(userRepository);
+                status.setRollbackOnly();
+              });
+      return RecordingStatementInspector.stop();
+    } finally {
+      RecordingStatementInspector.clear();
+    }
+  }
+
+  private static Arguments finder(final String name, final Consumer<UserRepository> call) {
+    return Arguments.of(name, call);
+  }
+
+  /** Records the statements Hibernate issues on the current thread while recording. */
+  public static class RecordingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    static void start() {
+      STATEMENTS.set(new ArrayList<>());
+    }
+
+    static List<String> stop() {
+      var statements = STATEMENTS.get();
+      clear();
+      return statements;
+    }
+
+    static void clear() {
+      STATEMENTS.remove();
+    }
+
+    @Override
+    public String inspect(final String sql) {
+      var statements = STATEMENTS.get();
+      if (Objects.nonNull(statements)) {
+        statements.add(sql);
+      }
+      return sql;
+    }
+  }
+}
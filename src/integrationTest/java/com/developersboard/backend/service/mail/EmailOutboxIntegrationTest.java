@@ -0,0 +1,168 @@
+package com.developersboard.backend.service.mail;
+
+import com.developersboard.IntegrationTestUtils;
+import com.developersboard.backend.persistent.domain.mail.EmailOutbox;
+import com.developersboard.backend.persistent.repository.EmailOutboxRepository;
+import com.developersboard.backend.service.mail.impl.AbstractEmailServiceImpl;
+import com.developersboard.constant.EmailConstants;
+import com.developersboard.enums.EmailStatus;
+import com.developersboard.shared.dto.UserDto;
+import com.developersboard.shared.util.UserUtils;
+import com.developersboard.shared.util.core.WebUtils;
+import com.developersboard.web.payload.request.mail.HtmlEmailRequest;
+import jakarta.mail.Message.RecipientType;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailSendException;
+
+class EmailOutboxIntegrationTest extends IntegrationTestUtils {
+
+  @Autowired private transient EmailOutboxService emailOutboxService;
+  @Autowired private transient EmailOutboxRepository emailOutboxRepository;
+  @Autowired private transient JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    greenMail.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    greenMail.stop();
+  }
+
+  @Test
+  void queuedEmailIsSentByTheWorkers() throws MessagingException {
+    var userDto = UserUtils.createUserDto(false);
+    emailOutboxService.enqueue(createEmailRequest(userDto));
+
+    // Nothing is sent until the workers pick the email up.
+    Assertions.assertEquals(0, getReceivedMessages(userDto).size());
+    Assertions.assertTrue(emailOutboxService.dispatch(emailService::sendHtmlEmail) > 0);
+
+    var messages = getReceivedMessages(userDto);
+    Assertions.assertEquals(1, messages.size());
+    Assertions.assertEquals(
+        EmailConstants.CONFIRMATION_SUCCESS_EMAIL_SUBJECT, messages.getFirst().getSubject());
+
+    var email = findByRecipient(userDto.getEmail());
+    Assertions.assertEquals(EmailStatus.SENT, email.getStatus());
+    Assertions.assertEquals(1, email.getAttempts());
+    Assertions.assertNotNull(email.getSentAt());
+    Assertions.assertNull(email.getUrls());
+  }
+
+  @Test
+  void emailsSentBeforeTheRetentionArePurged() {
+    var sentUser = UserUtils.createUserDto(false);
+    var pendingUser = UserUtils.createUserDto(false);
+    emailOutboxService.enqueue(createEmailRequest(sentUser));
+    emailOutboxService.dispatch(emailService::sendHtmlEmail);
+    emailOutboxService.enqueue(createEmailRequest(pendingUser));
+    ageEmails(Duration.ofDays(30));
+
+    Assertions.assertTrue(emailOutboxService.purge() > 0);
+
+    Assertions.assertTrue(findAllByRecipient(sentUser.getEmail()).isEmpty());
+    Assertions.assertFalse(findAllByRecipient(pendingUser.getEmail()).isEmpty());
+  }
+
+  @Test
+  void failedEmailIsRetriedLater() {
+    var userDto = UserUtils.createUserDto(false);
+    emailOutboxService.enqueue(createEmailRequest(userDto));
+
+    var sent =
+        emailOutboxService.dispatch(
+            emailRequest -> {
+              throw new MailSendException("Mail server unavailable");
+            });
+    Assertions.assertEquals(0, sent);
+
+    var email = findByRecipient(userDto.getEmail());
+    Assertions.assertEquals(EmailStatus.PENDING, email.getStatus());
+    Assertions.assertEquals(1, email.getAttempts());
+    Assertions.assertEquals("Mail server unavailable", email.getLastError());
+    Assertions.assertTrue(email.getNextAttemptAt().isAfter(LocalDateTime.now()));
+
+    // The email is not due again until its backoff has passed.
+    emailOutboxService.dispatch(emailService::sendHtmlEmail);
+    Assertions.assertEquals(0, getReceivedMessages(userDto).size());
+  }
+
+  @Test
+  void deadLetterIsSentAfterRetry() {
+    var userDto = UserUtils.createUserDto(false);
+    emailOutboxService.enqueue(createEmailRequest(userDto));
+    var email = findByRecipient(userDto.getEmail());
+    email.setStatus(EmailStatus.DEAD);
+    emailOutboxRepository.save(email);
+
+    Assertions.assertTrue(
+        emailOutboxService.findDeadLetters(Pageable.unpaged())
+            .stream()
+            .anyMatch(deadLetter -> deadLetter.getPublicId().equals(email.getPublicId())));
+    Assertions.assertTrue(emailOutboxService.retry(email.getPublicId()));
+    Assertions.assertFalse(emailOutboxService.retry(email.getPublicId()));
+
+    emailOutboxService.dispatch(emailService::sendHtmlEmail);
+    Assertions.assertEquals(1, getReceivedMessages(userDto).size());
+  }
+
+  /**
+   * The messages received by the user, other tests may leave emails in the outbox.
+   *
+   * @param userDto the user
+   * @return the messages
+   */
+  private List<MimeMessage> getReceivedMessages(final UserDto userDto) {
+    return Arrays.stream(greenMail.getReceivedMessages())
+        .filter(
+            message -> {
+              try {
+                return message.getRecipients(RecipientType.TO)[0]
+                    .toString()
+                    .contains(userDto.getEmail());
+              } catch (MessagingException e) {
+                throw new IllegalStateException(e);
+              }
+            })
+        .toList();
+  }
+
+  private EmailOutbox findByRecipient(final String recipient) {
+    return findAllByRecipient(recipient).stream().findFirst().orElseThrow();
+  }
+
+  private List<EmailOutbox> findAllByRecipient(final String recipient) {
+    return emailOutboxRepository.findAll().stream()
+        .filter(email -> email.getRecipient().equals(recipient))
+        .toList();
+  }
+
+  private void ageEmails(final Duration age) {
+    jdbcTemplate.update(
+        "update email_outbox set updated_at = ?", LocalDateTime.now().minus(age));
+  }
+
+  private HtmlEmailRequest createEmailRequest(final UserDto userDto) {
+    var emailRequest = new HtmlEmailRequest();
+    emailRequest.setUrls(WebUtils.getDefaultEmailUrls());
+    emailRequest.setReceiver(userDto);
+    emailRequest.setSubject(EmailConstants.CONFIRMATION_SUCCESS_EMAIL_SUBJECT);
+    emailRequest.setTemplate(EmailConstants.EMAIL_WELCOME_TEMPLATE);
+
+    return AbstractEmailServiceImpl.prepareEmailRequest(emailRequest);
+  }
+}
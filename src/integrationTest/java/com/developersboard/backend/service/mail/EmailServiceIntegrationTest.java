@@ -14,6 +14,7 @@ import jakarta.mail.internet.MimeMultipart;
 import java.io.File;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -123,6 +124,29 @@ class EmailServiceIntegrationTest extends IntegrationTestUtils {
     assertEmailResponse(false, 2);
   }
 
+  @Test
+  void sendHtmlEmails() {
+    var emailRequests =
+        Stream.generate(() -> UserUtils.createUserDto(false))
+            .limit(3)
+            .map(
+                userDto -> {
+                  var emailRequest = new HtmlEmailRequest();
+                  emailRequest.setUrls(WebUtils.getDefaultEmailUrls());
+                  emailRequest.setSubject(subject);
+                  emailRequest.setReceiver(userDto);
+                  emailRequest.setTo(userDto.getEmail());
+                  emailRequest.setTemplate(EmailConstants.EMAIL_WELCOME_TEMPLATE);
+                  return emailRequest;
+                })
+            .toList();
+    recipient = emailRequests.getFirst().getTo();
+
+    emailService.sendHtmlEmails(emailRequests);
+
+    assertEmailResponse(false, emailRequests.size());
+  }
+
   @Test
   void sendHtmlEmailWithInvalidAttachmentThrowsException() {
     var file = new File(StringUtils.EMPTY);
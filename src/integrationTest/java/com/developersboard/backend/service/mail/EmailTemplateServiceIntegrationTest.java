@@ -0,0 +1,79 @@
+package com.developersboard.backend.service.mail;
+
+import com.developersboard.IntegrationTestUtils;
+import com.developersboard.constant.EmailConstants;
+import com.developersboard.constant.user.UserConstants;
+import com.developersboard.shared.util.core.WebUtils;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+@Slf4j
+class EmailTemplateServiceIntegrationTest extends IntegrationTestUtils {
+
+  private static final int BENCHMARK_EMAILS = 2_000;
+
+  @Autowired private transient EmailTemplateService emailTemplateService;
+
+  @Autowired private transient TemplateEngine templateEngine;
+
+  @Test
+  void rendersLikeTheTemplateEngine() {
+    var urls = createUrls(0);
+
+    Assertions.assertEquals(
+        process(EmailConstants.EMAIL_VERIFY_TEMPLATE, urls),
+        emailTemplateService.render(EmailConstants.EMAIL_VERIFY_TEMPLATE, urls));
+  }
+
+  /**
+   * Compares rendering each email with the template engine to rendering it from the compiled
+   * template. The timings depend on the machine, so they are only logged.
+   */
+  @Test
+  void compiledTemplateThroughput() {
+    var template = EmailConstants.EMAIL_VERIFY_TEMPLATE;
+
+    var processedPerSecond = measureThroughput(i -> process(template, createUrls(i)));
+    var compiledPerSecond =
+        measureThroughput(i -> emailTemplateService.render(template, createUrls(i)));
+    log.info(
+        "Rendered {} emails, {} emails/s with the template engine and {} emails/s compiled",
+        BENCHMARK_EMAILS,
+        Math.round(processedPerSecond),
+        Math.round(compiledPerSecond));
+
+    Assertions.assertTrue(
+        emailTemplateService.render(template, createUrls(1)).contains("user1"));
+  }
+
+  private double measureThroughput(final IntFunction<String> renderer) {
+    var length = 0L;
+    var start = System.nanoTime();
+    for (int i = 0; i < BENCHMARK_EMAILS; i++) {
+      length += renderer.apply(i).length();
+    }
+    var elapsed = Duration.ofNanos(System.nanoTime() - start);
+    Assertions.assertTrue(length > 0);
+    return BENCHMARK_EMAILS * 1000.0 / Math.max(1, elapsed.toMillis());
+  }
+
+  private String process(final String template, final Map<String, String> urls) {
+    var context = new Context();
+    context.setVariable(EmailConstants.URLS, urls);
+    return templateEngine.process(template, context);
+  }
+
+  private static Map<String, String> createUrls(final int index) {
+    var urls = WebUtils.getDefaultEmailUrls();
+    urls.put(UserConstants.USERNAME, "user" + index);
+    urls.put(EmailConstants.EMAIL_LINK, WebUtils.getGenericUri("/verify", "token" + index));
+    return urls;
+  }
+}
@@ -0,0 +1,121 @@
+package com.developersboard.backend.service.mail;
+
+import com.developersboard.IntegrationTestUtils;
+import com.developersboard.backend.service.mail.impl.PooledJavaMailSender;
+import java.time.Duration;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+@Slf4j
+class PooledJavaMailSenderIntegrationTest extends IntegrationTestUtils {
+
+  private static final int BENCHMARK_MESSAGES = 200;
+
+  private transient PooledJavaMailSender mailSender;
+
+  @BeforeEach
+  void setUp() {
+    greenMail.start();
+    mailSender = createMailSender(2, 10, Duration.ofSeconds(30));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mailSender.destroy();
+    greenMail.stop();
+  }
+
+  @Test
+  void consecutiveSendsShareOneConnection() {
+    mailSender.send(createMessage());
+    mailSender.send(createMessage());
+    mailSender.send(createMessage());
+
+    Assertions.assertEquals(3, greenMail.getReceivedMessages().length);
+    Assertions.assertEquals(1, mailSender.getConnectionsOpened());
+    Assertions.assertEquals(1, mailSender.getIdleConnections());
+  }
+
+  @Test
+  void connectionIsReplacedAfterMaxMessages() {
+    var messages = IntStream.range(0, 25).mapToObj(i -> createMessage());
+
+    mailSender.send(messages.toArray(SimpleMailMessage[]::new));
+
+    Assertions.assertEquals(25, greenMail.getReceivedMessages().length);
+    Assertions.assertEquals(3, mailSender.getConnectionsOpened());
+  }
+
+  @Test
+  void idleConnectionIsEvicted() {
+    var evictingMailSender = createMailSender(2, 10, Duration.ZERO);
+    try {
+      evictingMailSender.send(createMessage());
+      evictingMailSender.send(createMessage());
+
+      Assertions.assertEquals(2, greenMail.getReceivedMessages().length);
+      Assertions.assertEquals(2, evictingMailSender.getConnectionsOpened());
+    } finally {
+      evictingMailSender.destroy();
+    }
+  }
+
+  /**
+   * Compares the throughput of sending messages one at a time with and without the pool. The
+   * timings depend on the machine, so they are only logged.
+   */
+  @Test
+  void pooledSenderThroughput() {
+    var plainMailSender = new JavaMailSenderImpl();
+    plainMailSender.setHost(greenMail.getSmtp().getBindTo());
+    plainMailSender.setPort(greenMail.getSmtp().getPort());
+
+    var plainMessagesPerSecond = measureThroughput(plainMailSender);
+    var pooledMailSender = createMailSender(1, BENCHMARK_MESSAGES, Duration.ofSeconds(30));
+    try {
+      var pooledMessagesPerSecond = measureThroughput(pooledMailSender);
+      log.info(
+          "Sent {} messages one at a time, {} msg/s without pool and {} msg/s with pool",
+          BENCHMARK_MESSAGES,
+          Math.round(plainMessagesPerSecond),
+          Math.round(pooledMessagesPerSecond));
+
+      Assertions.assertEquals(1, pooledMailSender.getConnectionsOpened());
+      Assertions.assertEquals(2 * BENCHMARK_MESSAGES, greenMail.getReceivedMessages().length);
+    } finally {
+      pooledMailSender.destroy();
+    }
+  }
+
+  private double measureThroughput(final JavaMailSenderImpl sender) {
+    var start = System.nanoTime();
+    for (int i = 0; i < BENCHMARK_MESSAGES; i++) {
+      sender.send(createMessage());
+    }
+    var elapsed = Duration.ofNanos(System.nanoTime() - start);
+    return BENCHMARK_MESSAGES * 1000.0 / Math.max(1, elapsed.toMillis());
+  }
+
+  private PooledJavaMailSender createMailSender(
+      final int maxConnections, final int maxMessagesPerConnection, final Duration idleTimeout) {
+    var sender = new PooledJavaMailSender(maxConnections, maxMessagesPerConnection, idleTimeout);
+    sender.setHost(greenMail.getSmtp().getBindTo());
+    sender.setPort(greenMail.getSmtp().getPort());
+    return sender;
+  }
+
+  private static SimpleMailMessage createMessage() {
+    var message = new SimpleMailMessage();
+    message.setTo(FAKER.internet().emailAddress());
+    message.setFrom(FAKER.internet().emailAddress());
+    message.setSubject(FAKER.lorem().sentence());
+    message.setText(FAKER.lorem().paragraph());
+    return message;
+  }
+}
@@ -0,0 +1,49 @@
+package com.developersboard.backend.service.security;
+
+import com.developersboard.IntegrationTestUtils;
+import com.developersboard.backend.persistent.domain.user.User;
+import com.developersboard.shared.util.UserUtils;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class LoginEventServiceIntegrationTest extends IntegrationTestUtils {
+
+  @Autowired private transient LoginEventService loginEventService;
+  @Autowired private transient EntityManagerFactory entityManagerFactory;
+
+  @Test
+  void flushWritesLoginOutcomesToTheUser() {
+    var userDto = createAndAssertUser(UserUtils.createUserDto(false));
+
+    loginEventService.recordLoginFailure(userDto.getUsername(), 2);
+    loginEventService.flush();
+    var user = userRepository.findByUsername(userDto.getUsername());
+    Assertions.assertEquals(2, user.getFailedLoginAttempts());
+    Assertions.assertNull(user.getLastSuccessfulLogin());
+
+    var version = user.getVersion();
+    loginEventService.recordLoginSuccess(userDto.getUsername());
+    loginEventService.flush();
+    user = userRepository.findByUsername(userDto.getUsername());
+    Assertions.assertEquals(0, user.getFailedLoginAttempts());
+    Assertions.assertNotNull(user.getLastSuccessfulLogin());
+    Assertions.assertNotEquals(version, user.getVersion());
+  }
+
+  @Test
+  void flushKeepsTheOtherUsersInTheSecondLevelCache() {
+    var userDto = createAndAssertUser(UserUtils.createUserDto(false));
+    var otherUserDto = createAndAssertUser(UserUtils.createUserDto(false));
+    var cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    userRepository.findById(otherUserDto.getId());
+    Assertions.assertTrue(cache.containsEntity(User.class, otherUserDto.getId()));
+
+    loginEventService.recordLoginSuccess(userDto.getUsername());
+    loginEventService.flush();
+
+    Assertions.assertTrue(cache.containsEntity(User.class, otherUserDto.getId()));
+  }
+}
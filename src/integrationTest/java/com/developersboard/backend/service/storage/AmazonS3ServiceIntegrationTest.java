@@ -4,10 +4,7 @@ import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.developersboard.IntegrationTestUtils;
 import com.developersboard.constant.StorageConstants;
 import com.developersboard.exception.InvalidFileFormatException;
-import com.developersboard.shared.util.core.FileUtils;
 import io.findify.s3mock.S3Mock;
-import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLEncoder;
@@ -19,7 +16,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
-import org.mockito.Mockito;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.web.MockMultipartFile;
 
 @Disabled("S3 Mocking needs to be refactored to use v2 AWS. S3Mock won't support v2")
 class AmazonS3ServiceIntegrationTest extends IntegrationTestUtils {
@@ -72,23 +70,18 @@ class AmazonS3ServiceIntegrationTest extends IntegrationTestUtils {
   void storeFileWithImageShouldGetResized(TestInfo testInfo)
       throws IOException, InterruptedException {
 
-    try (var mockedImageIo = Mockito.mockStatic(ImageIO.class)) {
+    var content = new ClassPathResource("/profileImage.jpeg").getContentAsByteArray();
+    var filename = testInfo.getDisplayName();
+    var image = new MockMultipartFile(filename, "profileImage.png", "image/png", content);
 
-      mockedImageIo
-          .when(() -> ImageIO.read(Mockito.any(File.class)))
-          .thenReturn(new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB));
+    var expectedUrl = String.format("%s/%s.png", filename, filename);
+    var imageUrl = amazonS3Service.storeFile(image, filename, filename);
 
-      try (var mockedFileUtils = Mockito.mockStatic(FileUtils.class)) {
-        mockedFileUtils.when(() -> FileUtils.resize600(Mockito.any(File.class))).thenReturn(null);
-
-        var filename = testInfo.getDisplayName();
-        var expectedUrl = String.format("%s/%s.png", filename, filename);
-        var imageUrl = amazonS3Service.storeFile(multipartFile, filename, filename);
-
-        Assertions.assertEquals(expectedUrl, imageUrl);
-        mockedFileUtils.verify(() -> FileUtils.resize600(Mockito.any(File.class)));
-      }
-      mockedImageIo.verify(() -> ImageIO.read(Mockito.any(File.class)));
+    Assertions.assertEquals(expectedUrl, imageUrl);
+    try (InputStream storedImage = amazonS3Service.getFile(imageUrl)) {
+      var resizedImage = ImageIO.read(storedImage);
+      Assertions.assertEquals(600, resizedImage.getWidth());
+      Assertions.assertEquals(600, resizedImage.getHeight());
     }
   }
 
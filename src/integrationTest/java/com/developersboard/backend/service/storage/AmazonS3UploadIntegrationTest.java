@@ -0,0 +1,129 @@
+package com.developersboard.backend.service.storage;
+
+import com.developersboard.IntegrationTestUtils;
+import com.developersboard.backend.service.storage.impl.AmazonS3ServiceImpl;
+import com.developersboard.config.properties.AwsProperties;
+import io.findify.s3mock.S3Mock;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.web.MockMultipartFile;
+import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
+import software.amazon.awssdk.core.checksums.ResponseChecksumValidation;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/** Uploads to the in memory S3 mock through a real S3 client, counting the requests it makes. */
+class AmazonS3UploadIntegrationTest extends IntegrationTestUtils {
+
+  private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+
+  @Autowired private transient ImageService imageService;
+
+  private transient S3Mock api;
+  private transient S3Client s3Client;
+  private transient AwsProperties properties;
+  private transient AmazonS3Service s3Service;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    int port;
+    try (var socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+    api = new S3Mock.Builder().withPort(port).withInMemoryBackend().build();
+    api.start();
+
+    s3Client =
+        S3Client.builder()
+            .region(Region.US_EAST_1)
+            .endpointOverride(URI.create("http://localhost:" + port))
+            .credentialsProvider(AnonymousCredentialsProvider.create())
+            .serviceConfiguration(
+                S3Configuration.builder()
+                    .pathStyleAccessEnabled(true)
+                    .chunkedEncodingEnabled(false)
+                    .build())
+            .requestChecksumCalculation(RequestChecksumCalculation.WHEN_REQUIRED)
+            .responseChecksumValidation(ResponseChecksumValidation.WHEN_REQUIRED)
+            .overrideConfiguration(
+                ClientOverrideConfiguration.builder()
+                    .addExecutionInterceptor(new RequestCounter())
+                    .build())
+            .build();
+
+    properties = new AwsProperties();
+    properties.setS3BucketName("uploads");
+    var s3Presigner = S3Presigner.builder().region(Region.US_EAST_1).build();
+    s3Service = new AmazonS3ServiceImpl(s3Client, s3Presigner, properties, imageService);
+  }
+
+  @AfterEach
+  void tearDown() {
+    s3Client.close();
+    api.shutdown();
+  }
+
+  @Test
+  void bucketIsCreatedOnceForConsecutiveUploads(TestInfo testInfo) throws Exception {
+    var file = getMultipartFile(testInfo.getDisplayName());
+
+    for (int i = 0; i < 3; i++) {
+      s3Service.storeFile(file, "files", "file" + i);
+    }
+
+    Assertions.assertEquals(1, count("HeadBucket"));
+    Assertions.assertEquals(1, count("CreateBucket"));
+    Assertions.assertEquals(0, count("GetBucketLocation"));
+    Assertions.assertEquals(3, count("PutObject"));
+    Assertions.assertEquals(3, s3Service.getFiles("files").size());
+  }
+
+  @Test
+  void storeProfileImageIsResized(TestInfo testInfo) throws Exception {
+    var content = new ClassPathResource("/profileImage.jpeg").getContentAsByteArray();
+    var file =
+        new MockMultipartFile(testInfo.getDisplayName(), "profile.jpeg", "image/jpeg", content);
+
+    var key = s3Service.storeProfileImage(file, "user");
+
+    try (var inputStream = s3Service.getFile(key)) {
+      var image = ImageIO.read(inputStream);
+      Assertions.assertEquals(600, image.getWidth());
+      Assertions.assertEquals(600, image.getHeight());
+    }
+  }
+
+  private int count(final String operation) {
+    return requests.getOrDefault(operation, new AtomicInteger()).get();
+  }
+
+  private final class RequestCounter implements ExecutionInterceptor {
+
+    @Override
+    public void beforeExecution(
+        final Context.BeforeExecution context, final ExecutionAttributes executionAttributes) {
+      var operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+      requests.computeIfAbsent(operation, key -> new AtomicInteger()).incrementAndGet();
+    }
+  }
+}
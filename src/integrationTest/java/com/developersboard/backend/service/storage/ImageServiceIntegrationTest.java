@@ -0,0 +1,106 @@
+package com.developersboard.backend.service.storage;
+
+import com.developersboard.IntegrationTestUtils;
+import com.developersboard.enums.ImageVariant;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import javax.imageio.ImageIO;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+
+@Slf4j
+class ImageServiceIntegrationTest extends IntegrationTestUtils {
+
+  private static final int BENCHMARK_ROUNDS = 5;
+
+  @Autowired private transient ImageService imageService;
+
+  /**
+   * Compares the previous single step resize, which decoded the whole image and stretched it to
+   * 600x600, to the image service. The timings depend on the machine, so they are only logged.
+   */
+  @Test
+  void resizeThroughput() throws Exception {
+    var images =
+        List.of(
+            new ClassPathResource("/profileImage.jpeg").getContentAsByteArray(),
+            createImage(1024, 768),
+            createImage(4000, 3000),
+            createImage(1080, 4000));
+
+    var singleStepElapsed = measure(images, ImageServiceIntegrationTest::resizeInOneStep);
+    var serviceElapsed =
+        measure(
+            images,
+            image ->
+                imageService
+                    .resize(new ByteArrayInputStream(image), "jpg", Set.of(ImageVariant.MEDIUM))
+                    .get(ImageVariant.MEDIUM));
+    log.info(
+        "Resized {} images in {} ms in one step and in {} ms with the image service",
+        images.size() * BENCHMARK_ROUNDS,
+        singleStepElapsed.toMillis(),
+        serviceElapsed.toMillis());
+
+    var resizedImage =
+        imageService.resize(
+            new ByteArrayInputStream(images.get(2)), "jpg", Set.of(ImageVariant.MEDIUM));
+    var decodedImage =
+        ImageIO.read(new ByteArrayInputStream(resizedImage.get(ImageVariant.MEDIUM)));
+    Assertions.assertEquals(600, decodedImage.getWidth());
+    Assertions.assertEquals(600, decodedImage.getHeight());
+  }
+
+  private Duration measure(final List<byte[]> images, final Resizer resizer) throws Exception {
+    var length = 0L;
+    var start = System.nanoTime();
+    for (int round = 0; round < BENCHMARK_ROUNDS; round++) {
+      for (byte[] image : images) {
+        length += resizer.resize(image).length;
+      }
+    }
+    var elapsed = Duration.ofNanos(System.nanoTime() - start);
+    Assertions.assertTrue(length > 0);
+    return elapsed;
+  }
+
+  private static byte[] resizeInOneStep(final byte[] image) throws IOException {
+    var originalImage = ImageIO.read(new ByteArrayInputStream(image));
+    var resizedImage = new BufferedImage(600, 600, BufferedImage.TYPE_INT_RGB);
+    var graphics = resizedImage.createGraphics();
+    graphics.drawImage(originalImage, 0, 0, 600, 600, null);
+    graphics.dispose();
+
+    var outputStream = new ByteArrayOutputStream();
+    ImageIO.write(resizedImage, "jpg", outputStream);
+    return outputStream.toByteArray();
+  }
+
+  private static byte[] createImage(final int width, final int height) throws IOException {
+    var image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    var graphics = image.createGraphics();
+    for (int i = 0; i < 20; i++) {
+      graphics.setColor(new Color(i * 12, 255 - i * 12, (i * 37) % 256));
+      graphics.fillOval(i * width / 20, i * height / 20, width / 4, height / 4);
+    }
+    graphics.dispose();
+
+    var outputStream = new ByteArrayOutputStream();
+    ImageIO.write(image, "jpg", outputStream);
+    return outputStream.toByteArray();
+  }
+
+  @FunctionalInterface
+  private interface Resizer {
+    byte[] resize(byte[] image) throws Exception;
+  }
+}
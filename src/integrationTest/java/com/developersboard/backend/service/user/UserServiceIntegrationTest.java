@@ -8,8 +8,11 @@ import com.developersboard.backend.service.impl.UserDetailsBuilder;
 import com.developersboard.enums.RoleType;
 import com.developersboard.enums.UserHistoryType;
 import com.developersboard.exception.user.UserAlreadyExistsException;
-import com.developersboard.shared.dto.UserDto;
 import com.developersboard.shared.util.UserUtils;
+import com.developersboard.web.payload.request.UserExportRequest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -99,6 +102,63 @@ class UserServiceIntegrationTest extends IntegrationTestUtils {
     Assertions.assertTrue(userRepository.count() >= users.getData().size());
   }
 
+  @Test
+  void findUsersAfterEachPage() {
+    for (int i = 0; i < 3; i++) {
+      createAndAssertUser(UserUtils.createUserDto(true));
+    }
+
+    List<String> publicIds = new ArrayList<>();
+    String after = null;
+    do {
+      var page = userService.findUsers(after, 2, false);
+      Assertions.assertTrue(page.getUsers().size() <= 2);
+      Assertions.assertNull(page.getEstimatedTotal());
+      page.getUsers().forEach(user -> publicIds.add(user.getPublicId()));
+      after = page.getNext();
+    } while (Objects.nonNull(after));
+
+    Assertions.assertEquals(userRepository.count(), publicIds.size());
+    Assertions.assertEquals(publicIds.size(), new HashSet<>(publicIds).size());
+  }
+
+  @Test
+  void findUsersWithEstimatedTotal() {
+    createAndAssertUser(UserUtils.createUserDto(true));
+
+    var page = userService.findUsers(null, 1, true);
+
+    Assertions.assertEquals(1, page.getUsers().size());
+    Assertions.assertNotNull(page.getNext());
+    Assertions.assertTrue(page.getEstimatedTotal() >= 1);
+  }
+
+  @Test
+  void exportUsersMatchingTheFilters() {
+    var enabledUser = createAndAssertUser(UserUtils.createUserDto(true));
+    var notEnabledUser = createAndAssertUser(UserUtils.createUserDto(false));
+    var admin = createAndAssertAdmin(UserUtils.createUserDto(true));
+
+    var notEnabled = new UserExportRequest();
+    notEnabled.setEnabled(false);
+    var notEnabledIds = exportPublicIds(notEnabled);
+    Assertions.assertTrue(notEnabledIds.contains(notEnabledUser.getPublicId()));
+    Assertions.assertFalse(notEnabledIds.contains(enabledUser.getPublicId()));
+
+    var admins = new UserExportRequest();
+    admins.setRole(RoleType.ROLE_ADMIN);
+    var adminIds = exportPublicIds(admins);
+    Assertions.assertTrue(adminIds.contains(admin.getPublicId()));
+    Assertions.assertFalse(adminIds.contains(enabledUser.getPublicId()));
+
+    var createdInTheFuture = new UserExportRequest();
+    createdInTheFuture.setCreatedFrom(LocalDateTime.now().plusYears(100));
+    Assertions.assertTrue(exportPublicIds(createdInTheFuture).isEmpty());
+
+    var allIds = exportPublicIds(new UserExportRequest());
+    Assertions.assertEquals(userRepository.count(), allIds.size());
+  }
+
   /** Test checks that an existing user can be retrieved using the username provided. */
   @Test
   void getUserByUsername(TestInfo testInfo) {
@@ -169,15 +229,6 @@ class UserServiceIntegrationTest extends IntegrationTestUtils {
     Assertions.assertEquals(userHistoryDtos.get(0).getUserHistoryType(), UserHistoryType.CREATED);
   }
 
-  @Test
-  void findAllNotEnabledAfterCreationDays(TestInfo testInfo) {
-    var userDto = createAndAssertUser(testInfo.getDisplayName(), false);
-
-    List<UserDto> users = userService.findAllNotEnabledAfterAllowedDays();
-    // User was just created and should not be returned to be deleted.
-    Assertions.assertFalse(users.contains(userDto));
-  }
-
   @Test
   void getUserDetails(TestInfo testInfo) {
     var userDto = createAndAssertUser(testInfo.getDisplayName(), false);
@@ -315,4 +366,13 @@ class UserServiceIntegrationTest extends IntegrationTestUtils {
     userService.deleteUser(userDto.getPublicId());
     Assertions.assertFalse(userService.existsByUsername(userDto.getUsername()));
   }
+
+  private List<String> exportPublicIds(UserExportRequest userExportRequest) {
+    List<String> publicIds = new ArrayList<>();
+    var exported =
+        userService.exportUsers(userExportRequest, user -> publicIds.add(user.getPublicId()));
+
+    Assertions.assertEquals(publicIds.size(), exported);
+    return publicIds;
+  }
 }
@@ -3,11 +3,14 @@ package com.developersboard.task;
 import com.developersboard.IntegrationTestUtils;
 import com.developersboard.shared.dto.UserDto;
 import com.developersboard.shared.util.UserUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,7 +25,7 @@ class UserPruningSchedulerIntegrationTest extends IntegrationTestUtils {
   }
 
   @Test
-  void findAllNotEnabledAfterAllowedDays() {
+  void pruneUsersDeletesUsersNotEnabledAfterAllowedDays() {
     // Create a fixed clock to 60 days back in time.
     var instantExpected = LocalDateTime.now().minusDays(60).toInstant(ZoneOffset.UTC).toString();
     var fixedClock = Clock.fixed(Instant.parse(instantExpected), ZoneId.systemDefault());
@@ -32,14 +35,32 @@ class UserPruningSchedulerIntegrationTest extends IntegrationTestUtils {
 
     UserDto userDto = createAndAssertUser(UserUtils.createUserDto(false));
 
-    var users = userService.findAllNotEnabledAfterAllowedDays();
-    Assertions.assertFalse(users.isEmpty());
-    Assertions.assertTrue(users.contains(userDto));
-
     // Pruning should remove the user
     userPruningScheduler.pruneUsers();
 
     // Assert that the user is no longer in the database
     Assertions.assertFalse(userService.existsByUsername(userDto.getUsername()));
   }
+
+  @Test
+  void pruneUsersInChunksKeepsEnabledUsers() {
+    var instantExpected = LocalDateTime.now().minusDays(60).toInstant(ZoneOffset.UTC).toString();
+    var fixedClock = Clock.fixed(Instant.parse(instantExpected), ZoneId.systemDefault());
+    Mockito.when(dateTimeProvider.getNow()).thenReturn(Optional.of(LocalDateTime.now(fixedClock)));
+
+    var notEnabledUsers =
+        List.of(
+            createAndAssertUser(UserUtils.createUserDto(false)),
+            createAndAssertUser(UserUtils.createUserDto(false)),
+            createAndAssertUser(UserUtils.createUserDto(false)));
+    var enabledUser = createAndAssertUser(UserUtils.createUserDto(true));
+
+    // A chunk size of one walks every user in its own chunk.
+    new UserPruningScheduler(userService, new SimpleMeterRegistry(), 1, Duration.ZERO)
+        .pruneUsers();
+
+    notEnabledUsers.forEach(
+        userDto -> Assertions.assertFalse(userService.existsByUsername(userDto.getUsername())));
+    Assertions.assertTrue(userService.existsByUsername(enabledUser.getUsername()));
+  }
 }
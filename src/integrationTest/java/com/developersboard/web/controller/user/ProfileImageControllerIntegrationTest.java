@@ -0,0 +1,24 @@
+package com.developersboard.web.controller.user;
+
+import com.developersboard.IntegrationTestUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+class ProfileImageControllerIntegrationTest extends IntegrationTestUtils {
+
+  @Test
+  void profileImageRedirectsAnonymousClientsToTheLogin() throws Exception {
+    mockMvc
+        .perform(MockMvcRequestBuilders.get("/images/profileImages/user/profileImage.png"))
+        .andExpect(MockMvcResultMatchers.status().is3xxRedirection())
+        .andExpect(MockMvcResultMatchers.redirectedUrlPattern("**/login"));
+  }
+
+  @Test
+  void staticImagesRemainPublic() throws Exception {
+    mockMvc
+        .perform(MockMvcRequestBuilders.get("/images/bg.png"))
+        .andExpect(MockMvcResultMatchers.status().isOk());
+  }
+}
@@ -0,0 +1,88 @@
+package com.developersboard.web.rest.v1;
+
+import static org.hamcrest.Matchers.hasItem;
+
+import com.developersboard.IntegrationTestUtils;
+import com.developersboard.backend.persistent.domain.mail.EmailOutbox;
+import com.developersboard.backend.persistent.repository.EmailOutboxRepository;
+import com.developersboard.constant.AdminConstants;
+import com.developersboard.constant.EmailConstants;
+import com.developersboard.enums.EmailStatus;
+import com.developersboard.enums.OperationStatus;
+import com.developersboard.enums.RoleType;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+class EmailRestApiIntegrationTest extends IntegrationTestUtils {
+
+  private static final String DEAD_LETTERS_URL =
+      AdminConstants.API_V1_EMAILS_ROOT_URL + "/dead-letters";
+
+  @Autowired private transient EmailOutboxRepository emailOutboxRepository;
+
+  @Test
+  void getDeadLettersWithoutAuthorization() throws Exception {
+    mockMvc
+        .perform(MockMvcRequestBuilders.get(DEAD_LETTERS_URL))
+        .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+  }
+
+  @Test
+  void getDeadLettersWithAuthorization() throws Exception {
+    var deadLetter = createDeadLetter();
+
+    mockMvc
+        .perform(MockMvcRequestBuilders.get(DEAD_LETTERS_URL).with(admin()))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(
+            MockMvcResultMatchers.jsonPath("$.content[*].publicId")
+                .value(hasItem(deadLetter.getPublicId())));
+  }
+
+  @Test
+  void retryDeadLetterWithAuthorization() throws Exception {
+    var deadLetter = createDeadLetter();
+    var retryUrl = String.format("%s/%s/retry", DEAD_LETTERS_URL, deadLetter.getPublicId());
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.put(retryUrl)
+                .with(admin())
+                .with(SecurityMockMvcRequestPostProcessors.csrf()))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$").value(OperationStatus.SUCCESS.name()));
+
+    // The email is no longer a dead letter, so a second retry has nothing to do.
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.put(retryUrl)
+                .with(admin())
+                .with(SecurityMockMvcRequestPostProcessors.csrf()))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$").value(OperationStatus.FAILURE.name()));
+  }
+
+  private EmailOutbox createDeadLetter() {
+    var email = new EmailOutbox();
+    email.setPublicId(UUID.randomUUID().toString());
+    email.setRecipient(FAKER.internet().emailAddress());
+    email.setTemplate(EmailConstants.EMAIL_WELCOME_TEMPLATE);
+    email.setStatus(EmailStatus.DEAD);
+    email.setAttempts(1);
+    email.setNextAttemptAt(LocalDateTime.now());
+    email.setLastError("Mail server unavailable");
+
+    return emailOutboxRepository.save(email);
+  }
+
+  private static RequestPostProcessor admin() {
+    return SecurityMockMvcRequestPostProcessors.user(FAKER.credentials().username())
+        .roles(RoleType.ROLE_ADMIN.name().replace("ROLE_", ""));
+  }
+}
@@ -1,6 +1,8 @@
 package com.developersboard.web.rest.v1;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
 
 import com.developersboard.IntegrationTestUtils;
 import com.developersboard.TestUtils;
@@ -9,12 +11,14 @@ import com.developersboard.constant.SecurityConstants;
 import com.developersboard.constant.user.ProfileConstants;
 import com.developersboard.constant.user.UserConstants;
 import com.developersboard.enums.OperationStatus;
+import com.developersboard.enums.RoleType;
 import com.developersboard.enums.TokenType;
 import com.developersboard.shared.util.SignUpUtils;
 import com.developersboard.shared.util.UserUtils;
 import com.developersboard.web.payload.request.LoginRequest;
 import com.developersboard.web.payload.response.JwtResponseBuilder;
 import com.icegreen.greenmail.util.GreenMailUtil;
+import com.jayway.jsonpath.JsonPath;
 import jakarta.servlet.http.Cookie;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
@@ -96,6 +100,87 @@ class UserRestApiIntegrationTest extends IntegrationTestUtils {
         .andExpect(MockMvcResultMatchers.jsonPath("$.content").value(hasSize(1)));
   }
 
+  @Test
+  void scrollUsersWithAuthorization() throws Exception {
+    createAndAssertUser(UserUtils.createUserDto(true));
+
+    var accessToken = getJwtResponse().getAccessToken();
+    var scrollUrl = AdminConstants.API_V1_USERS_ROOT_URL + "/scroll";
+
+    var firstPage =
+        performRequest(
+                MockMvcRequestBuilders.get(scrollUrl)
+                    .header(HttpHeaders.AUTHORIZATION, getBearerToken(accessToken))
+                    .param("size", "1")
+                    .param("estimateTotal", "true"))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.users").value(hasSize(1)))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.next").isString())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.estimatedTotal").isNumber())
+            .andReturn();
+
+    var next = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.next");
+    performRequest(
+            MockMvcRequestBuilders.get(scrollUrl)
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken(accessToken))
+                .param("after", next.toString())
+                .param("size", "1"))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.users[0].publicId").value(not(next)))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.estimatedTotal").value(nullValue()));
+  }
+
+  @Test
+  void exportUsersWithoutAuthorization() throws Exception {
+    performRequest(MockMvcRequestBuilders.get(AdminConstants.API_V1_USERS_ROOT_URL + "/export"))
+        .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+  }
+
+  @Test
+  void exportUsersAsJsonLinesWithAuthorization() throws Exception {
+    var userDto = createAndAssertUser(UserUtils.createUserDto(false));
+
+    var result =
+        performRequest(
+                MockMvcRequestBuilders.get(AdminConstants.API_V1_USERS_ROOT_URL + "/export")
+                    .header(HttpHeaders.AUTHORIZATION, getBearerToken(getAccessToken()))
+                    .accept(MediaType.APPLICATION_NDJSON)
+                    .param("enabled", "false"))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(
+                MockMvcResultMatchers.content()
+                    .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn();
+
+    var lines = result.getResponse().getContentAsString().lines().toList();
+    Assertions.assertTrue(
+        lines.stream()
+            .anyMatch(line -> JsonPath.read(line, "$.publicId").equals(userDto.getPublicId())));
+    Assertions.assertTrue(lines.stream().noneMatch(line -> JsonPath.read(line, "$.enabled")));
+  }
+
+  @Test
+  void exportUsersAsCsvWithAuthorization() throws Exception {
+    var userDto = createAndAssertUser(UserUtils.createUserDto(true));
+
+    var result =
+        performRequest(
+                MockMvcRequestBuilders.get(AdminConstants.API_V1_USERS_ROOT_URL + "/export")
+                    .header(HttpHeaders.AUTHORIZATION, getBearerToken(getAccessToken()))
+                    .accept(AdminConstants.TEXT_CSV)
+                    .param("role", RoleType.ROLE_USER.name()))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(
+                MockMvcResultMatchers.content().contentTypeCompatibleWith(AdminConstants.TEXT_CSV))
+            .andReturn();
+
+    var lines = result.getResponse().getContentAsString().lines().toList();
+    Assertions.assertEquals(
+        "publicId,username,firstName,lastName,email,phone,enabled", lines.getFirst());
+    Assertions.assertTrue(
+        lines.stream().anyMatch(line -> line.startsWith(userDto.getPublicId() + ",")));
+  }
+
   @Test
   void enableUserWithoutAuthorization() throws Exception {
     var publicId = UUID.randomUUID().toString();
@@ -280,6 +365,84 @@ class UserRestApiIntegrationTest extends IntegrationTestUtils {
         .andExpect(MockMvcResultMatchers.status().isUnauthorized());
   }
 
+  /** Importing users reports the rows that could not be created without failing the rest. */
+  @Test
+  void createUsersInBulkWithAuthorization() throws Exception {
+    // Endpoint: POST /api/v1/users/bulk
+    var existingUser = createAndAssertUser(UserUtils.createUserDto(true));
+    var username = "bulk" + StringUtils.left(UUID.randomUUID().toString(), 8);
+    var email = UUID.randomUUID() + FAKER.internet().emailAddress();
+
+    var csv =
+        String.join(
+            System.lineSeparator(),
+            "username,email,password,firstName",
+            String.join(",", username, email, "\"pass,word\"", "John"),
+            String.join(",", username, "copy." + email, "password", "John"),
+            String.join(",", existingUser.getUsername(), existingUser.getEmail(), "password"),
+            String.join(",", "", "not an email", "password"));
+
+    var bearerToken = getBearerToken(getJwtResponse().getAccessToken());
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.post(AdminConstants.API_V1_USERS_ROOT_URL + "/bulk")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .contentType(AdminConstants.TEXT_CSV_VALUE)
+                .content(csv))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.total").value(4))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.created").value(1))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.failed").value(3))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].row").value(2))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.errors[1].row").value(4))
+        .andExpect(
+            MockMvcResultMatchers.jsonPath("$.errors[0].message")
+                .value(UserConstants.DUPLICATE_IN_IMPORT))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.errors[2].row").value(3))
+        .andExpect(
+            MockMvcResultMatchers.jsonPath("$.errors[2].message")
+                .value(UserConstants.USERNAME_OR_EMAIL_EXISTS));
+
+    Assertions.assertTrue(userService.existsByUsernameOrEmailAndEnabled(username, email));
+  }
+
+  /** A row rejected as a duplicate does not keep a later row from using its other field. */
+  @Test
+  void createUsersInBulkAfterARejectedDuplicate() throws Exception {
+    // Endpoint: POST /api/v1/users/bulk
+    var username = "bulk" + StringUtils.left(UUID.randomUUID().toString(), 8);
+    var otherUsername = "bulk" + StringUtils.left(UUID.randomUUID().toString(), 8);
+    var email = UUID.randomUUID() + FAKER.internet().emailAddress();
+    var otherEmail = UUID.randomUUID() + FAKER.internet().emailAddress();
+
+    var csv =
+        String.join(
+            System.lineSeparator(),
+            "username,email,password",
+            String.join(",", username, email, "password"),
+            String.join(",", username, otherEmail, "password"),
+            String.join(",", otherUsername, otherEmail, "password"));
+
+    var bearerToken = getBearerToken(getJwtResponse().getAccessToken());
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.post(AdminConstants.API_V1_USERS_ROOT_URL + "/bulk")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .contentType(AdminConstants.TEXT_CSV_VALUE)
+                .content(csv))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.created").value(2))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.failed").value(1))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].row").value(2))
+        .andExpect(
+            MockMvcResultMatchers.jsonPath("$.errors[0].message")
+                .value(UserConstants.DUPLICATE_IN_IMPORT));
+
+    Assertions.assertTrue(userService.existsByUsernameOrEmailAndEnabled(otherUsername, otherEmail));
+  }
+
   /** Creating a user without SignUpRequest should fail. Should return 400 BadRequest. */
   @Test
   void createUserWithoutSignUpRequest() throws Exception {
@@ -369,6 +532,10 @@ class UserRestApiIntegrationTest extends IntegrationTestUtils {
     return TestUtils.parse(contentAsString, JwtResponseBuilder.class);
   }
 
+  private String getAccessToken() throws Exception {
+    return getJwtResponse().getAccessToken();
+  }
+
   /**
    * Constructs a bearer token from the given access token.
    *
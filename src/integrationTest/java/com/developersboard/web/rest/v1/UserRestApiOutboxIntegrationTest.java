@@ -0,0 +1,103 @@
+package com.developersboard.web.rest.v1;
+
+import com.developersboard.IntegrationTestUtils;
+import com.developersboard.backend.persistent.domain.mail.EmailOutbox;
+import com.developersboard.backend.persistent.repository.EmailOutboxRepository;
+import com.developersboard.backend.service.mail.EmailOutboxService;
+import com.developersboard.constant.AdminConstants;
+import com.developersboard.constant.EmailConstants;
+import com.developersboard.enums.EmailStatus;
+import com.developersboard.shared.util.SignUpUtils;
+import com.developersboard.web.payload.request.mail.HtmlEmailRequest;
+import jakarta.mail.Message.RecipientType;
+import jakarta.mail.MessagingException;
+import java.util.Arrays;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+/** Creates users through the REST API with the account emails going through the outbox. */
+@TestPropertySource(properties = {"mail.outbox.enabled=true", "mail.outbox.pollInterval=1h"})
+class UserRestApiOutboxIntegrationTest extends IntegrationTestUtils {
+
+  @Autowired private transient EmailOutboxRepository emailOutboxRepository;
+  @MockitoSpyBean private transient EmailOutboxService emailOutboxService;
+
+  @BeforeEach
+  void setUp() {
+    greenMail.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    greenMail.stop();
+  }
+
+  @Test
+  void createUserQueuesTheVerificationEmailWithTheUser() throws Exception {
+    var username = FAKER.credentials().username();
+    var email = FAKER.internet().emailAddress();
+
+    createAndAssertUser(username, email);
+
+    Assertions.assertTrue(userService.existsByUsername(username));
+    var verificationEmail = findByRecipient(email).orElseThrow();
+    Assertions.assertEquals(EmailStatus.PENDING, verificationEmail.getStatus());
+    Assertions.assertEquals(
+        EmailConstants.CONFIRMATION_PENDING_EMAIL_SUBJECT, verificationEmail.getSubject());
+
+    // Nothing is sent on the request thread, the workers send the queued email.
+    Assertions.assertEquals(0, countReceivedMessages(email));
+    emailOutboxService.dispatch(emailService::sendHtmlEmail);
+    Assertions.assertEquals(1, countReceivedMessages(email));
+  }
+
+  @Test
+  void createUserRollsBackWhenTheVerificationEmailCannotBeQueued() throws Exception {
+    var signUpRequest = SignUpUtils.createSignUpRequest();
+    Mockito.doThrow(new IllegalStateException("Outbox unavailable"))
+        .when(emailOutboxService)
+        .enqueue(ArgumentMatchers.any(HtmlEmailRequest.class));
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.post(AdminConstants.API_V1_USERS_ROOT_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(asJsonString(signUpRequest))
+                .with(SecurityMockMvcRequestPostProcessors.csrf()))
+        .andExpect(MockMvcResultMatchers.status().isConflict());
+
+    Assertions.assertFalse(userService.existsByUsername(signUpRequest.getUsername()));
+    Assertions.assertTrue(findByRecipient(signUpRequest.getEmail()).isEmpty());
+  }
+
+  private Optional<EmailOutbox> findByRecipient(final String recipient) {
+    return emailOutboxRepository.findAll().stream()
+        .filter(email -> email.getRecipient().equals(recipient))
+        .findFirst();
+  }
+
+  private long countReceivedMessages(final String recipient) {
+    return Arrays.stream(greenMail.getReceivedMessages())
+        .filter(
+            message -> {
+              try {
+                return message.getRecipients(RecipientType.TO)[0].toString().contains(recipient);
+              } catch (MessagingException e) {
+                throw new IllegalStateException(e);
+              }
+            })
+        .count();
+  }
+}
@@ -1,15 +1,31 @@
 package com.developersboard.annotation.impl;
 
 import com.developersboard.annotation.Loggable;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
  * Ensures that method calls can be logged with entry-exit logs in console or log file.
  *
+ * <p>Every call is timed with a Micrometer timer per method, published with percentiles. The entry
+ * and exit are only logged for a sample of the calls, and only if the level of the method is
+ * enabled, so that the arguments and the response are never formatted for nothing. The name, level
+ * and timers of a method are resolved on its first call and reused after that.
+ *
  * @author Eric Opoku
  * @version 1.0
  * @since 1.0
@@ -19,54 +35,125 @@ import org.springframework.stereotype.Component;
 @Component
 public class MethodLogger {
 
+  private static final String METRIC_METHOD = "loggable.method";
+  private static final String TAG_CLASS = "class";
+  private static final String TAG_METHOD = "method";
+  private static final String TAG_OUTCOME = "outcome";
+  private static final String STARTING_FORMAT = "=> Starting -  {} args: {}";
+  private static final String FINISHING_FORMAT = "<= {} : {} - Finished, duration: {} ms";
+  private static final String FAILING_FORMAT = "<= {} : {} - Failed, duration: {} ms";
+  private static final String IGNORED_RESPONSE = "{...}";
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final MeterRegistry meterRegistry;
+  private final double sampleRate;
+  private final double[] percentiles;
+
+  private final Map<Method, LoggedMethod> loggedMethods = new ConcurrentHashMap<>();
+
+  public MethodLogger(
+      MeterRegistry meterRegistry,
+      @Value("${loggable.sampleRate}") double sampleRate,
+      @Value("${loggable.percentiles}") double[] percentiles) {
+
+    this.meterRegistry = meterRegistry;
+    this.sampleRate = sampleRate;
+    this.percentiles = percentiles;
+  }
+
   /**
    * - visibility modifier is * (public, protected or private) - name is * (any name); - arguments
    * are .. (any arguments); and - is annotated with @Loggable.
    *
    * @param joinPoint the joinPoint
+   * @param loggable the annotation of the method
    * @return the log object
    * @throws Throwable if an error occurs
    */
   @Around("execution(* *(..)) && @annotation(loggable)")
   public Object log(final ProceedingJoinPoint joinPoint, final Loggable loggable) throws Throwable {
+    var method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    var loggedMethod = loggedMethods.computeIfAbsent(method, key -> describe(key, loggable));
 
-    var method = joinPoint.toShortString();
-    var start = System.currentTimeMillis();
-
-    switchStartingLogger(loggable.level(), method, joinPoint.getArgs());
-    Object response = joinPoint.proceed();
+    var logged = LOG.isEnabledForLevel(loggedMethod.level()) && isSampled();
+    if (logged) {
+      LOG.atLevel(loggedMethod.level())
+          .log(STARTING_FORMAT, loggedMethod.name(), joinPoint.getArgs());
+    }
 
-    // if a response object is ignored, don't include response data.
-    if (loggable.ignoreResponseData()) {
-      switchFinishingLogger(loggable.level(), method, "{...}", start);
-    } else {
-      switchFinishingLogger(loggable.level(), method, response, start);
+    var start = System.nanoTime();
+    Object response;
+    try {
+      response = joinPoint.proceed();
+    } catch (Throwable throwable) {
+      var duration = System.nanoTime() - start;
+      loggedMethod.failureTimer().record(duration, TimeUnit.NANOSECONDS);
+      if (logged) {
+        LOG.atLevel(loggedMethod.level())
+            .log(
+                FAILING_FORMAT,
+                loggedMethod.name(),
+                throwable.getClass().getSimpleName(),
+                toMillis(duration),
+                throwable);
+      }
+      throw throwable;
     }
 
+    var duration = System.nanoTime() - start;
+    loggedMethod.successTimer().record(duration, TimeUnit.NANOSECONDS);
+    if (logged) {
+      // if a response object is ignored, don't include response data.
+      var loggedResponse = loggable.ignoreResponseData() ? IGNORED_RESPONSE : response;
+      LOG.atLevel(loggedMethod.level())
+          .log(FINISHING_FORMAT, loggedMethod.name(), loggedResponse, toMillis(duration));
+    }
     return response;
   }
 
-  private void switchStartingLogger(final String level, final String method, final Object args) {
-    final String format = "=> Starting -  {} args: {}";
+  private boolean isSampled() {
+    return sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+  }
 
-    switch (level) {
-      case "warn" -> LOG.warn(format, method, args);
-      case "error" -> LOG.error(format, method, args);
-      case "debug" -> LOG.debug(format, method, args);
-      case "trace" -> LOG.trace(format, method, args);
-      default -> LOG.info(format, method, args);
-    }
+  private LoggedMethod describe(final Method method, final Loggable loggable) {
+    var className = method.getDeclaringClass().getSimpleName();
+    var methodName = method.getName();
+
+    return new LoggedMethod(
+        className + "." + methodName + "(..)",
+        toLevel(loggable.level()),
+        timer(className, methodName, "success"),
+        timer(className, methodName, "error"));
   }
 
-  private void switchFinishingLogger(String level, String method, Object response, long start) {
-    final String format = "<= {} : {} - Finished, duration: {} ms";
+  private Timer timer(final String className, final String methodName, final String outcome) {
+    return Timer.builder(METRIC_METHOD)
+        .tag(TAG_CLASS, className)
+        .tag(TAG_METHOD, methodName)
+        .tag(TAG_OUTCOME, outcome)
+        .publishPercentiles(percentiles)
+        .register(meterRegistry);
+  }
 
-    switch (level) {
-      case "warn" -> LOG.warn(format, method, response, System.currentTimeMillis() - start);
-      case "error" -> LOG.error(format, method, response, System.currentTimeMillis() - start);
-      case "debug" -> LOG.debug(format, method, response, System.currentTimeMillis() - start);
-      case "trace" -> LOG.trace(format, method, response, System.currentTimeMillis() - start);
-      default -> LOG.info(format, method, response, System.currentTimeMillis() - start);
+  private static Level toLevel(final String level) {
+    try {
+      return Level.valueOf(level.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      return Level.INFO;
     }
   }
+
+  private static double toMillis(final long nanos) {
+    return nanos / NANOS_PER_MILLI;
+  }
+
+  /**
+   * What is logged and timed for an annotated method.
+   *
+   * @param name the name the method is logged with
+   * @param level the level the method is logged at
+   * @param successTimer the timer of the calls that return
+   * @param failureTimer the timer of the calls that throw
+   */
+  private record LoggedMethod(String name, Level level, Timer successTimer, Timer failureTimer) {}
 }
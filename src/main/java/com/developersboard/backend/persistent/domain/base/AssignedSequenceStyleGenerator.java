@@ -9,6 +9,9 @@ import org.hibernate.id.enhanced.SequenceStyleGenerator;
 /**
  * A custom sequence generator that can also accommodate manually assigned identifier.
  *
+ * <p>Generated identifiers are handed out by the configured optimizer, pooled-lo by default, so an
+ * assigned identifier never consumes a value from the sequence.
+ *
  * @author Eric Opoku
  * @version 1.0
  * @since 1.0
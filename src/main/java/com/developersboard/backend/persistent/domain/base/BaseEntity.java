@@ -40,11 +40,17 @@ public class BaseEntity<T extends Serializable> {
   private static final String SEQUENCE_NAME = "SpringBootStarterSequence";
   private static final String SEQUENCE_GENERATOR_NAME = "SpringBootStarterSequenceGenerator";
 
+  /**
+   * The number of IDs reserved per sequence call, must match the increment of the sequence. IDs
+   * are handed out with the pooled-lo optimizer, so the sequence value is the first ID of a block.
+   */
+  public static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
   /** Sequence Generator to auto generate IDs. */
   @SequenceGenerator(
       name = SEQUENCE_GENERATOR_NAME,
       sequenceName = SEQUENCE_NAME,
-      allocationSize = 1)
+      allocationSize = SEQUENCE_ALLOCATION_SIZE)
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SEQUENCE_GENERATOR_NAME)
   private T id;
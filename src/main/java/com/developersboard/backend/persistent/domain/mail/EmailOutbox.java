@@ -0,0 +1,97 @@
+package com.developersboard.backend.persistent.domain.mail;
+
+import com.developersboard.backend.persistent.domain.base.BaseEntity;
+import com.developersboard.enums.EmailStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Class EmailOutbox holds an email to be sent, written along with the change that triggered it and
+ * sent later by the outbox workers.
+ *
+ * <p>Only what is needed to render the template is stored, the body is rendered when the email is
+ * sent.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@ToString(callSuper = true)
+public class EmailOutbox extends BaseEntity<Long> implements Serializable {
+  @Serial private static final long serialVersionUID = 2812466915722093812L;
+
+  /** The longest error message kept for a failed attempt. */
+  public static final int MAX_ERROR_LENGTH = 1024;
+
+  @Column(nullable = false)
+  private String recipient;
+
+  private String recipientName;
+  private String sender;
+  private String senderName;
+
+  /** The carbon copy recipients, separated by commas. */
+  @Column(length = 1024)
+  private String ccRecipients;
+
+  private String subject;
+
+  @Column(nullable = false)
+  private String template;
+
+  /** The urls passed to the template, as a JSON object, dropped once the email is sent. */
+  @ToString.Exclude
+  @Column(length = 4096)
+  private String urls;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.ORDINAL)
+  private EmailStatus status = EmailStatus.PENDING;
+
+  private int attempts;
+
+  @Column(nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  @Column(length = MAX_ERROR_LENGTH)
+  private String lastError;
+
+  private LocalDateTime sentAt;
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof EmailOutbox that) || !(super.equals(o))) {
+      return false;
+    }
+    return Objects.equals(getPublicId(), that.getPublicId())
+        && Objects.equals(getRecipient(), that.getRecipient())
+        && Objects.equals(getTemplate(), that.getTemplate());
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(super.hashCode(), getPublicId(), getRecipient(), getTemplate());
+  }
+
+  @Override
+  protected boolean canEqual(Object other) {
+    return other instanceof EmailOutbox;
+  }
+}
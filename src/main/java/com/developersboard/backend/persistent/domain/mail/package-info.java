@@ -0,0 +1,2 @@
+/** This package holds all outbound mail related domain models. */
+package com.developersboard.backend.persistent.domain.mail;
@@ -3,6 +3,7 @@ package com.developersboard.backend.persistent.domain.user;
 import com.developersboard.backend.persistent.domain.base.BaseEntity;
 import com.developersboard.constant.user.UserConstants;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -21,6 +22,9 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.envers.Audited;
 import org.hibernate.envers.NotAudited;
 
@@ -35,7 +39,10 @@ import org.hibernate.envers.NotAudited;
 @Getter
 @Setter
 @Audited
+@Cacheable
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 @ToString(callSuper = true)
 public class User extends BaseEntity<Long> implements Serializable {
   @Serial private static final long serialVersionUID = 7538542321562810251L;
@@ -73,6 +80,7 @@ public class User extends BaseEntity<Long> implements Serializable {
   @NotAudited
   @ToString.Exclude
   @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
   private Set<UserRole> userRoles = new HashSet<>();
 
   @NotAudited
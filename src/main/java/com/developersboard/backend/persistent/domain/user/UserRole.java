@@ -1,6 +1,7 @@
 package com.developersboard.backend.persistent.domain.user;
 
 import com.developersboard.backend.persistent.domain.base.BaseEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -12,6 +13,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * The user role model for the application.
@@ -23,8 +26,10 @@ import lombok.ToString;
 @Getter
 @Setter
 @Entity
+@Cacheable
 @NoArgsConstructor
 @ToString(callSuper = true)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class UserRole extends BaseEntity<Long> implements Serializable {
   @Serial private static final long serialVersionUID = 2803657434288286128L;
 
@@ -0,0 +1,95 @@
+package com.developersboard.backend.persistent.repository;
+
+import com.developersboard.backend.persistent.domain.mail.EmailOutbox;
+import com.developersboard.enums.EmailStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository for the EmailOutbox.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+@RepositoryRestResource(exported = false)
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+  /**
+   * Find the ids of the emails with the given status that are due, the longest waiting first.
+   *
+   * @param status the status
+   * @param now the current time
+   * @param limit the maximum number of ids
+   * @return the ids of the emails
+   */
+  @Query(
+      "select e.id from EmailOutbox e where e.status = :status and e.nextAttemptAt <= :now"
+          + " order by e.nextAttemptAt")
+  List<Long> findDueIds(
+      @Param("status") EmailStatus status, @Param("now") LocalDateTime now, Limit limit);
+
+  /**
+   * Claim a pending email that is due by pushing its next attempt to the end of the lease, so that
+   * no other worker picks it up while it is being sent. An email whose worker dies is picked up
+   * again once the lease ends.
+   *
+   * @param id the id of the email
+   * @param now the current time
+   * @param leaseUntil the end of the lease
+   * @return 1 if the email was claimed, 0 if another worker claimed it first
+   */
+  @Modifying
+  @Transactional
+  @Query(
+      "update EmailOutbox e set e.nextAttemptAt = :leaseUntil where e.id = :id"
+          + " and e.status = com.developersboard.enums.EmailStatus.PENDING"
+          + " and e.nextAttemptAt <= :now")
+  int claim(
+      @Param("id") Long id,
+      @Param("now") LocalDateTime now,
+      @Param("leaseUntil") LocalDateTime leaseUntil);
+
+  /**
+   * Find the emails with the given status.
+   *
+   * @param status the status
+   * @param pageable the page to find
+   * @return the emails
+   */
+  Page<EmailOutbox> findByStatus(EmailStatus status, Pageable pageable);
+
+  /**
+   * Find an email by public id and status.
+   *
+   * @param publicId the public id
+   * @param status the status
+   * @return the email found
+   */
+  EmailOutbox findByPublicIdAndStatus(String publicId, EmailStatus status);
+
+  /**
+   * Delete the emails with one of the given statuses that were last updated before the given time.
+   *
+   * @param statuses the statuses
+   * @param updatedBefore emails last updated before this time
+   * @return Number of rows deleted.
+   */
+  @Modifying
+  @Query("delete from EmailOutbox e where e.status in :statuses and e.updatedAt < :updatedBefore")
+  int deleteByStatusInAndUpdatedAtBefore(
+      @Param("statuses") Collection<EmailStatus> statuses,
+      @Param("updatedBefore") LocalDateTime updatedBefore);
+}
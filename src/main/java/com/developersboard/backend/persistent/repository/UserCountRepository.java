@@ -0,0 +1,19 @@
+package com.developersboard.backend.persistent.repository;
+
+/**
+ * Repository fragment estimating the number of users.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+public interface UserCountRepository {
+
+  /**
+   * Estimates the number of users from the statistics of the database, without counting them. The
+   * users are counted where there are no statistics to read.
+   *
+   * @return the estimated number of users
+   */
+  long estimateCount();
+}
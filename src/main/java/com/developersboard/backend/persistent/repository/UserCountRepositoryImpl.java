@@ -0,0 +1,56 @@
+package com.developersboard.backend.persistent.repository;
+
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Estimates the number of users from the row estimate PostgreSQL keeps for the users table, which
+ * is refreshed whenever the table is vacuumed or analyzed. Other databases, and a table that has
+ * never been analyzed, fall back to counting the users.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class UserCountRepositoryImpl implements UserCountRepository {
+
+  private static final String POSTGRESQL = "PostgreSQL";
+  private static final String ESTIMATE_QUERY =
+      "select cast(reltuples as bigint) from pg_class where oid = to_regclass('users')";
+  private static final String COUNT_QUERY = "select count(*) from users";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /** Whether the database is PostgreSQL, read from the connection on first use. */
+  private volatile Boolean postgres;
+
+  @Override
+  public long estimateCount() {
+    if (isPostgres()) {
+      var estimate = jdbcTemplate.queryForObject(ESTIMATE_QUERY, Long.class);
+      if (Objects.nonNull(estimate) && estimate > 0) {
+        return estimate;
+      }
+      LOG.debug("No row estimate for the users table, counting the users");
+    }
+
+    var count = jdbcTemplate.queryForObject(COUNT_QUERY, Long.class);
+    return Objects.requireNonNullElse(count, 0L);
+  }
+
+  private boolean isPostgres() {
+    if (Objects.isNull(postgres)) {
+      postgres =
+          jdbcTemplate.execute(
+              (ConnectionCallback<Boolean>)
+                  connection ->
+                      POSTGRESQL.equals(connection.getMetaData().getDatabaseProductName()));
+    }
+    return Boolean.TRUE.equals(postgres);
+  }
+}
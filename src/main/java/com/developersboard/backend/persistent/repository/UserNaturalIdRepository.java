@@ -0,0 +1,21 @@
+package com.developersboard.backend.persistent.repository;
+
+import com.developersboard.backend.persistent.domain.user.User;
+
+/**
+ * Repository fragment loading users by their natural id.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+public interface UserNaturalIdRepository {
+
+  /**
+   * Find user by public id.
+   *
+   * @param publicId publicId used to search for user.
+   * @return User found.
+   */
+  User findByPublicId(String publicId);
+}
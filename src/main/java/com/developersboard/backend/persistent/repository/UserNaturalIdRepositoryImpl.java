@@ -0,0 +1,28 @@
+package com.developersboard.backend.persistent.repository;
+
+import com.developersboard.backend.persistent.domain.user.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+/**
+ * Loads users by their public id through the natural id of the user rather than a query.
+ *
+ * <p>The id of the user is resolved from the natural id cache and the user from the second-level
+ * cache, so a user loaded before is found without a statement, within a session and across
+ * sessions. A user that is not cached yet is read by its public id in a single statement.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+  private final EntityManager entityManager;
+
+  @Override
+  public User findByPublicId(final String publicId) {
+    return entityManager.unwrap(Session.class).bySimpleNaturalId(User.class).load(publicId);
+  }
+}
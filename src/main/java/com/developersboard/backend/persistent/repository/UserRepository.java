@@ -1,14 +1,28 @@
 package com.developersboard.backend.persistent.repository;
 
 import com.developersboard.backend.persistent.domain.user.User;
+import com.developersboard.constant.AdminConstants;
+import com.developersboard.constant.CacheConstants;
+import com.developersboard.shared.dto.UserCredentialsDto;
+import com.developersboard.web.payload.response.UserResponse;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 import lombok.NonNull;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.datatables.repository.DataTablesRepository;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 import org.springframework.data.rest.core.annotation.RestResource;
 import org.springframework.stereotype.Repository;
@@ -23,7 +37,23 @@ import org.springframework.stereotype.Repository;
 @Repository
 @RepositoryRestResource(exported = false)
 public interface UserRepository
-    extends DataTablesRepository<User, Long>, JpaRepository<User, Long> {
+    extends DataTablesRepository<User, Long>, JpaRepository<User, Long>, UserCountRepository,
+        UserNaturalIdRepository {
+
+  /** Selects the credentials of the users with their role names, filtered by the finders. */
+  String SELECT_USER_CREDENTIALS =
+      "select new com.developersboard.shared.dto.UserCredentialsDto(u.id, u.publicId,"
+          + " u.username, u.email, u.password, u.firstName, u.lastName, u.phone, u.enabled,"
+          + " u.accountNonExpired, u.accountNonLocked, u.credentialsNonExpired,"
+          + " u.failedLoginAttempts, u.lastSuccessfulLogin, listagg(r.name, ',')"
+          + " within group (order by r.name))"
+          + " from User u left join u.userRoles ur left join ur.role r";
+
+  /** Groups the role names of a user, every selected column of the user is listed. */
+  String GROUP_USER_CREDENTIALS =
+      " group by u.id, u.publicId, u.username, u.email, u.password, u.firstName, u.lastName,"
+          + " u.phone, u.enabled, u.accountNonExpired, u.accountNonLocked,"
+          + " u.credentialsNonExpired, u.failedLoginAttempts, u.lastSuccessfulLogin";
 
   @NonNull
   @Override
@@ -36,6 +66,7 @@ public interface UserRepository
    * @param email email used to search for user.
    * @return User found.
    */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   User findByEmail(String email);
 
   /**
@@ -47,26 +78,66 @@ public interface UserRepository
   @EntityGraph(
       type = EntityGraphType.FETCH,
       attributePaths = {"userRoles"})
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   User findByUsername(String username);
 
   /**
-   * Check if a user exists by username.
+   * Find the credentials, the status and the role names of a user by username, in a single query
+   * through the unique index of the username. The result is cached in its own region, which the
+   * changes of any user made on another node drop.
+   *
+   * @param username the username
+   * @return the credentials of the user or null if there is none
+   */
+  @RestResource(exported = false)
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+    @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConstants.USER_CREDENTIALS)
+  })
+  @Query(SELECT_USER_CREDENTIALS + " where u.username = :username" + GROUP_USER_CREDENTIALS)
+  UserCredentialsDto findCredentialsByUsername(@Param("username") String username);
+
+  /**
+   * Find the credentials, the status and the role names of a user by email, in a single query
+   * through the unique index of the email.
+   *
+   * @param email the email
+   * @return the credentials of the user or null if there is none
+   */
+  @RestResource(exported = false)
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+    @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConstants.USER_CREDENTIALS)
+  })
+  @Query(SELECT_USER_CREDENTIALS + " where u.email = :email" + GROUP_USER_CREDENTIALS)
+  UserCredentialsDto findCredentialsByEmail(@Param("email") String email);
+
+  /**
+   * Check if a user exists by username. Like every existence check below, the query selects the
+   * id of at most one row through the unique index of the username, with nothing to sort.
    *
    * @param username username to check if the user exists.
    * @return True if a user exists or false otherwise.
    */
-  Boolean existsByUsernameOrderById(String username);
+  Boolean existsByUsername(String username);
 
   /**
-   * Check if a user exists by username or email.
+   * Check if an enabled user exists by username.
    *
    * @param username username to check if the user exists.
+   * @return True if a user exists or false otherwise.
+   */
+  @RestResource(exported = false)
+  Boolean existsByUsernameAndEnabledTrue(String username);
+
+  /**
+   * Check if an enabled user exists by email.
+   *
    * @param email email to check if the user exists.
    * @return True if a user exists or false otherwise.
    */
   @RestResource(exported = false)
-  Boolean existsByUsernameAndEnabledTrueOrEmailAndEnabledTrueOrderById(
-      String username, String email);
+  Boolean existsByEmailAndEnabledTrue(String email);
 
   /**
    * Check if a user exists by username and verificationToken.
@@ -75,26 +146,170 @@ public interface UserRepository
    * @param verificationToken the verification token
    * @return if a user exists with the given verification token
    */
-  Boolean existsByUsernameAndVerificationTokenOrderById(String username, String verificationToken);
+  Boolean existsByUsernameAndVerificationToken(String username, String verificationToken);
 
-  Boolean existsByUsernameAndFailedLoginAttemptsGreaterThanOrderById(String username, int attempts);
+  Boolean existsByUsernameAndFailedLoginAttemptsGreaterThan(String username, int attempts);
 
   /**
-   * Find user by public id.
+   * Returns those of the given usernames that are already taken.
    *
-   * @param publicId publicId used to search for user.
-   * @return User found.
+   * @param usernames the usernames to check
+   * @return the usernames that exist
    */
-  User findByPublicId(String publicId);
+  @RestResource(exported = false)
+  @Query("select u.username from User u where u.username in :usernames")
+  Set<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
 
   /**
-   * Find all users that failed to verify their email after a certain time.
+   * Returns those of the given emails that are already taken.
    *
-   * @param allowedDaysToVerify email verification allowed days.
-   * @return List of users that failed to verify their email.
+   * @param emails the emails to check
+   * @return the emails that exist
+   */
+  @RestResource(exported = false)
+  @Query("select u.email from User u where u.email in :emails")
+  Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+  /**
+   * Find the first users in a stable id order, selecting only the response columns.
+   *
+   * @param limit the maximum number of users
+   * @return the users
+   */
+  @RestResource(exported = false)
+  @Query(
+      "select new com.developersboard.web.payload.response.UserResponse(u.publicId, u.username,"
+          + " u.firstName, u.lastName, u.email, u.phone, u.enabled)"
+          + " from User u order by u.id")
+  List<UserResponse> findUserResponses(Limit limit);
+
+  /**
+   * Find the users with an id after the id of the user with the given public id, in a stable id
+   * order, selecting only the response columns. The ids are handed out in pooled blocks of a
+   * sequence, so they only roughly follow the order the users were created in. The id of the given
+   * user is read in the same query through the public id index, so a page costs one primary key
+   * range scan however deep it is.
+   *
+   * @param publicId the public id of the last user already seen
+   * @param limit the maximum number of users
+   * @return the users, empty if there is no user with the given public id
+   */
+  @RestResource(exported = false)
+  @Query(
+      "select new com.developersboard.web.payload.response.UserResponse(u.publicId, u.username,"
+          + " u.firstName, u.lastName, u.email, u.phone, u.enabled)"
+          + " from User u, User after where after.publicId = :publicId and u.id > after.id"
+          + " order by u.id")
+  List<UserResponse> findUserResponsesAfter(@Param("publicId") String publicId, Limit limit);
+
+  /**
+   * Streams the users matching the given filters in a stable id order, selecting only the
+   * response columns. The rows are read through a forward-only cursor a fetch at a time and
+   * are not kept by the persistence context, so the stream holds the same memory however many
+   * users it returns. The stream must be consumed and closed within a transaction.
+   *
+   * @param enabled whether the users are enabled, null for all users
+   * @param createdFrom users created at or after this time, null for no lower bound
+   * @param createdTo users created before this time, null for no upper bound
+   * @param role the name of a role the users have, null for any role
+   * @return the users
+   */
+  @RestResource(exported = false)
+  @QueryHints({
+    @QueryHint(
+        name = HibernateHints.HINT_FETCH_SIZE,
+        value = "" + AdminConstants.EXPORT_FETCH_SIZE),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+    @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+  })
+  @Query(
+      "select new com.developersboard.web.payload.response.UserResponse(u.publicId, u.username,"
+          + " u.firstName, u.lastName, u.email, u.phone, u.enabled)"
+          + " from User u where (:enabled is null or u.enabled = :enabled)"
+          + " and (:createdFrom is null or u.createdAt >= :createdFrom)"
+          + " and (:createdTo is null or u.createdAt < :createdTo)"
+          + " and (:role is null or exists"
+          + " (select r.id from UserRole r where r.user = u and r.role.name = :role))"
+          + " order by u.id")
+  Stream<UserResponse> streamUserResponses(
+      @Param("enabled") Boolean enabled,
+      @Param("createdFrom") LocalDateTime createdFrom,
+      @Param("createdTo") LocalDateTime createdTo,
+      @Param("role") String role);
+
+  /**
+   * Find the users with the given usernames.
+   *
+   * @param usernames the usernames of the users
+   * @return the users found
+   */
+  @RestResource(exported = false)
+  List<User> findAllByUsernameIn(Collection<String> usernames);
+
+  /**
+   * Find the ids of users that failed to verify their email before the given time, in ascending
+   * order after the given id.
+   *
+   * @param createdBefore users created before this time
+   * @param afterId only ids greater than this id
+   * @param limit the maximum number of ids
+   * @return the ids of the users
+   */
+  @RestResource(exported = false)
+  @Query(
+      "select u.id from User u where u.enabled = false and u.createdAt < :createdBefore"
+          + " and u.id > :afterId order by u.id")
+  List<Long> findNotEnabledUserIds(
+      @Param("createdBefore") LocalDateTime createdBefore,
+      @Param("afterId") Long afterId,
+      Limit limit);
+
+  /**
+   * Lock the users with the given ids that are still not enabled, so that none of them can be
+   * enabled until the current transaction ends. The rows are locked for update, as they are about
+   * to be deleted.
+   *
+   * @param ids the ids of the users
+   * @return the ids of the users locked
+   */
+  @RestResource(exported = false)
+  @Query(
+      value = "select u.id from users u where u.id in :ids and u.enabled = false for update",
+      nativeQuery = true)
+  List<Long> lockNotEnabledUserIds(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Delete the histories of the users with the given ids.
+   *
+   * @param ids the ids of the users
+   * @return Number of rows deleted.
+   */
+  @Modifying
+  @RestResource(exported = false)
+  @Query("delete from UserHistory h where h.user.id in :ids")
+  int deleteUserHistoriesByUserIds(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Delete the roles of the users with the given ids.
+   *
+   * @param ids the ids of the users
+   * @return Number of rows deleted.
+   */
+  @Modifying
+  @RestResource(exported = false)
+  @Query("delete from UserRole r where r.user.id in :ids")
+  int deleteUserRolesByUserIds(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Delete the users with the given ids.
+   *
+   * @param ids the ids of the users
+   * @return Number of rows deleted.
    */
+  @Modifying
   @RestResource(exported = false)
-  List<User> findByEnabledFalseAndCreatedAtBefore(LocalDateTime allowedDaysToVerify);
+  @Query("delete from User u where u.id in :ids")
+  int deleteByIdIn(@Param("ids") Collection<Long> ids);
 
   /**
    * Delete the user associated with the given public id.
@@ -0,0 +1,39 @@
+package com.developersboard.backend.service.cache;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * This is the contract of the channel that carries cache invalidations between the application
+ * nodes. An invalidation published within a transaction is only delivered once it commits.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+public interface CacheInvalidationBus {
+
+  /**
+   * Publishes the invalidation to every subscriber, on every node.
+   *
+   * @param invalidation the invalidation
+   */
+  void publish(Invalidation invalidation);
+
+  /**
+   * Subscribes to the invalidations published on any node, including this one.
+   *
+   * @param subscriber the subscriber
+   */
+  void subscribe(Consumer<Invalidation> subscriber);
+
+  /**
+   * An entry or a whole cache to invalidate.
+   *
+   * @param origin the node the invalidation was published by, or null if it comes from the bus
+   * @param cacheName the name of the cache, or null for every cache
+   * @param key the key of the entry, or null for every entry
+   * @param invalidatedAt when the entry was invalidated
+   */
+  record Invalidation(String origin, String cacheName, String key, Instant invalidatedAt) {}
+}
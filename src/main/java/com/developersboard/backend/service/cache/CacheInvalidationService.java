@@ -0,0 +1,35 @@
+package com.developersboard.backend.service.cache;
+
+import com.developersboard.backend.service.cache.CacheInvalidationBus.Invalidation;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * This is the contract for keeping the caches of the application nodes coherent. A node applies
+ * its own changes to its caches, then invalidates them here so that the other nodes drop the same
+ * entries.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+public interface CacheInvalidationService {
+
+  /**
+   * Invalidates the entry on the other application nodes.
+   *
+   * @param cacheName the name of the cache
+   * @param key the key of the entry, or null for every entry
+   * @param invalidatedAt when the entry was invalidated
+   */
+  void invalidate(String cacheName, String key, Instant invalidatedAt);
+
+  /**
+   * Subscribes to the invalidations of the cache published by the other application nodes. The
+   * subscriber also receives the invalidations of every cache, which carry no cache name.
+   *
+   * @param cacheName the name of the cache
+   * @param subscriber the subscriber
+   */
+  void subscribe(String cacheName, Consumer<Invalidation> subscriber);
+}
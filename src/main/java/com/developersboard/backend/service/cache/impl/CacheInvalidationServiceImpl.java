@@ -0,0 +1,99 @@
+package com.developersboard.backend.service.cache.impl;
+
+import com.developersboard.backend.service.cache.CacheInvalidationBus;
+import com.developersboard.backend.service.cache.CacheInvalidationBus.Invalidation;
+import com.developersboard.backend.service.cache.CacheInvalidationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * This is the implementation of the cache invalidation service.
+ *
+ * <p>Every node publishes under a random id and skips its own invalidations when the bus delivers
+ * them back, as it has already applied them.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class CacheInvalidationServiceImpl implements CacheInvalidationService {
+
+  private static final String METRIC_PUBLISHED = "cache.invalidations.published";
+  private static final String METRIC_RECEIVED = "cache.invalidations.received";
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final CacheInvalidationBus cacheInvalidationBus;
+  private final Map<String, List<Consumer<Invalidation>>> subscribers = new ConcurrentHashMap<>();
+
+  private final Counter publishedCounter;
+  private final Counter receivedCounter;
+
+  public CacheInvalidationServiceImpl(
+      CacheInvalidationBus cacheInvalidationBus, MeterRegistry meterRegistry) {
+
+    this.cacheInvalidationBus = cacheInvalidationBus;
+    this.publishedCounter = meterRegistry.counter(METRIC_PUBLISHED);
+    this.receivedCounter = meterRegistry.counter(METRIC_RECEIVED);
+    cacheInvalidationBus.subscribe(this::onInvalidation);
+  }
+
+  /**
+   * Invalidates the entry on the other application nodes.
+   *
+   * @param cacheName the name of the cache
+   * @param key the key of the entry, or null for every entry
+   * @param invalidatedAt when the entry was invalidated
+   */
+  @Override
+  public void invalidate(final String cacheName, final String key, final Instant invalidatedAt) {
+    cacheInvalidationBus.publish(new Invalidation(nodeId, cacheName, key, invalidatedAt));
+    publishedCounter.increment();
+  }
+
+  /**
+   * Subscribes to the invalidations of the cache published by the other application nodes.
+   *
+   * @param cacheName the name of the cache
+   * @param subscriber the subscriber
+   */
+  @Override
+  public void subscribe(final String cacheName, final Consumer<Invalidation> subscriber) {
+    subscribers.computeIfAbsent(cacheName, key -> new CopyOnWriteArrayList<>()).add(subscriber);
+  }
+
+  private void onInvalidation(final Invalidation invalidation) {
+    if (nodeId.equals(invalidation.origin())) {
+      return;
+    }
+    receivedCounter.increment();
+
+    if (Objects.isNull(invalidation.cacheName())) {
+      subscribers.values().forEach(cacheSubscribers -> notify(cacheSubscribers, invalidation));
+    } else {
+      notify(subscribers.getOrDefault(invalidation.cacheName(), List.of()), invalidation);
+    }
+  }
+
+  private static void notify(
+      final List<Consumer<Invalidation>> cacheSubscribers, final Invalidation invalidation) {
+    for (var subscriber : cacheSubscribers) {
+      try {
+        subscriber.accept(invalidation);
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to apply cache invalidation {}", invalidation, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package com.developersboard.backend.service.cache.impl;
+
+import com.developersboard.backend.service.cache.CacheInvalidationService;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * A Caffeine cache manager whose evictions reach the caches of the other application nodes.
+ *
+ * <p>Every eviction, whether through {@code @CacheEvict} or a cache looked up from this manager, is
+ * applied locally and then invalidated on the other nodes, which evict the same key from their
+ * cache of the same name. Keys are sent as strings, an eviction of any other key invalidates the
+ * whole cache on the other nodes.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+public class ClusterInvalidatingCacheManager extends CaffeineCacheManager {
+
+  private final CacheInvalidationService cacheInvalidationService;
+  private final Set<String> subscribedCacheNames = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Creates a cache manager publishing its evictions through the given service.
+   *
+   * @param cacheInvalidationService the cache invalidation service
+   */
+  public ClusterInvalidatingCacheManager(final CacheInvalidationService cacheInvalidationService) {
+    this.cacheInvalidationService = cacheInvalidationService;
+  }
+
+  @Override
+  protected Cache adaptCaffeineCache(
+      final String name, final com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+
+    // A cache is adapted again whenever the default builder changes, the subscription must not be.
+    if (subscribedCacheNames.add(name)) {
+      cacheInvalidationService.subscribe(
+          name, invalidation -> evictLocally(name, invalidation.key()));
+    }
+    return new ClusterInvalidatingCache(name, cache, isAllowNullValues());
+  }
+
+  private void evictLocally(final String cacheName, final String key) {
+    if (getCache(cacheName) instanceof ClusterInvalidatingCache cache) {
+      cache.evictLocally(key);
+    }
+  }
+
+  /** A Caffeine cache that invalidates its evicted entries on the other application nodes. */
+  private final class ClusterInvalidatingCache extends CaffeineCache {
+
+    private ClusterInvalidatingCache(
+        final String name,
+        final com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+        final boolean allowNullValues) {
+      super(name, cache, allowNullValues);
+    }
+
+    @Override
+    public void evict(final Object key) {
+      super.evict(key);
+      invalidate(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(final Object key) {
+      var evicted = super.evictIfPresent(key);
+      // The other nodes may hold the entry even when this one does not.
+      invalidate(key);
+      return evicted;
+    }
+
+    @Override
+    public void clear() {
+      super.clear();
+      invalidate(null);
+    }
+
+    @Override
+    public boolean invalidate() {
+      var invalidated = super.invalidate();
+      invalidate(null);
+      return invalidated;
+    }
+
+    private void evictLocally(final String key) {
+      if (Objects.isNull(key)) {
+        super.invalidate();
+      } else {
+        super.evict(key);
+      }
+    }
+
+    private void invalidate(final Object key) {
+      var invalidatedKey = key instanceof String stringKey ? stringKey : null;
+      cacheInvalidationService.invalidate(getName(), invalidatedKey, Instant.now());
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.developersboard.backend.service.cache.impl;
+
+import com.developersboard.backend.service.cache.CacheInvalidationBus;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * A cache invalidation bus within a single JVM, for a single node or for nodes started side by
+ * side in tests.
+ *
+ * <p>Like a database notification, an invalidation published within a transaction is delivered
+ * once the transaction commits and dropped if it rolls back.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@ConditionalOnProperty(
+    name = "cache.invalidation.bus",
+    havingValue = "in-process",
+    matchIfMissing = true)
+public class InProcessCacheInvalidationBus implements CacheInvalidationBus {
+
+  private final List<Consumer<Invalidation>> subscribers = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void publish(final Invalidation invalidation) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              deliver(invalidation);
+            }
+          });
+    } else {
+      deliver(invalidation);
+    }
+  }
+
+  @Override
+  public void subscribe(final Consumer<Invalidation> subscriber) {
+    subscribers.add(subscriber);
+  }
+
+  private void deliver(final Invalidation invalidation) {
+    subscribers.forEach(subscriber -> subscriber.accept(invalidation));
+  }
+}
@@ -0,0 +1,176 @@
+package com.developersboard.backend.service.cache.impl;
+
+import com.developersboard.backend.service.cache.CacheInvalidationBus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.Validate;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * A cache invalidation bus over PostgreSQL LISTEN and NOTIFY, so the application nodes need nothing
+ * but the database they already share.
+ *
+ * <p>An invalidation is sent with pg_notify on the connection of the current transaction, if any,
+ * so PostgreSQL delivers it when the transaction commits. Each node listens on a connection of its
+ * own, opened outside the connection pool since it is held for as long as the node runs.
+ * Notifications sent while that connection is lost cannot be replayed, so once it is restored every
+ * cache is invalidated. A subscriber that fails is logged and the listener keeps listening.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "cache.invalidation.bus", havingValue = "postgres")
+public class PostgresCacheInvalidationBus implements CacheInvalidationBus {
+
+  private static final String CHANNEL_PATTERN = "[a-z_][a-z0-9_]*";
+  private static final String NOTIFY_SQL = "select pg_notify(?, ?)";
+  private static final int POLL_TIMEOUT_MILLIS = 1000;
+
+  private final DataSourceProperties dataSourceProperties;
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+  private final String channel;
+  private final Duration reconnectDelay;
+  private final List<Consumer<Invalidation>> subscribers = new CopyOnWriteArrayList<>();
+  private final ExecutorService listener;
+
+  private volatile boolean running = true;
+
+  public PostgresCacheInvalidationBus(
+      DataSourceProperties dataSourceProperties,
+      JdbcTemplate jdbcTemplate,
+      ObjectMapper objectMapper,
+      @Value("${cache.invalidation.channel}") String channel,
+      @Value("${cache.invalidation.reconnect-delay}") Duration reconnectDelay) {
+
+    // The channel is an identifier, LISTEN cannot take it as a parameter.
+    Validate.matchesPattern(channel, CHANNEL_PATTERN, "Invalid cache invalidation channel");
+
+    this.dataSourceProperties = dataSourceProperties;
+    this.jdbcTemplate = jdbcTemplate;
+    this.objectMapper = objectMapper;
+    this.channel = channel;
+    this.reconnectDelay = reconnectDelay;
+    this.listener =
+        Executors.newSingleThreadExecutor(new CustomizableThreadFactory("cache-invalidation-"));
+  }
+
+  /** Starts listening once the bus is created. */
+  @PostConstruct
+  public void start() {
+    listener.execute(this::listen);
+  }
+
+  @Override
+  public void publish(final Invalidation invalidation) {
+    try {
+      var payload = objectMapper.writeValueAsString(invalidation);
+      jdbcTemplate.queryForList(NOTIFY_SQL, channel, payload);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to write cache invalidation " + invalidation, e);
+    }
+  }
+
+  @Override
+  public void subscribe(final Consumer<Invalidation> subscriber) {
+    subscribers.add(subscriber);
+  }
+
+  /** Stops listening before the application shuts down. */
+  @PreDestroy
+  public void shutdown() {
+    running = false;
+    listener.shutdownNow();
+  }
+
+  private void listen() {
+    var connectionLost = false;
+    while (running) {
+      try (var connection = openConnection();
+          var statement = connection.createStatement()) {
+        statement.execute("LISTEN " + channel);
+        var pgConnection = connection.unwrap(PGConnection.class);
+        LOG.info("Listening for cache invalidations on channel {}", channel);
+
+        if (connectionLost) {
+          deliver(new Invalidation(null, null, null, Instant.now()));
+          connectionLost = false;
+        }
+        while (running) {
+          var notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+          if (Objects.nonNull(notifications)) {
+            for (var notification : notifications) {
+              receive(notification.getParameter());
+            }
+          }
+        }
+      } catch (SQLException | RuntimeException e) {
+        if (!running) {
+          return;
+        }
+        LOG.warn("Lost the cache invalidation channel, reconnecting in {}", reconnectDelay, e);
+        connectionLost = true;
+        try {
+          Thread.sleep(reconnectDelay);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Opens a connection of its own to the database of the application, outside the pool.
+   *
+   * @return the connection
+   * @throws SQLException if the connection cannot be opened
+   */
+  private Connection openConnection() throws SQLException {
+    return DriverManager.getConnection(
+        dataSourceProperties.determineUrl(),
+        dataSourceProperties.determineUsername(),
+        dataSourceProperties.determinePassword());
+  }
+
+  private void receive(final String payload) {
+    try {
+      deliver(objectMapper.readValue(payload, Invalidation.class));
+    } catch (JsonProcessingException e) {
+      LOG.warn("Skipping unreadable cache invalidation {}", payload, e);
+    }
+  }
+
+  private void deliver(final Invalidation invalidation) {
+    for (var subscriber : subscribers) {
+      try {
+        subscriber.accept(invalidation);
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to deliver cache invalidation {}", invalidation, e);
+      }
+    }
+  }
+}
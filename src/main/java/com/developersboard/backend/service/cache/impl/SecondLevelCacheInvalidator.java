@@ -0,0 +1,68 @@
+package com.developersboard.backend.service.cache.impl;
+
+import com.developersboard.backend.persistent.domain.user.User;
+import com.developersboard.backend.service.cache.CacheInvalidationBus.Invalidation;
+import com.developersboard.backend.service.cache.CacheInvalidationService;
+import com.developersboard.constant.CacheConstants;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops the users changed on other application nodes from the Hibernate second-level cache of this
+ * node, which only sees the changes made through its own session factory.
+ *
+ * <p>Only the user details invalidations are followed, they carry the id of the user changed. The
+ * invalidations of the users cache are keyed by username or email and carry nothing to evict by.
+ * A user invalidated by id is evicted with its roles, and the other cached users are kept. The
+ * cached queries keep only the ids of the users they found, so they find the changed user again
+ * from the database. The cached credentials are copies of the user and are dropped on any change.
+ *
+ * <p>A deleted user leaves the cached queries pointing at a user that no longer exists, so a
+ * deletion drops every cached query along with the ids cached by public id. A user invalidated by
+ * any other key evicts every cached user.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class SecondLevelCacheInvalidator {
+
+  private static final String USER_ROLES_ROLE = User.class.getName() + ".userRoles";
+
+  private final Cache cache;
+
+  public SecondLevelCacheInvalidator(
+      EntityManagerFactory entityManagerFactory,
+      CacheInvalidationService cacheInvalidationService) {
+
+    this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    cacheInvalidationService.subscribe(CacheConstants.USER_DETAILS, this::evictUser);
+    cacheInvalidationService.subscribe(CacheConstants.DELETED_USERS, this::evictDeletedUser);
+  }
+
+  private void evictUser(final Invalidation invalidation) {
+    var key = invalidation.key();
+    if (StringUtils.isNumeric(key)) {
+      var id = Long.valueOf(key);
+      cache.evictEntityData(User.class, id);
+      cache.evictCollectionData(USER_ROLES_ROLE, id);
+    } else {
+      LOG.debug("Evicting every cached user after the invalidation of {}", key);
+      cache.evictEntityData(User.class);
+      cache.evictCollectionData(USER_ROLES_ROLE);
+    }
+    cache.evictQueryRegion(CacheConstants.USER_CREDENTIALS);
+  }
+
+  private void evictDeletedUser(final Invalidation invalidation) {
+    evictUser(invalidation);
+    cache.evictNaturalIdData(User.class);
+    cache.evictDefaultQueryRegion();
+  }
+}
@@ -0,0 +1,2 @@
+/** Package for Cache Service implementations. */
+package com.developersboard.backend.service.cache.impl;
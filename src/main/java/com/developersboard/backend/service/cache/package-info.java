@@ -0,0 +1,2 @@
+/** Package for Cache Services. */
+package com.developersboard.backend.service.cache;
@@ -1,7 +1,10 @@
 package com.developersboard.backend.service.impl;
 
 import com.developersboard.backend.persistent.domain.user.User;
+import com.developersboard.constant.SecurityConstants;
 import com.developersboard.constant.user.UserConstants;
+import com.developersboard.shared.dto.UserCredentialsDto;
+import io.jsonwebtoken.Claims;
 import java.io.Serial;
 import java.time.LocalDateTime;
 import java.util.Collection;
@@ -11,6 +14,7 @@ import java.util.Set;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -84,4 +88,77 @@ public final class UserDetailsBuilder implements UserDetails {
         .authorities(authorities)
         .build();
   }
+
+  /**
+   * Builds userDetails object from the credentials read for authentication.
+   *
+   * @param userCredentials the credentials of the user
+   * @throws NullPointerException if the credentials are null
+   * @return the userDetails
+   */
+  public static UserDetailsBuilder buildUserDetailsFromCredentials(
+      final UserCredentialsDto userCredentials) {
+    Validate.notNull(userCredentials, UserConstants.USER_MUST_NOT_BE_NULL);
+
+    // Build the authorities from the aggregated role names
+    Set<GrantedAuthority> authorities = new HashSet<>();
+    if (StringUtils.isNotBlank(userCredentials.roles())) {
+      for (var role : userCredentials.roles().split(UserCredentialsDto.ROLE_SEPARATOR)) {
+        authorities.add(new SimpleGrantedAuthority(role));
+      }
+    }
+
+    return UserDetailsBuilder.builder()
+        .id(userCredentials.id())
+        .email(userCredentials.email())
+        .publicId(userCredentials.publicId())
+        .username(userCredentials.username())
+        .password(userCredentials.password())
+        .firstName(userCredentials.firstName())
+        .lastName(userCredentials.lastName())
+        .phone(userCredentials.phone())
+        .enabled(userCredentials.enabled())
+        .failedLoginAttempts(userCredentials.failedLoginAttempts())
+        .lastSuccessfulLogin(userCredentials.lastSuccessfulLogin())
+        .accountNonExpired(userCredentials.accountNonExpired())
+        .accountNonLocked(userCredentials.accountNonLocked())
+        .credentialsNonExpired(userCredentials.credentialsNonExpired())
+        .authorities(authorities)
+        .build();
+  }
+
+  /**
+   * Builds userDetails object from the principal claims of a verified access token.
+   *
+   * @param claims the verified claims
+   * @return the userDetails or null if the claims do not carry the principal
+   */
+  public static UserDetailsBuilder buildUserDetailsFromClaims(final Claims claims) {
+    if (Objects.isNull(claims) || !claims.containsKey(SecurityConstants.CLAIM_PUBLIC_ID)) {
+      return null;
+    }
+
+    // Build the authorities from the role names in the claims
+    Set<GrantedAuthority> authorities = new HashSet<>();
+    Collection<?> roles = claims.get(SecurityConstants.CLAIM_ROLES, Collection.class);
+    if (Objects.nonNull(roles)) {
+      roles.forEach(role -> authorities.add(new SimpleGrantedAuthority(String.valueOf(role))));
+    }
+
+    return UserDetailsBuilder.builder()
+        .id(claims.get(SecurityConstants.CLAIM_USER_ID, Long.class))
+        .email(claims.get(SecurityConstants.CLAIM_EMAIL, String.class))
+        .publicId(claims.get(SecurityConstants.CLAIM_PUBLIC_ID, String.class))
+        .username(claims.getSubject())
+        .enabled(isTrue(claims, SecurityConstants.CLAIM_ENABLED))
+        .accountNonExpired(isTrue(claims, SecurityConstants.CLAIM_ACCOUNT_NON_EXPIRED))
+        .accountNonLocked(isTrue(claims, SecurityConstants.CLAIM_ACCOUNT_NON_LOCKED))
+        .credentialsNonExpired(isTrue(claims, SecurityConstants.CLAIM_CREDENTIALS_NON_EXPIRED))
+        .authorities(authorities)
+        .build();
+  }
+
+  private static boolean isTrue(final Claims claims, final String claimName) {
+    return Boolean.TRUE.equals(claims.get(claimName, Boolean.class));
+  }
 }
@@ -1,13 +1,13 @@
 package com.developersboard.backend.service.impl;
 
 import com.developersboard.backend.persistent.repository.UserRepository;
-import com.developersboard.constant.CacheConstants;
+import com.developersboard.backend.service.user.UserDetailsCacheService;
+import com.developersboard.shared.dto.UserCredentialsDto;
 import com.developersboard.shared.util.UserUtils;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Primary;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -30,6 +30,7 @@ import org.springframework.transaction.annotation.Transactional;
 class UserDetailsServiceImpl implements UserDetailsService {
 
   private final UserRepository userRepository;
+  private final UserDetailsCacheService userDetailsCacheService;
 
   /**
    * Locates the user based on the usernameOrEmail. In the actual implementation, the search may be
@@ -37,27 +38,48 @@ class UserDetailsServiceImpl implements UserDetailsService {
    * In this case, the <code>UserDetails</code> object that comes back may have a usernameOrEmail
    * that is of a different case than what was actually requested.
    *
+   * <p>The credentials, status and role names of the user are read in one query, and cached under
+   * the id of the user for both its username and email, so signing in and resolving the principal
+   * of a request cost at most one indexed query.
+   *
    * @param usernameOrEmail the usernameOrEmail identifying the user whose data is required.
    * @return a fully populated user record (never <code>null</code>)
    * @throws UsernameNotFoundException if the user could not be found or the user has no
    *     GrantedAuthority
    */
   @Override
-  @Cacheable(key = "{ #root.methodName, #usernameOrEmail }", value = CacheConstants.USER_DETAILS)
   public UserDetails loadUserByUsername(final String usernameOrEmail) {
     // Ensure that usernameOrEmail is not empty or null.
     if (StringUtils.isNotBlank(usernameOrEmail)) {
-      var storedUser =
-          UserUtils.isEmail(usernameOrEmail)
-              ? userRepository.findByEmail(usernameOrEmail)
-              : userRepository.findByUsername(usernameOrEmail);
-      if (Objects.isNull(storedUser)) {
-        LOG.warn("No record found for storedUser with usernameOrEmail {}", usernameOrEmail);
+      var identifier = usernameOrEmail.strip();
+      var cachedUserDetails = userDetailsCacheService.get(identifier);
+      if (Objects.nonNull(cachedUserDetails)) {
+        return cachedUserDetails;
+      }
+
+      var readStamp = userDetailsCacheService.readStamp();
+      var userCredentials = findCredentials(identifier);
+      if (Objects.isNull(userCredentials)) {
+        LOG.warn("No record found for storedUser with usernameOrEmail {}", identifier);
         throw new UsernameNotFoundException(
-            "User with usernameOrEmail " + usernameOrEmail + " not found");
+            "User with usernameOrEmail " + identifier + " not found");
       }
-      return UserDetailsBuilder.buildUserDetails(storedUser);
+      var userDetails = UserDetailsBuilder.buildUserDetailsFromCredentials(userCredentials);
+      userDetailsCacheService.put(userDetails, readStamp);
+      return userDetails;
     }
     return null;
   }
+
+  private UserCredentialsDto findCredentials(final String identifier) {
+    if (!UserUtils.isEmailIdentifier(identifier)) {
+      return userRepository.findCredentialsByUsername(identifier);
+    }
+
+    var userCredentials = userRepository.findCredentialsByEmail(identifier);
+    // A username may contain an at sign as well, it is only looked up when no email matches.
+    return Objects.nonNull(userCredentials)
+        ? userCredentials
+        : userRepository.findCredentialsByUsername(identifier);
+  }
 }
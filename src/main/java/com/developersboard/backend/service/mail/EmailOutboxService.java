@@ -0,0 +1,58 @@
+package com.developersboard.backend.service.mail;
+
+import com.developersboard.web.payload.request.mail.HtmlEmailRequest;
+import com.developersboard.web.payload.response.EmailOutboxResponse;
+import java.util.function.Consumer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * This is the contract for the outbox of emails. Emails are stored with the change that triggers
+ * them and sent later by a pool of workers, retrying with a backoff until they are sent or given up
+ * as dead letters.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+public interface EmailOutboxService {
+
+  /**
+   * Stores the email to be sent. The email joins the current transaction if there is one, so it is
+   * only sent if the change that triggered it is committed.
+   *
+   * @param emailRequest the email, without attachments
+   */
+  void enqueue(HtmlEmailRequest emailRequest);
+
+  /**
+   * Sends the emails that are due on the worker pool and waits for them to complete.
+   *
+   * @param delivery sends an email, throwing an exception if it cannot be sent
+   * @return the number of emails sent
+   */
+  int dispatch(Consumer<HtmlEmailRequest> delivery);
+
+  /**
+   * Find the emails that could not be sent after all attempts.
+   *
+   * @param pageable the page to find
+   * @return the dead letters
+   */
+  Page<EmailOutboxResponse> findDeadLetters(Pageable pageable);
+
+  /**
+   * Queues a dead letter to be sent again with a fresh set of attempts.
+   *
+   * @param publicId the public id of the dead letter
+   * @return true if the dead letter was queued again
+   */
+  boolean retry(String publicId);
+
+  /**
+   * Deletes the emails that were sent, or are dead, for longer than the retention period.
+   *
+   * @return the number of emails deleted
+   */
+  int purge();
+}
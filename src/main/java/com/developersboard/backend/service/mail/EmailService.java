@@ -5,6 +5,7 @@ import com.developersboard.shared.dto.UserDto;
 import com.developersboard.web.payload.request.mail.EmailRequest;
 import com.developersboard.web.payload.request.mail.FeedbackRequest;
 import com.developersboard.web.payload.request.mail.HtmlEmailRequest;
+import java.util.List;
 import org.springframework.mail.SimpleMailMessage;
 
 /**
@@ -32,6 +33,14 @@ public interface EmailService {
    */
   void sendHtmlEmail(HtmlEmailRequest emailRequest);
 
+  /**
+   * Sends the emails in batches, each batch over a single connection to the mail server.
+   *
+   * @param emailRequests the emails
+   * @throws InvalidServiceRequestException if an email request is invalid
+   */
+  void sendHtmlEmails(List<HtmlEmailRequest> emailRequests);
+
   /**
    * Sends an email with the provided details and template for HTML with an attachment.
    *
@@ -0,0 +1,22 @@
+package com.developersboard.backend.service.mail;
+
+import java.util.Map;
+
+/**
+ * This is the contract for rendering the html body of emails from their templates.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+public interface EmailTemplateService {
+
+  /**
+   * Renders the template with the urls of the email.
+   *
+   * @param template the template
+   * @param urls the urls, including the username and link of the receiver
+   * @return the html body
+   */
+  String render(String template, Map<String, String> urls);
+}
@@ -18,6 +18,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.UnsupportedEncodingException;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -59,6 +60,11 @@ public abstract class AbstractEmailServiceImpl implements EmailService {
     return emailRequest;
   }
 
+  @Override
+  public void sendHtmlEmails(final List<HtmlEmailRequest> emailRequests) {
+    emailRequests.forEach(this::sendHtmlEmail);
+  }
+
   @Override
   public void sendMailWithFeedback(final FeedbackRequest feedbackRequest) {
     try {
@@ -81,7 +87,7 @@ public abstract class AbstractEmailServiceImpl implements EmailService {
             EmailConstants.EMAIL_VERIFY_TEMPLATE,
             EmailConstants.CONFIRMATION_PENDING_EMAIL_SUBJECT);
     // prepare the email request then send it.
-    sendHtmlEmail(prepareEmailRequest(emailRequest));
+    sendAccountEmail(prepareEmailRequest(emailRequest));
   }
 
   @Override
@@ -96,7 +102,7 @@ public abstract class AbstractEmailServiceImpl implements EmailService {
             EmailConstants.EMAIL_WELCOME_TEMPLATE,
             EmailConstants.CONFIRMATION_SUCCESS_EMAIL_SUBJECT);
     // prepare the email request then send it.
-    sendHtmlEmail(prepareEmailRequest(emailRequest));
+    sendAccountEmail(prepareEmailRequest(emailRequest));
   }
 
   @Override
@@ -111,7 +117,7 @@ public abstract class AbstractEmailServiceImpl implements EmailService {
             EmailConstants.PASSWORD_RESET_TEMPLATE,
             EmailConstants.PASSWORD_RESET_EMAIL_SUBJECT);
     // prepare the email request then send it.
-    sendHtmlEmail(prepareEmailRequest(emailRequest));
+    sendAccountEmail(prepareEmailRequest(emailRequest));
   }
 
   @Override
@@ -126,7 +132,17 @@ public abstract class AbstractEmailServiceImpl implements EmailService {
             EmailConstants.PASSWORD_UPDATE_TEMPLATE,
             EmailConstants.PASSWORD_RESET_SUCCESS_SUBJECT);
     // prepare the email request then send it.
-    sendHtmlEmail(prepareEmailRequest(emailRequest));
+    sendAccountEmail(prepareEmailRequest(emailRequest));
+  }
+
+  /**
+   * Sends an email about the account of a user. The emails are sent right away unless an
+   * implementation hands them off, for example to an outbox.
+   *
+   * @param emailRequest the prepared email request
+   */
+  protected void sendAccountEmail(final HtmlEmailRequest emailRequest) {
+    sendHtmlEmail(emailRequest);
   }
 
   /**
@@ -0,0 +1,328 @@
+package com.developersboard.backend.service.mail.impl;
+
+import com.developersboard.backend.persistent.domain.mail.EmailOutbox;
+import com.developersboard.backend.persistent.repository.EmailOutboxRepository;
+import com.developersboard.backend.service.mail.EmailOutboxService;
+import com.developersboard.constant.EmailConstants;
+import com.developersboard.enums.EmailStatus;
+import com.developersboard.exception.InvalidServiceRequestException;
+import com.developersboard.shared.dto.UserDto;
+import com.developersboard.shared.dto.mapper.EmailOutboxMapper;
+import com.developersboard.web.payload.request.mail.HtmlEmailRequest;
+import com.developersboard.web.payload.response.EmailOutboxResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * This is the implementation of the email outbox service.
+ *
+ * <p>Each dispatch claims a batch of due emails, one conditional update per email, so that several
+ * instances can share the outbox without sending an email twice. The claim is a lease on the next
+ * attempt, an email whose worker dies before recording the outcome is sent again once the lease
+ * ends, so delivery is at least once.
+ *
+ * <p>The links of an email, which carry the account tokens, are dropped once it is sent. Sent and
+ * dead emails are deleted after the retention period.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class EmailOutboxServiceImpl implements EmailOutboxService {
+
+  private static final String METRIC_ENQUEUED = "mail.outbox.enqueued";
+  private static final String METRIC_SENT = "mail.outbox.sent";
+  private static final String METRIC_RETRIED = "mail.outbox.retried";
+  private static final String METRIC_DEAD = "mail.outbox.dead";
+  private static final String METRIC_DELIVERY = "mail.outbox.delivery";
+  private static final String CC_SEPARATOR = ",";
+  private static final int MAX_BACKOFF_SHIFT = 20;
+  private static final Set<EmailStatus> FINISHED = EnumSet.of(EmailStatus.SENT, EmailStatus.DEAD);
+
+  private final int batchSize;
+  private final int maxAttempts;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+  private final Duration lease;
+  private final Duration retention;
+
+  private final EmailOutboxRepository emailOutboxRepository;
+  private final ObjectMapper objectMapper;
+  private final Clock clock;
+  private final ExecutorService workers;
+
+  private final Counter enqueuedCounter;
+  private final Counter sentCounter;
+  private final Counter retriedCounter;
+  private final Counter deadCounter;
+  private final Timer deliveryTimer;
+
+  public EmailOutboxServiceImpl(
+      EmailOutboxRepository emailOutboxRepository,
+      ObjectMapper objectMapper,
+      Clock clock,
+      MeterRegistry meterRegistry,
+      @Value("${mail.outbox.batchSize}") int batchSize,
+      @Value("${mail.outbox.workers}") int workers,
+      @Value("${mail.outbox.maxAttempts}") int maxAttempts,
+      @Value("${mail.outbox.initialBackoff}") Duration initialBackoff,
+      @Value("${mail.outbox.maxBackoff}") Duration maxBackoff,
+      @Value("${mail.outbox.lease}") Duration lease,
+      @Value("${mail.outbox.retention}") Duration retention) {
+
+    this.emailOutboxRepository = emailOutboxRepository;
+    this.objectMapper = objectMapper;
+    this.clock = clock;
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+    this.initialBackoff = initialBackoff;
+    this.maxBackoff = maxBackoff;
+    this.lease = lease;
+    this.retention = retention;
+    this.workers =
+        Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("mail-outbox-"));
+
+    this.enqueuedCounter = meterRegistry.counter(METRIC_ENQUEUED);
+    this.sentCounter = meterRegistry.counter(METRIC_SENT);
+    this.retriedCounter = meterRegistry.counter(METRIC_RETRIED);
+    this.deadCounter = meterRegistry.counter(METRIC_DEAD);
+    this.deliveryTimer = meterRegistry.timer(METRIC_DELIVERY);
+  }
+
+  @Override
+  @Transactional
+  public void enqueue(final HtmlEmailRequest emailRequest) {
+    Validate.notNull(emailRequest, EmailConstants.EMAIL_REQUEST_MUST_NOT_BE_NULL);
+    Validate.isTrue(
+        CollectionUtils.isEmpty(emailRequest.getAttachments()),
+        EmailConstants.OUTBOX_ATTACHMENTS_NOT_SUPPORTED);
+
+    var email = new EmailOutbox();
+    email.setRecipient(emailRequest.getTo());
+    email.setSender(emailRequest.getFrom());
+    email.setSubject(emailRequest.getSubject());
+    email.setTemplate(emailRequest.getTemplate());
+    email.setCcRecipients(String.join(CC_SEPARATOR, emailRequest.getRecipients()));
+    email.setUrls(writeUrls(emailRequest.getUrls()));
+    if (Objects.nonNull(emailRequest.getReceiver())) {
+      email.setRecipientName(StringUtils.normalizeSpace(emailRequest.getReceiver().getName()));
+    }
+    if (Objects.nonNull(emailRequest.getSender())) {
+      email.setSenderName(StringUtils.normalizeSpace(emailRequest.getSender().getName()));
+    }
+    email.setNextAttemptAt(LocalDateTime.now(clock));
+
+    emailOutboxRepository.save(email);
+    enqueuedCounter.increment();
+    LOG.debug("Queued email {} to {}", email.getTemplate(), email.getRecipient());
+  }
+
+  @Override
+  public int dispatch(final Consumer<HtmlEmailRequest> delivery) {
+    var now = LocalDateTime.now(clock);
+    var leaseUntil = now.plus(lease);
+
+    var claimed =
+        emailOutboxRepository
+            .findDueIds(EmailStatus.PENDING, now, Limit.of(batchSize))
+            .stream()
+            .filter(id -> emailOutboxRepository.claim(id, now, leaseUntil) > 0)
+            .toList();
+    if (claimed.isEmpty()) {
+      return 0;
+    }
+
+    var sent = new AtomicInteger();
+    var deliveries =
+        emailOutboxRepository.findAllById(claimed).stream()
+            .map(
+                email ->
+                    CompletableFuture.runAsync(
+                        () -> {
+                          if (deliver(email, delivery)) {
+                            sent.incrementAndGet();
+                          }
+                        },
+                        workers))
+            .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(deliveries).join();
+
+    LOG.debug("Sent {} of {} email(s) from the outbox", sent.get(), claimed.size());
+    return sent.get();
+  }
+
+  @Override
+  public Page<EmailOutboxResponse> findDeadLetters(final Pageable pageable) {
+    return emailOutboxRepository
+        .findByStatus(EmailStatus.DEAD, pageable)
+        .map(EmailOutboxMapper.MAPPER::toEmailOutboxResponse);
+  }
+
+  @Override
+  @Transactional
+  public boolean retry(final String publicId) {
+    var email = emailOutboxRepository.findByPublicIdAndStatus(publicId, EmailStatus.DEAD);
+    if (Objects.isNull(email)) {
+      return false;
+    }
+
+    email.setStatus(EmailStatus.PENDING);
+    email.setAttempts(0);
+    email.setNextAttemptAt(LocalDateTime.now(clock));
+    LOG.info("Dead letter {} to {} is queued again", publicId, email.getRecipient());
+    return true;
+  }
+
+  @Override
+  @Transactional
+  public int purge() {
+    var updatedBefore = LocalDateTime.now(clock).minus(retention);
+    var purged = emailOutboxRepository.deleteByStatusInAndUpdatedAtBefore(FINISHED, updatedBefore);
+    LOG.debug("Purged {} sent or dead email(s) from the outbox", purged);
+    return purged;
+  }
+
+  /** Stops the worker threads. */
+  @PreDestroy
+  public void shutdown() {
+    workers.shutdown();
+  }
+
+  /**
+   * Sends the email and records the outcome of the attempt.
+   *
+   * @param email the email
+   * @param delivery sends the email
+   * @return true if the email was sent
+   */
+  private boolean deliver(final EmailOutbox email, final Consumer<HtmlEmailRequest> delivery) {
+    var sent = false;
+    email.setAttempts(email.getAttempts() + 1);
+    try {
+      deliveryTimer.record(() -> delivery.accept(toEmailRequest(email)));
+      email.setStatus(EmailStatus.SENT);
+      email.setSentAt(LocalDateTime.now(clock));
+      email.setLastError(null);
+      // The links carry the account tokens, they are not kept once the email is sent.
+      email.setUrls(null);
+      sentCounter.increment();
+      sent = true;
+    } catch (RuntimeException e) {
+      LOG.warn("Attempt {} to send email {} failed", email.getAttempts(), email.getPublicId(), e);
+      recordFailure(email, e);
+    }
+
+    try {
+      emailOutboxRepository.save(email);
+    } catch (ObjectOptimisticLockingFailureException e) {
+      LOG.warn("Email {} was updated by another worker", email.getPublicId(), e);
+    }
+    return sent;
+  }
+
+  private void recordFailure(final EmailOutbox email, final RuntimeException exception) {
+    email.setLastError(
+        StringUtils.abbreviate(
+            Objects.toString(exception.getMessage(), exception.getClass().getName()),
+            EmailOutbox.MAX_ERROR_LENGTH));
+
+    if (email.getAttempts() >= maxAttempts) {
+      LOG.error("Email {} is dead after {} attempts", email.getPublicId(), email.getAttempts());
+      email.setStatus(EmailStatus.DEAD);
+      deadCounter.increment();
+    } else {
+      email.setNextAttemptAt(LocalDateTime.now(clock).plus(backoff(email.getAttempts())));
+      retriedCounter.increment();
+    }
+  }
+
+  /**
+   * The wait before the next attempt, doubling with every failed attempt up to the maximum.
+   *
+   * @param attempts the failed attempts so far
+   * @return the wait before the next attempt
+   */
+  private Duration backoff(final int attempts) {
+    var backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, MAX_BACKOFF_SHIFT));
+    return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+  }
+
+  private HtmlEmailRequest toEmailRequest(final EmailOutbox email) {
+    var emailRequest = new HtmlEmailRequest();
+    emailRequest.setTo(email.getRecipient());
+    emailRequest.setFrom(email.getSender());
+    emailRequest.setSubject(email.getSubject());
+    emailRequest.setTemplate(email.getTemplate());
+    emailRequest.setUrls(readUrls(email.getUrls()));
+    if (StringUtils.isNotBlank(email.getCcRecipients())) {
+      var ccRecipients = email.getCcRecipients().split(CC_SEPARATOR);
+      emailRequest.getRecipients().addAll(Arrays.asList(ccRecipients));
+    }
+    if (Objects.nonNull(email.getRecipientName())) {
+      emailRequest.setReceiver(namedUser(email.getRecipientName(), email.getRecipient()));
+    }
+    if (Objects.nonNull(email.getSenderName())) {
+      emailRequest.setSender(namedUser(email.getSenderName(), email.getSender()));
+    }
+    return emailRequest;
+  }
+
+  private static UserDto namedUser(final String name, final String email) {
+    var userDto = new UserDto();
+    userDto.setFirstName(name);
+    userDto.setEmail(email);
+    return userDto;
+  }
+
+  private String writeUrls(final Map<String, String> urls) {
+    try {
+      return objectMapper.writeValueAsString(urls);
+    } catch (JsonProcessingException e) {
+      throw new InvalidServiceRequestException(e);
+    }
+  }
+
+  private Map<String, String> readUrls(final String urls) {
+    try {
+      if (StringUtils.isBlank(urls)) {
+        return new HashMap<>();
+      }
+      return objectMapper.readValue(urls, new TypeReference<>() {});
+    } catch (JsonProcessingException e) {
+      throw new InvalidServiceRequestException(e);
+    }
+  }
+}
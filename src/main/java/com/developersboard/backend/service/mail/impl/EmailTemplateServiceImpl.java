@@ -0,0 +1,182 @@
+package com.developersboard.backend.service.mail.impl;
+
+import com.developersboard.backend.service.mail.EmailTemplateService;
+import com.developersboard.constant.EmailConstants;
+import com.developersboard.constant.user.UserConstants;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.unbescape.html.HtmlEscape;
+
+/**
+ * This is the implementation of the email template service.
+ *
+ * <p>The account emails differ only in the username and link of the receiver. Each of their
+ * templates is rendered once with placeholders for those values and split into its static parts,
+ * every following email joins the parts with the escaped values into a buffer of the exact size.
+ * The other urls depend on the host the request came in on, so they are part of the cache key.
+ * Every other template is processed by the template engine for each email.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class EmailTemplateServiceImpl implements EmailTemplateService {
+
+  private static final String METRIC_CACHE = "mail.templates";
+
+  /** The templates that only print the values of the receiver as text or in a link. */
+  private static final Set<String> COMPILED_TEMPLATES =
+      Set.of(
+          EmailConstants.EMAIL_VERIFY_TEMPLATE,
+          EmailConstants.EMAIL_WELCOME_TEMPLATE,
+          EmailConstants.PASSWORD_RESET_TEMPLATE,
+          EmailConstants.PASSWORD_UPDATE_TEMPLATE);
+
+  /** The urls that change with every receiver. */
+  private static final List<String> RECEIVER_URLS =
+      List.of(UserConstants.USERNAME, EmailConstants.EMAIL_LINK);
+
+  /** The values that a template condition reads as false, which a placeholder cannot stand for. */
+  private static final Set<String> FALSE_VALUES = Set.of("false", "off", "no");
+
+  /** Unique to the instance, so that no real value can be mistaken for a placeholder. */
+  private final String placeholder =
+      "emailTemplateValue" + UUID.randomUUID().toString().replace("-", "");
+
+  private final boolean cacheEnabled;
+  private final TemplateEngine templateEngine;
+  private final Cache<TemplateKey, CompiledTemplate> compiledTemplates;
+
+  public EmailTemplateServiceImpl(
+      TemplateEngine templateEngine,
+      MeterRegistry meterRegistry,
+      @Value("${mail.template.cache.enabled}") boolean cacheEnabled,
+      @Value("${mail.template.cache.maxSize}") int cacheMaxSize) {
+
+    this.templateEngine = templateEngine;
+    this.cacheEnabled = cacheEnabled;
+    this.compiledTemplates = Caffeine.newBuilder().maximumSize(cacheMaxSize).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, compiledTemplates, METRIC_CACHE);
+  }
+
+  @Override
+  public String render(final String template, final Map<String, String> urls) {
+    if (!cacheEnabled || Objects.isNull(urls) || !COMPILED_TEMPLATES.contains(template)) {
+      return process(template, urls);
+    }
+
+    Map<String, String> sharedUrls = new HashMap<>(urls);
+    var values = new String[RECEIVER_URLS.size()];
+    List<String> receiverUrls = new ArrayList<>(values.length);
+    for (int i = 0; i < values.length; i++) {
+      var value = sharedUrls.remove(RECEIVER_URLS.get(i));
+      if (Objects.nonNull(value)) {
+        if (FALSE_VALUES.contains(value.toLowerCase(Locale.ROOT))) {
+          return process(template, urls);
+        }
+        values[i] = value;
+        receiverUrls.add(RECEIVER_URLS.get(i));
+      }
+    }
+
+    var key = new TemplateKey(template, sharedUrls, receiverUrls);
+    return compiledTemplates.get(key, this::compile).render(values);
+  }
+
+  private String process(final String template, final Map<String, String> urls) {
+    var context = new Context();
+    context.setVariable(EmailConstants.URLS, urls);
+    return templateEngine.process(template, context);
+  }
+
+  /**
+   * Renders the template with a placeholder in place of each value of the receiver, then splits it
+   * at the placeholders.
+   *
+   * @param key the template and its shared urls
+   * @return the compiled template
+   */
+  private CompiledTemplate compile(final TemplateKey key) {
+    Map<String, String> urls = new HashMap<>(key.sharedUrls());
+    for (String receiverUrl : key.receiverUrls()) {
+      var index = RECEIVER_URLS.indexOf(receiverUrl);
+      urls.put(receiverUrl, placeholder + index + '_');
+    }
+    var rendered = process(key.template(), urls);
+
+    List<String> parts = new ArrayList<>();
+    List<Integer> fields = new ArrayList<>();
+    var start = 0;
+    var found = rendered.indexOf(placeholder);
+    while (found >= 0) {
+      var indexStart = found + placeholder.length();
+      var indexEnd = rendered.indexOf('_', indexStart);
+      parts.add(rendered.substring(start, found));
+      fields.add(Integer.parseInt(rendered.substring(indexStart, indexEnd)));
+      start = indexEnd + 1;
+      found = rendered.indexOf(placeholder, start);
+    }
+    parts.add(rendered.substring(start));
+    LOG.debug("Compiled template {} into {} part(s)", key.template(), parts.size());
+
+    return new CompiledTemplate(
+        parts.toArray(String[]::new),
+        fields.stream().mapToInt(Integer::intValue).toArray(),
+        parts.stream().mapToInt(String::length).sum());
+  }
+
+  /**
+   * A template with the urls that the emails rendered from it share.
+   *
+   * @param template the template
+   * @param sharedUrls the urls that are the same for every receiver
+   * @param receiverUrls the names of the urls that are set for the receiver
+   */
+  private record TemplateKey(
+      String template, Map<String, String> sharedUrls, List<String> receiverUrls) {}
+
+  /**
+   * A rendered template split at the values of the receiver.
+   *
+   * @param parts the static parts, one more than there are fields
+   * @param fields the index of the receiver value that follows each part
+   * @param length the length of all static parts
+   */
+  private record CompiledTemplate(String[] parts, int[] fields, int length) {
+
+    private String render(final String[] values) {
+      // Values are escaped like the template engine escapes text and attributes.
+      var escaped = new String[values.length];
+      var size = length;
+      for (int field : fields) {
+        if (Objects.isNull(escaped[field])) {
+          escaped[field] = HtmlEscape.escapeHtml4Xml(values[field]);
+        }
+        size += escaped[field].length();
+      }
+
+      var body = new StringBuilder(size);
+      for (int i = 0; i < fields.length; i++) {
+        body.append(parts[i]).append(escaped[fields[i]]);
+      }
+      return body.append(parts[fields.length]).toString();
+    }
+  }
+}
@@ -0,0 +1,220 @@
+package com.developersboard.backend.service.mail.impl;
+
+import jakarta.mail.Address;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+/**
+ * A JavaMailSender that keeps its SMTP connections open between sends.
+ *
+ * <p>The messages of a single send are already written over one connection, this class also hands
+ * the connection back to a pool instead of closing it, so the next send skips the TLS handshake and
+ * the authentication. A connection is closed once it has carried the maximum number of messages,
+ * once it fails, or when it has been idle for longer than the idle timeout. At most the maximum
+ * number of connections are open at any time, further sends wait for one to be returned.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+  private final int maxMessagesPerConnection;
+  private final long idleTimeoutNanos;
+
+  private final Semaphore permits;
+  private final Deque<PooledConnection> idleConnections = new ArrayDeque<>();
+  private final AtomicLong connectionsOpened = new AtomicLong();
+
+  /**
+   * Creates a pooled sender, configured like any other JavaMailSenderImpl.
+   *
+   * @param maxConnections the most connections open at a time
+   * @param maxMessagesPerConnection the most messages sent over one connection
+   * @param idleTimeout how long a connection may stay unused in the pool
+   */
+  public PooledJavaMailSender(
+      final int maxConnections, final int maxMessagesPerConnection, final Duration idleTimeout) {
+    this.maxMessagesPerConnection = maxMessagesPerConnection;
+    this.idleTimeoutNanos = idleTimeout.toNanos();
+    this.permits = new Semaphore(maxConnections, true);
+  }
+
+  /**
+   * The number of connections opened since the sender was created.
+   *
+   * @return the number of connections opened
+   */
+  public long getConnectionsOpened() {
+    return connectionsOpened.get();
+  }
+
+  /**
+   * The number of open connections waiting in the pool.
+   *
+   * @return the number of idle connections
+   */
+  public synchronized int getIdleConnections() {
+    return idleConnections.size();
+  }
+
+  /**
+   * Borrows a connection from the pool, or opens one if none is idle. The connection returns to the
+   * pool when the sender closes it.
+   *
+   * @return the connected transport
+   * @throws MessagingException if no connection can be opened
+   */
+  @Override
+  protected Transport connectTransport() throws MessagingException {
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MessagingException("Interrupted while waiting for a mail server connection", e);
+    }
+
+    try {
+      var connection = pollIdleConnection();
+      if (connection == null) {
+        connection = new PooledConnection(super.connectTransport());
+        LOG.debug("Opened mail server connection {}", connectionsOpened.incrementAndGet());
+      }
+      return new LeasedTransport(connection);
+    } catch (MessagingException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /** Closes the idle connections, the connections in use are closed when they are returned. */
+  @Override
+  public synchronized void destroy() {
+    idleConnections.forEach(PooledConnection::close);
+    idleConnections.clear();
+  }
+
+  /**
+   * Takes the most recently used idle connection that is still open, closing the connections that
+   * have been idle for too long along the way.
+   *
+   * @return an open connection or null if there is none
+   */
+  private PooledConnection pollIdleConnection() {
+    while (true) {
+      PooledConnection connection;
+      synchronized (this) {
+        evictIdleConnections(System.nanoTime());
+        connection = idleConnections.pollFirst();
+      }
+      if (connection == null) {
+        return null;
+      }
+      // Checking the connection costs a round trip, which is paid once per send, not per message.
+      if (connection.transport.isConnected()) {
+        return connection;
+      }
+      connection.close();
+    }
+  }
+
+  private synchronized void evictIdleConnections(final long now) {
+    while (!idleConnections.isEmpty()
+        && now - idleConnections.peekLast().idleSince > idleTimeoutNanos) {
+      idleConnections.pollLast().close();
+    }
+  }
+
+  private void release(final PooledConnection connection) {
+    try {
+      if (connection.isReusable()) {
+        connection.idleSince = System.nanoTime();
+        synchronized (this) {
+          idleConnections.offerFirst(connection);
+        }
+      } else {
+        connection.close();
+      }
+    } finally {
+      permits.release();
+    }
+  }
+
+  /** An open connection to the mail server and the number of messages it has carried. */
+  private final class PooledConnection {
+
+    private final Transport transport;
+    private int messagesSent;
+    private boolean failed;
+    private long idleSince;
+
+    private PooledConnection(final Transport transport) {
+      this.transport = transport;
+    }
+
+    private boolean isReusable() {
+      return !failed && messagesSent < maxMessagesPerConnection;
+    }
+
+    private void close() {
+      try {
+        transport.close();
+      } catch (MessagingException e) {
+        LOG.debug("Failed to close mail server connection", e);
+      }
+    }
+  }
+
+  /**
+   * The transport handed to a single send, closing it hands the connection back to the pool.
+   *
+   * <p>The sender checks the transport before every message, this only reports the state known to
+   * the pool, a connection that failed or carried the maximum number of messages reads as closed so
+   * that the sender moves on to another connection.
+   */
+  private final class LeasedTransport extends Transport {
+
+    private final PooledConnection connection;
+    private boolean released;
+
+    private LeasedTransport(final PooledConnection connection) {
+      super(getSession(), connection.transport.getURLName());
+      this.connection = connection;
+    }
+
+    @Override
+    public void sendMessage(final Message message, final Address[] addresses)
+        throws MessagingException {
+      try {
+        connection.transport.sendMessage(message, addresses);
+        connection.messagesSent++;
+      } catch (MessagingException | RuntimeException e) {
+        connection.failed = true;
+        throw e;
+      }
+    }
+
+    @Override
+    public synchronized boolean isConnected() {
+      return !released && connection.isReusable();
+    }
+
+    @Override
+    public synchronized void close() {
+      if (!released) {
+        released = true;
+        release(connection);
+      }
+    }
+  }
+}
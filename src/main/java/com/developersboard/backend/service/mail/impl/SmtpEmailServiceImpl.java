@@ -1,10 +1,13 @@
 package com.developersboard.backend.service.mail.impl;
 
+import com.developersboard.backend.service.mail.EmailOutboxService;
+import com.developersboard.backend.service.mail.EmailTemplateService;
 import com.developersboard.config.properties.SystemProperties;
 import com.developersboard.constant.EmailConstants;
 import com.developersboard.constant.EnvConstants;
 import com.developersboard.exception.InvalidServiceRequestException;
 import com.developersboard.web.payload.request.mail.HtmlEmailRequest;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
@@ -12,21 +15,27 @@ import java.io.FileNotFoundException;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 /**
  * SmtpEmailServiceImpl Class has the operation of email sending in real time.
  *
+ * <p>Account emails are written to the {@link EmailOutboxService} when the outbox is enabled, so
+ * the request that triggers them never waits on the mail server. Every other email is sent right
+ * away.
+ *
  * @author Eric Opoku
  * @version 1.0
  * @see com.developersboard.backend.service.mail.EmailService
@@ -34,13 +43,38 @@ import org.thymeleaf.context.Context;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Profile({EnvConstants.PRODUCTION, EnvConstants.INTEGRATION_TEST, EnvConstants.INTEGRATION_TEST_CI})
 public class SmtpEmailServiceImpl extends AbstractEmailServiceImpl {
 
+  private static final String METRIC_RENDER = "mail.template.render";
+  private static final String TAG_TEMPLATE = "template";
+
+  private final boolean outboxEnabled;
+  private final int maxMessagesPerConnection;
+
   private final SystemProperties systemProps;
   private final JavaMailSender mailSender;
-  private final TemplateEngine templateEngine;
+  private final EmailTemplateService emailTemplateService;
+  private final EmailOutboxService emailOutboxService;
+  private final MeterRegistry meterRegistry;
+
+  public SmtpEmailServiceImpl(
+      SystemProperties systemProps,
+      JavaMailSender mailSender,
+      EmailTemplateService emailTemplateService,
+      EmailOutboxService emailOutboxService,
+      MeterRegistry meterRegistry,
+      @Value("${mail.outbox.enabled}") boolean outboxEnabled,
+      @Value("${mail.smtp.pool.maxMessagesPerConnection}") int maxMessagesPerConnection) {
+
+    this.systemProps = systemProps;
+    this.mailSender = mailSender;
+    this.emailTemplateService = emailTemplateService;
+    this.emailOutboxService = emailOutboxService;
+    this.meterRegistry = meterRegistry;
+    this.outboxEnabled = outboxEnabled;
+    this.maxMessagesPerConnection = maxMessagesPerConnection;
+  }
 
   /**
    * Sends an email with the provided simple mail message object.
@@ -57,7 +91,7 @@ public class SmtpEmailServiceImpl extends AbstractEmailServiceImpl {
   @Override
   public void sendHtmlEmail(final HtmlEmailRequest emailRequest) {
     try {
-      LOG.info("Template used is {}", templateEngine);
+      LOG.info("Template used is {}", emailRequest.getTemplate());
       LOG.debug("Sending html email with details {}", emailRequest);
 
       MimeMessage mimeMessage = prepareMimeMessage(emailRequest);
@@ -69,10 +103,45 @@ public class SmtpEmailServiceImpl extends AbstractEmailServiceImpl {
     }
   }
 
+  /**
+   * Sends the emails in batches of at most the messages carried by one connection, so that each
+   * batch is written over a single connection. A batch that fails does not stop the next ones, the
+   * emails that could not be sent are reported together at the end.
+   *
+   * @param emailRequests the emails
+   */
+  @Override
+  public void sendHtmlEmails(final List<HtmlEmailRequest> emailRequests) {
+    Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+
+    for (int from = 0; from < emailRequests.size(); from += maxMessagesPerConnection) {
+      var batch =
+          emailRequests.subList(
+              from, Math.min(from + maxMessagesPerConnection, emailRequests.size()));
+      try {
+        var mimeMessages = new MimeMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+          mimeMessages[i] = prepareMimeMessage(batch.get(i));
+        }
+        mailSender.send(mimeMessages);
+      } catch (MessagingException | FileNotFoundException | UnsupportedEncodingException e) {
+        throw new InvalidServiceRequestException(e);
+      } catch (MailSendException e) {
+        LOG.warn("Failed to send {} of {} email(s)", e.getFailedMessages().size(), batch.size());
+        failedMessages.putAll(e.getFailedMessages());
+      }
+    }
+
+    if (!failedMessages.isEmpty()) {
+      throw new MailSendException(failedMessages);
+    }
+    LOG.info("Sent {} html email(s)", emailRequests.size());
+  }
+
   @Override
   public void sendHtmlEmailWithAttachment(final HtmlEmailRequest emailRequest) {
     try {
-      LOG.info("Template used is {}", templateEngine);
+      LOG.info("Template used is {}", emailRequest.getTemplate());
       LOG.debug("Sending html email with details {}", emailRequest);
 
       mailSender.send(prepareMimeMessage(emailRequest));
@@ -83,6 +152,15 @@ public class SmtpEmailServiceImpl extends AbstractEmailServiceImpl {
     }
   }
 
+  @Override
+  protected void sendAccountEmail(final HtmlEmailRequest emailRequest) {
+    if (outboxEnabled) {
+      emailOutboxService.enqueue(emailRequest);
+    } else {
+      sendHtmlEmail(emailRequest);
+    }
+  }
+
   /**
    * Prepares a MimeMessage with the provided EmailFormat.
    *
@@ -92,10 +170,6 @@ public class SmtpEmailServiceImpl extends AbstractEmailServiceImpl {
   private MimeMessage prepareMimeMessage(final HtmlEmailRequest emailFormat)
       throws MessagingException, UnsupportedEncodingException, FileNotFoundException {
 
-    var context = new Context();
-    context.setVariable(EmailConstants.URLS, emailFormat.getUrls());
-    emailFormat.setContext(context);
-
     var withAttachment = CollectionUtils.isNotEmpty(emailFormat.getAttachments());
 
     MimeMessage mimeMessage = mailSender.createMimeMessage();
@@ -107,7 +181,11 @@ public class SmtpEmailServiceImpl extends AbstractEmailServiceImpl {
     if (!emailFormat.getRecipients().isEmpty()) {
       helper.setCc(emailFormat.getRecipients().toArray(String[]::new));
     }
-    String body = templateEngine.process(emailFormat.getTemplate(), emailFormat.getContext());
+    var template = emailFormat.getTemplate();
+    String body =
+        meterRegistry
+            .timer(METRIC_RENDER, TAG_TEMPLATE, template)
+            .record(() -> emailTemplateService.render(template, emailFormat.getUrls()));
     helper.setText(body, true);
     helper.setSubject(emailFormat.getSubject());
     // set up the senders address with the given name
@@ -11,12 +11,15 @@ package com.developersboard.backend.service.security;
 public interface BruteForceProtectionService {
 
   /**
-   * Method to register every login failure attempt for a given username. We will be using a simple
-   * counter to keep track of the failed attempts.
+   * Method to register every login failure attempt for a given username and client. The attempts
+   * are counted in memory within a sliding window, and the account is locked once the threshold is
+   * exceeded. A login with an email is counted under the username of the account if its details
+   * are cached, as they are once the login has loaded them.
    *
-   * @param username the username
+   * @param usernameOrEmail the username or email the login was attempted with
+   * @param clientIp the client address, may be null
    */
-  void registerLoginFailure(final String username);
+  void registerLoginFailure(final String usernameOrEmail, final String clientIp);
 
   /**
    * Method to reset the counter for successful login. We want to make sure that we are setting the
@@ -27,11 +30,15 @@ public interface BruteForceProtectionService {
   void resetBruteForceCounter(final String username);
 
   /**
-   * check if the user account is under brute force attack, this will check the failed count with
-   * threshold value and will return true if the failed count exceeds the threshold value.
+   * check if the user account or client is under brute force attack, this will check the failed
+   * counts within the window with the threshold values and will return true if either exceeds its
+   * threshold value.
+   *
+   * <p>The username must be the username of the account, as loaded for the login, not an email.
    *
    * @param username the username
+   * @param clientIp the client address, may be null
    * @return if the user account is under brute force attack
    */
-  boolean isBruteForceAttack(final String username);
+  boolean isBruteForceAttack(final String username, final String clientIp);
 }
@@ -1,7 +1,9 @@
 package com.developersboard.backend.service.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Date;
+import org.springframework.security.core.userdetails.UserDetails;
 
 /**
  * This is the contract for the jwt service operations.
@@ -29,6 +31,19 @@ public interface JwtService {
    */
   String generateJwtToken(String username, Date expiration);
 
+  /**
+   * Generate a JwtToken that carries the user principal in its claims.
+   *
+   * @param userDetails the userDetails
+   * @param id the id of the user
+   * @param publicId the public id of the user
+   * @param email the email of the user
+   * @param expiration the expiration date
+   * @return the token
+   */
+  String generateJwtToken(
+      UserDetails userDetails, Long id, String publicId, String email, Date expiration);
+
   /**
    * Retrieve username from the token.
    *
@@ -53,4 +68,12 @@ public interface JwtService {
    * @return if valid or not
    */
   boolean isValidJwtToken(String token);
+
+  /**
+   * Verifies the Jwt token passed to it and returns its claims.
+   *
+   * @param token the token
+   * @return the claims or null if the token is not valid
+   */
+  Claims getVerifiedClaims(String token);
 }
@@ -0,0 +1,34 @@
+package com.developersboard.backend.service.security;
+
+/**
+ * This is the contract for recording login outcomes. The outcomes are queued and written to the
+ * users in batches off the request thread.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+public interface LoginEventService {
+
+  /**
+   * Records a successful login, which clears the failed login attempts of the user.
+   *
+   * @param username the username
+   */
+  void recordLoginSuccess(String username);
+
+  /**
+   * Records a failed login.
+   *
+   * @param username the username
+   * @param failedLoginAttempts the failed login attempts of the user so far
+   */
+  void recordLoginFailure(String username, int failedLoginAttempts);
+
+  /**
+   * Writes all queued login outcomes, coalescing the outcomes of each user into one update.
+   *
+   * @return the number of login outcomes written
+   */
+  int flush();
+}
@@ -0,0 +1,31 @@
+package com.developersboard.backend.service.security;
+
+import java.util.Date;
+
+/**
+ * This is the contract for revoking tokens that carry the user principal in their claims. Such
+ * tokens are trusted without loading the user, so any change to the user's security state must
+ * revoke the tokens issued before it.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+public interface TokenRevocationService {
+
+  /**
+   * Revokes all tokens issued to the user up to now.
+   *
+   * @param publicId the publicId of the user
+   */
+  void revokeTokens(String publicId);
+
+  /**
+   * Checks if a token issued to the user at the given time has been revoked.
+   *
+   * @param publicId the publicId of the user
+   * @param issuedAt when the token was issued
+   * @return if the token is revoked
+   */
+  boolean isRevoked(String publicId, Date issuedAt);
+}
@@ -2,153 +2,220 @@ package com.developersboard.backend.service.security.impl;
 
 import com.developersboard.backend.persistent.repository.UserRepository;
 import com.developersboard.backend.service.security.BruteForceProtectionService;
+import com.developersboard.backend.service.security.LoginEventService;
+import com.developersboard.backend.service.security.TokenRevocationService;
+import com.developersboard.backend.service.user.UserDetailsCacheService;
 import com.developersboard.constant.CacheConstants;
 import com.developersboard.constant.user.UserConstants;
+import com.developersboard.enums.UserCacheEvictionCause;
 import com.developersboard.shared.util.core.ValidationUtils;
-import java.time.LocalDateTime;
-import java.util.Comparator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import lombok.Data;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * This is the implementation of the brute force protection service.
  *
+ * <p>Failed logins are counted in memory over a sliding window, once per username and once per
+ * client address. A username or client is blocked once its failed logins within the window exceed
+ * its limit. Logins with an email are counted under the username of the account, so that both
+ * identifiers share one counter. The account is looked up in the cached user details, which the
+ * failed login has just loaded, so a failure does not query the database. An identifier of no
+ * cached account, such as an unknown one, is counted as it was typed. The user record is only updated synchronously when the account
+ * gets locked, all other outcomes are handed to the {@link LoginEventService} to be written in
+ * batches.
+ *
  * @author Eric Opoku
  * @version 1.0
  * @since 1.0
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class BruteForceProtectionServiceImpl implements BruteForceProtectionService {
 
-  @Value("${security.failedLoginAttempts}")
-  private int maxFailedLogins;
+  private static final int WINDOW_BUCKETS = 10;
+  private static final String METRIC_FAILURES = "security.login.failures";
+  private static final String METRIC_TRACKED = "security.login.tracked";
+  private static final String METRIC_BLOCKED = "security.login.blocked";
+  private static final String METRIC_LOCKED = "security.login.locked";
+  private static final String TAG_KEY = "key";
+  private static final String USERNAME_KEY = "username";
+  private static final String CLIENT_KEY = "client";
 
-  @Value("${brute.force.cache.maxSize}")
-  private int cacheMaxLimit;
+  private final int maxFailedLogins;
+  private final int maxClientFailedLogins;
+  private final Duration window;
 
   private final UserRepository userRepository;
+  private final TokenRevocationService tokenRevocationService;
+  private final LoginEventService loginEventService;
+  private final CacheManager cacheManager;
+  private final UserDetailsCacheService userDetailsCacheService;
+
+  private final Cache<String, SlidingWindowCounter> usernameFailures;
+  private final Cache<String, SlidingWindowCounter> clientFailures;
+
+  private final Counter usernameFailureCounter;
+  private final Counter clientFailureCounter;
+  private final Counter blockedCounter;
+  private final Counter lockedCounter;
+
+  public BruteForceProtectionServiceImpl(
+      UserRepository userRepository,
+      TokenRevocationService tokenRevocationService,
+      LoginEventService loginEventService,
+      CacheManager cacheManager,
+      UserDetailsCacheService userDetailsCacheService,
+      MeterRegistry meterRegistry,
+      @Value("${security.failedLoginAttempts}") int maxFailedLogins,
+      @Value("${brute.force.client.maxFailedLogins}") int maxClientFailedLogins,
+      @Value("${brute.force.window}") Duration window,
+      @Value("${brute.force.cache.maxSize}") int cacheMaxLimit) {
 
-  private final Map<String, FailedLogin> cache;
-
-  @Autowired
-  public BruteForceProtectionServiceImpl(UserRepository userRepository) {
     this.userRepository = userRepository;
-    this.cache = new ConcurrentHashMap<>(cacheMaxLimit); // setting max limit for cache
+    this.tokenRevocationService = tokenRevocationService;
+    this.loginEventService = loginEventService;
+    this.cacheManager = cacheManager;
+    this.userDetailsCacheService = userDetailsCacheService;
+    this.maxFailedLogins = maxFailedLogins;
+    this.maxClientFailedLogins = maxClientFailedLogins;
+    this.window = window;
+
+    // Counters are dropped once their window has passed without new failures, or when the
+    // least valuable entries are evicted to honor the size limit.
+    this.usernameFailures =
+        Caffeine.newBuilder().maximumSize(cacheMaxLimit).expireAfterAccess(window).build();
+    this.clientFailures =
+        Caffeine.newBuilder().maximumSize(cacheMaxLimit).expireAfterAccess(window).build();
+
+    this.usernameFailureCounter = meterRegistry.counter(METRIC_FAILURES, TAG_KEY, USERNAME_KEY);
+    this.clientFailureCounter = meterRegistry.counter(METRIC_FAILURES, TAG_KEY, CLIENT_KEY);
+    this.blockedCounter = meterRegistry.counter(METRIC_BLOCKED);
+    this.lockedCounter = meterRegistry.counter(METRIC_LOCKED);
+    Gauge.builder(METRIC_TRACKED, usernameFailures, Cache::estimatedSize)
+        .tag(TAG_KEY, USERNAME_KEY)
+        .register(meterRegistry);
+    Gauge.builder(METRIC_TRACKED, clientFailures, Cache::estimatedSize)
+        .tag(TAG_KEY, CLIENT_KEY)
+        .register(meterRegistry);
   }
 
   @Override
-  @Caching(
-      evict = {
-        @CacheEvict(value = CacheConstants.USERS, key = "#username"),
-        @CacheEvict(value = CacheConstants.USER_DETAILS, allEntries = true)
-      })
-  @Transactional
-  public void registerLoginFailure(final String username) {
-    ValidationUtils.validateInputs(username, UserConstants.BLANK_USERNAME);
+  public void registerLoginFailure(final String usernameOrEmail, final String clientIp) {
+    ValidationUtils.validateInputs(usernameOrEmail, UserConstants.BLANK_USERNAME);
+
+    var username = resolveUsername(usernameOrEmail);
+    var now = System.currentTimeMillis();
+    if (StringUtils.isNotBlank(clientIp)) {
+      clientFailures.get(clientIp, key -> newCounter()).increment(now);
+      clientFailureCounter.increment();
+    }
 
-    var user = userRepository.findByUsername(username);
+    var failedAttempts =
+        usernameFailures.get(normalize(username), key -> newCounter()).increment(now);
+    usernameFailureCounter.increment();
+    LOG.debug("User {} has {} failed login attempts", username, failedAttempts);
 
-    if (Objects.nonNull(user) && user.isAccountNonLocked()) {
-      var failedAttempts = user.getFailedLoginAttempts();
-      if (maxFailedLogins < failedAttempts + 1) {
-        LOG.info("User {} is locked due to {} failed login attempts", username, failedAttempts);
-        // disable user account
-        user.setAccountNonLocked(false);
-      } else {
-        // increment failed login attempts
-        user.setFailedLoginAttempts(failedAttempts + 1);
-        LOG.debug("User {} has {} failed login attempts", username, failedAttempts + 1);
-      }
+    if (maxFailedLogins < failedAttempts) {
+      lockAccount(username, failedAttempts);
     } else {
-      LOG.warn("User {} is not found or is already locked", username);
+      loginEventService.recordLoginFailure(username, failedAttempts);
     }
   }
 
   @Override
-  @Caching(
-      evict = {
-        @CacheEvict(value = CacheConstants.USERS, key = "#username"),
-        @CacheEvict(value = CacheConstants.USER_DETAILS, allEntries = true)
-      })
-  @Transactional
   public void resetBruteForceCounter(final String username) {
     ValidationUtils.validateInputs(username, UserConstants.BLANK_USERNAME);
-
-    var user = userRepository.findByUsername(username);
-
-    if (Objects.nonNull(user)) {
-      user.setFailedLoginAttempts(0);
-      user.setLastSuccessfulLogin(LocalDateTime.now());
-      // if the user is not locked, then there is no need to update the accountNonLocked field
-      if (!user.isAccountNonLocked()) {
-        user.setAccountNonLocked(true);
-      }
-    } else {
-      LOG.warn("User {} is not found", username);
-    }
+    usernameFailures.invalidate(normalize(username));
+    loginEventService.recordLoginSuccess(username);
   }
 
   @Override
-  public boolean isBruteForceAttack(final String username) {
-    ValidationUtils.validateInputs(username, UserConstants.BLANK_USERNAME);
+  public boolean isBruteForceAttack(final String username, final String clientIp) {
+    var now = System.currentTimeMillis();
 
-    if (userRepository.existsByUsernameAndFailedLoginAttemptsGreaterThanOrderById(
-        username, maxFailedLogins)) {
+    var usernameCounter =
+        StringUtils.isBlank(username) ? null : usernameFailures.getIfPresent(normalize(username));
+    var clientCounter =
+        StringUtils.isBlank(clientIp) ? null : clientFailures.getIfPresent(clientIp);
+
+    if ((Objects.nonNull(usernameCounter) && usernameCounter.count(now) > maxFailedLogins)
+        || (Objects.nonNull(clientCounter) && clientCounter.count(now) > maxClientFailedLogins)) {
 
       LOG.debug(
-          "Possible bruteforce attack on username {} and maxFailedLogins {}",
+          "Possible bruteforce attack on username {} from client {} within {}",
           username,
-          maxFailedLogins);
+          clientIp,
+          window);
+      blockedCounter.increment();
       return true;
     }
     return false;
   }
 
-  protected FailedLogin getFailedLogin(final String username) {
-    var failedLogin = cache.get(username.toLowerCase(Locale.getDefault()));
-
-    if (Objects.isNull(failedLogin)) {
-      // setup the initial data
-      failedLogin = new FailedLogin(0, LocalDateTime.now());
-      cache.put(username.toLowerCase(Locale.getDefault()), failedLogin);
-      if (cache.size() > cacheMaxLimit) {
-        // remove the oldest entry based on localDateTime
-        cache.entrySet().stream()
-            .min(Map.Entry.comparingByValue(Comparator.comparing(FailedLogin::getDate)))
-            .ifPresent(entry -> cache.remove(entry.getKey()));
-      }
+  /**
+   * Locks the account once its failed logins exceed the limit within the window. This is the only
+   * point where a failed login reaches the database.
+   *
+   * @param username the username
+   * @param failedAttempts the failed attempts within the window
+   */
+  private void lockAccount(final String username, final int failedAttempts) {
+    var user = userRepository.findByUsername(username);
+
+    if (Objects.nonNull(user) && user.isAccountNonLocked()) {
+      LOG.info("User {} is locked due to {} failed login attempts", username, failedAttempts);
+      user.setFailedLoginAttempts(failedAttempts);
+      user.setAccountNonLocked(false);
+      userRepository.save(user);
+      tokenRevocationService.revokeTokens(user.getPublicId());
+      userDetailsCacheService.evictById(user.getId(), UserCacheEvictionCause.LOCKED);
+      evictCachedUser(username);
+      lockedCounter.increment();
+    } else {
+      LOG.warn("User {} is not found or is already locked", username);
     }
-    return failedLogin;
   }
 
-  @Data
-  public static class FailedLogin {
-
-    private int count;
-    private LocalDateTime date;
-
-    public FailedLogin() {
-      this.count = 0;
-      this.date = LocalDateTime.now();
+  private void evictCachedUser(final String username) {
+    var users = cacheManager.getCache(CacheConstants.USERS);
+    if (Objects.nonNull(users)) {
+      users.evict(username);
     }
+  }
 
-    public FailedLogin(int count, LocalDateTime date) {
-      this.count = count;
-      this.date = date;
+  /**
+   * Resolves the username or email of a login to the username of the account from the cached user
+   * details. An identifier whose account is not cached is counted as it was typed.
+   *
+   * @param usernameOrEmail the username or email of the login
+   * @return the username of the account or the identifier if it is not cached
+   */
+  private String resolveUsername(final String usernameOrEmail) {
+    var identifier = usernameOrEmail.strip();
+    var userDetails = userDetailsCacheService.get(identifier);
+    if (Objects.nonNull(userDetails)) {
+      return userDetails.getUsername();
     }
+    LOG.debug("No cached account for the failed login of {}", identifier);
+    return identifier;
+  }
+
+  private SlidingWindowCounter newCounter() {
+    return new SlidingWindowCounter(window, WINDOW_BUCKETS);
+  }
+
+  private static String normalize(final String username) {
+    return username.toLowerCase(Locale.ROOT);
   }
 }
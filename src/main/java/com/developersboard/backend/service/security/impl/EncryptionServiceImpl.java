@@ -11,6 +11,7 @@ import java.security.spec.InvalidKeySpecException;
 import java.security.spec.KeySpec;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Objects;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
@@ -52,6 +53,10 @@ public class EncryptionServiceImpl implements EncryptionService {
   private final transient String password;
   private final transient String salt;
 
+  // Cipher instances are not thread-safe, so each thread keeps and re-initializes its own.
+  private final transient ThreadLocal<Cipher> cipherHolder = new ThreadLocal<>();
+  private transient volatile SecretKey secretKey;
+
   public EncryptionServiceImpl(
       @Value("${encryption.secret.password}") String password,
       @Value("${encryption.secret.salt}") String salt) {
@@ -75,9 +80,9 @@ public class EncryptionServiceImpl implements EncryptionService {
       byte[] iv = new byte[GCM_IV_LENGTH];
       RANDOM.nextBytes(iv);
 
-      Cipher cipher = Cipher.getInstance(ENCRYPT_ALGORITHM);
+      Cipher cipher = getCipher();
       GCMParameterSpec ivSpec = new GCMParameterSpec(GCM_TAG_LENGTH * Byte.SIZE, iv);
-      cipher.init(Cipher.ENCRYPT_MODE, getKeyFromPassword(), ivSpec);
+      cipher.init(Cipher.ENCRYPT_MODE, getSecretKey(), ivSpec);
 
       byte[] ciphertext = cipher.doFinal(text.getBytes(StandardCharsets.UTF_8));
       byte[] encrypted = new byte[iv.length + ciphertext.length];
@@ -112,9 +117,9 @@ public class EncryptionServiceImpl implements EncryptionService {
       byte[] decoded = Base64.getDecoder().decode(encryptedText);
       byte[] iv = Arrays.copyOfRange(decoded, 0, GCM_IV_LENGTH);
 
-      Cipher cipher = Cipher.getInstance(ENCRYPT_ALGORITHM);
+      Cipher cipher = getCipher();
       GCMParameterSpec ivSpec = new GCMParameterSpec(GCM_TAG_LENGTH * Byte.SIZE, iv);
-      cipher.init(Cipher.DECRYPT_MODE, getKeyFromPassword(), ivSpec);
+      cipher.init(Cipher.DECRYPT_MODE, getSecretKey(), ivSpec);
 
       byte[] ciphertext = cipher.doFinal(decoded, GCM_IV_LENGTH, decoded.length - GCM_IV_LENGTH);
 
@@ -147,6 +152,41 @@ public class EncryptionServiceImpl implements EncryptionService {
     return UriUtils.decode(encodedTest, StandardCharsets.UTF_8.name());
   }
 
+  /**
+   * Returns the cipher bound to the current thread, creating it on first use.
+   *
+   * @return the cipher
+   * @throws NoSuchAlgorithmException if the transformation is not supported
+   * @throws NoSuchPaddingException if the padding scheme is not supported
+   */
+  private Cipher getCipher() throws NoSuchAlgorithmException, NoSuchPaddingException {
+    Cipher cipher = cipherHolder.get();
+    if (Objects.isNull(cipher)) {
+      cipher = Cipher.getInstance(ENCRYPT_ALGORITHM);
+      cipherHolder.set(cipher);
+    }
+    return cipher;
+  }
+
+  /**
+   * Returns the secret key, deriving it from the password and salt only on first use.
+   *
+   * @return the secret key
+   */
+  private SecretKey getSecretKey() {
+    SecretKey key = secretKey;
+    if (Objects.isNull(key)) {
+      synchronized (this) {
+        key = secretKey;
+        if (Objects.isNull(key)) {
+          key = getKeyFromPassword();
+          secretKey = key;
+        }
+      }
+    }
+    return key;
+  }
+
   private SecretKey getKeyFromPassword() {
     try {
       SecretKeyFactory factory = SecretKeyFactory.getInstance(DERIVATION_FUNCTION);
@@ -4,7 +4,12 @@ import com.developersboard.backend.service.security.JwtService;
 import com.developersboard.constant.SecurityConstants;
 import com.developersboard.constant.user.UserConstants;
 import com.developersboard.enums.TokenType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -13,14 +18,21 @@ import io.jsonwebtoken.security.SecurityException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 import java.util.Objects;
+import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.time.DateUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 /**
@@ -36,10 +48,25 @@ public class JwtServiceImpl implements JwtService {
 
   private static final String TOKEN_CREATED_SUCCESS = "Token successfully created as {}";
   private static final int NUMBER_OF_DAYS_TO_EXPIRE = 1;
-  private final transient String jwtSecret;
+  private static final String TOKEN_DIGEST_ALGORITHM = "SHA-256";
+  private static final String BLANK_TOKEN = "JWT String argument cannot be null or empty.";
+  private static final int MAX_VERIFIED_TOKENS = 10_000;
+  private static final Duration MAX_VERIFIED_TOKEN_LIFETIME = Duration.ofMinutes(5);
+
+  private final transient SecretKey key;
+  private final transient JwtParser jwtParser;
+
+  // Claims of tokens that already passed verification, keyed by the token digest.
+  private final transient Cache<String, Claims> verifiedClaims;
 
   public JwtServiceImpl(@Value("${jwt.secret}") String jwtSecret) {
-    this.jwtSecret = jwtSecret;
+    this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    this.jwtParser = Jwts.parser().verifyWith(key).build();
+    this.verifiedClaims =
+        Caffeine.newBuilder()
+            .maximumSize(MAX_VERIFIED_TOKENS)
+            .expireAfter(Expiry.creating(JwtServiceImpl::getRemainingLifetime))
+            .build();
   }
 
   /**
@@ -66,8 +93,6 @@ public class JwtServiceImpl implements JwtService {
   public String generateJwtToken(final String username, final Date expiration) {
     Validate.notBlank(username, UserConstants.BLANK_USERNAME);
 
-    var key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-
     var jwtToken =
         Jwts.builder()
             .subject(username)
@@ -80,6 +105,50 @@ public class JwtServiceImpl implements JwtService {
     return jwtToken;
   }
 
+  /**
+   * Generate a JwtToken that carries the user principal in its claims.
+   *
+   * @param userDetails the userDetails
+   * @param id the id of the user
+   * @param publicId the public id of the user
+   * @param email the email of the user
+   * @param expiration the expiration date
+   * @return the token
+   */
+  @Override
+  public String generateJwtToken(
+      final UserDetails userDetails,
+      final Long id,
+      final String publicId,
+      final String email,
+      final Date expiration) {
+    Validate.notNull(userDetails, UserConstants.USER_MUST_NOT_BE_NULL);
+    Validate.notBlank(userDetails.getUsername(), UserConstants.BLANK_USERNAME);
+
+    var roles = userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+
+    var jwtToken =
+        Jwts.builder()
+            .subject(userDetails.getUsername())
+            .claim(SecurityConstants.CLAIM_USER_ID, id)
+            .claim(SecurityConstants.CLAIM_PUBLIC_ID, publicId)
+            .claim(SecurityConstants.CLAIM_EMAIL, email)
+            .claim(SecurityConstants.CLAIM_ROLES, roles)
+            .claim(SecurityConstants.CLAIM_ENABLED, userDetails.isEnabled())
+            .claim(SecurityConstants.CLAIM_ACCOUNT_NON_LOCKED, userDetails.isAccountNonLocked())
+            .claim(SecurityConstants.CLAIM_ACCOUNT_NON_EXPIRED, userDetails.isAccountNonExpired())
+            .claim(
+                SecurityConstants.CLAIM_CREDENTIALS_NON_EXPIRED,
+                userDetails.isCredentialsNonExpired())
+            .issuedAt(new Date())
+            .expiration(expiration)
+            .signWith(key)
+            .compact();
+
+    LOG.debug(TOKEN_CREATED_SUCCESS, jwtToken);
+    return jwtToken;
+  }
+
   /**
    * Retrieve username from the token.
    *
@@ -90,9 +159,7 @@ public class JwtServiceImpl implements JwtService {
   public String getUsernameFromToken(final String token) {
     Validate.notBlank(token, "Token cannot be blank");
 
-    var key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-
-    return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+    return parseClaims(token).getSubject();
   }
 
   /**
@@ -119,10 +186,19 @@ public class JwtServiceImpl implements JwtService {
    */
   @Override
   public boolean isValidJwtToken(final String token) {
-    var key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    return Objects.nonNull(getVerifiedClaims(token));
+  }
+
+  /**
+   * Verifies the Jwt token passed to it and returns its claims.
+   *
+   * @param token the token
+   * @return the claims or null if the token is not valid
+   */
+  @Override
+  public Claims getVerifiedClaims(final String token) {
     try {
-      Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-      return true;
+      return parseClaims(token);
     } catch (SecurityException e) {
       LOG.error("Invalid JWT signature: {}", e.getMessage());
     } catch (MalformedJwtException e) {
@@ -134,7 +210,57 @@ public class JwtServiceImpl implements JwtService {
     } catch (IllegalArgumentException e) {
       LOG.error("JWT claims string is empty: {}", e.getMessage());
     }
-    return false;
+    return null;
+  }
+
+  /**
+   * Parses and verifies the token, reusing the claims of tokens that were verified before.
+   *
+   * @param token the token
+   * @return the claims
+   */
+  private Claims parseClaims(final String token) {
+    if (StringUtils.isBlank(token)) {
+      throw new IllegalArgumentException(BLANK_TOKEN);
+    }
+    return verifiedClaims.get(
+        getTokenDigest(token), digest -> jwtParser.parseSignedClaims(token).getPayload());
+  }
+
+  /**
+   * Computes the digest used as the cache key so that raw tokens are not retained.
+   *
+   * @param token the token
+   * @return the digest of the token
+   */
+  private static String getTokenDigest(final String token) {
+    try {
+      var digest = MessageDigest.getInstance(TOKEN_DIGEST_ALGORITHM);
+      var hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+
+      return Base64.getEncoder().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Verified claims are kept until the token expires, but never longer than the maximum lifetime.
+   *
+   * @param digest the token digest
+   * @param claims the verified claims
+   * @return how long the claims may be reused
+   */
+  private static Duration getRemainingLifetime(final String digest, final Claims claims) {
+    var expiration = claims.getExpiration();
+    if (Objects.isNull(expiration)) {
+      return MAX_VERIFIED_TOKEN_LIFETIME;
+    }
+    var remaining = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis());
+
+    return remaining.compareTo(MAX_VERIFIED_TOKEN_LIFETIME) < 0
+        ? remaining
+        : MAX_VERIFIED_TOKEN_LIFETIME;
   }
 
   /**
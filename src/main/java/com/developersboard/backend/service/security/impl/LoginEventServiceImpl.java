@@ -0,0 +1,179 @@
+package com.developersboard.backend.service.security.impl;
+
+import com.developersboard.backend.persistent.domain.user.User;
+import com.developersboard.backend.persistent.repository.UserRepository;
+import com.developersboard.backend.service.security.LoginEventService;
+import com.developersboard.backend.service.user.UserDetailsCacheService;
+import com.developersboard.constant.CacheConstants;
+import com.developersboard.enums.UserCacheEvictionCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * This is the implementation of the login event service.
+ *
+ * <p>Login outcomes are put on a bounded queue, so a login never waits on the database. Outcomes
+ * that do not fit are dropped and counted, since the in-memory brute force counters remain the
+ * source of truth for locking accounts.
+ *
+ * <p>Each batch loads its users in one query and updates those that changed by id, in one
+ * transaction, so the updates are versioned and audited like any other change of a user. Only
+ * these users are refreshed in the second-level cache and evicted from the cached user details.
+ * As with any write to the users, the cached queries on users are invalidated by each batch.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class LoginEventServiceImpl implements LoginEventService {
+
+  private static final String METRIC_QUEUED = "security.login.events.queued";
+  private static final String METRIC_DROPPED = "security.login.events.dropped";
+  private static final String METRIC_FLUSH = "security.login.events.flush";
+
+  private final int batchSize;
+  private final UserRepository userRepository;
+  private final CacheManager cacheManager;
+  private final UserDetailsCacheService userDetailsCacheService;
+  private final TransactionTemplate transactionTemplate;
+  private final BlockingQueue<LoginEvent> queue;
+
+  private final Counter droppedCounter;
+  private final Timer flushTimer;
+
+  public LoginEventServiceImpl(
+      UserRepository userRepository,
+      CacheManager cacheManager,
+      UserDetailsCacheService userDetailsCacheService,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${login.events.queueCapacity}") int queueCapacity,
+      @Value("${login.events.batchSize}") int batchSize) {
+
+    this.userRepository = userRepository;
+    this.cacheManager = cacheManager;
+    this.userDetailsCacheService = userDetailsCacheService;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+    this.droppedCounter = meterRegistry.counter(METRIC_DROPPED);
+    this.flushTimer = meterRegistry.timer(METRIC_FLUSH);
+    Gauge.builder(METRIC_QUEUED, queue, BlockingQueue::size).register(meterRegistry);
+  }
+
+  @Override
+  public void recordLoginSuccess(final String username) {
+    enqueue(new LoginEvent(username, 0, LocalDateTime.now()));
+  }
+
+  @Override
+  public void recordLoginFailure(final String username, final int failedLoginAttempts) {
+    enqueue(new LoginEvent(username, failedLoginAttempts, null));
+  }
+
+  @Override
+  public int flush() {
+    int written = 0;
+    List<LoginEvent> batch = new ArrayList<>(batchSize);
+
+    while (queue.drainTo(batch, batchSize) > 0) {
+      flushTimer.record(() -> write(batch));
+      written += batch.size();
+      batch.clear();
+    }
+    return written;
+  }
+
+  /** Writes the remaining login outcomes before the application shuts down. */
+  @PreDestroy
+  public void shutdown() {
+    var written = flush();
+    LOG.debug("Wrote {} login event(s) on shutdown", written);
+  }
+
+  private void enqueue(final LoginEvent event) {
+    if (StringUtils.isBlank(event.username())) {
+      return;
+    }
+    if (!queue.offer(event)) {
+      LOG.warn("Login event queue is full, dropping event for user {}", event.username());
+      droppedCounter.increment();
+    }
+  }
+
+  /**
+   * Coalesces the outcomes of each user, then writes the last outcome of every user that changed.
+   *
+   * @param batch the login outcomes in the order they happened
+   */
+  private void write(final List<LoginEvent> batch) {
+    Map<String, LocalDateTime> lastSuccessfulLogins = new HashMap<>();
+    Map<String, Integer> failedLoginAttempts = new HashMap<>();
+
+    for (LoginEvent event : batch) {
+      if (Objects.nonNull(event.loginAt())) {
+        lastSuccessfulLogins.put(event.username(), event.loginAt());
+      }
+      failedLoginAttempts.put(event.username(), event.failedLoginAttempts());
+    }
+
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            for (User user : userRepository.findAllByUsernameIn(failedLoginAttempts.keySet())) {
+              var loginAt = lastSuccessfulLogins.get(user.getUsername());
+              if (Objects.nonNull(loginAt)) {
+                user.setLastSuccessfulLogin(loginAt);
+              }
+              user.setFailedLoginAttempts(failedLoginAttempts.get(user.getUsername()));
+              userDetailsCacheService.evictById(user.getId(), UserCacheEvictionCause.LOGIN);
+            }
+          });
+    } catch (OptimisticLockingFailureException e) {
+      LOG.warn("A user changed while writing {} login event(s), dropping them", batch.size(), e);
+      droppedCounter.increment(batch.size());
+      return;
+    }
+
+    evictCachedUsers(failedLoginAttempts.keySet());
+    LOG.debug("Wrote {} login event(s) for {} user(s)", batch.size(), failedLoginAttempts.size());
+  }
+
+  private void evictCachedUsers(final Iterable<String> usernames) {
+    var users = cacheManager.getCache(CacheConstants.USERS);
+    if (Objects.nonNull(users)) {
+      usernames.forEach(users::evict);
+    }
+  }
+
+  /**
+   * A login outcome of a user.
+   *
+   * @param username the username
+   * @param failedLoginAttempts the failed login attempts after the login
+   * @param loginAt when the user logged in successfully, or null if the login failed
+   */
+  private record LoginEvent(String username, int failedLoginAttempts, LocalDateTime loginAt) {}
+}
@@ -0,0 +1,83 @@
+package com.developersboard.backend.service.security.impl;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A lock-free counter of the events that happened within a sliding time window.
+ *
+ * <p>The window is split into a ring of buckets. Each bucket packs the index of the time slice it
+ * belongs to with the number of events in that slice into a single long, so that a bucket is
+ * recycled and incremented with one compare-and-set.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+public final class SlidingWindowCounter {
+
+  private static final int COUNT_BITS = 20;
+  private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+  private final long bucketMillis;
+  private final AtomicLongArray buckets;
+
+  /**
+   * Creates a counter over the given window.
+   *
+   * @param window the length of the window
+   * @param bucketCount the number of buckets the window is split into
+   */
+  public SlidingWindowCounter(final Duration window, final int bucketCount) {
+    Validate.isTrue(bucketCount > 0, "Bucket count must be positive");
+    this.bucketMillis = Math.max(1, window.toMillis() / bucketCount);
+    this.buckets = new AtomicLongArray(bucketCount);
+  }
+
+  /**
+   * Records an event at the given time.
+   *
+   * @param nowMillis the current time in milliseconds
+   * @return the number of events within the window, including this one
+   */
+  public int increment(final long nowMillis) {
+    long slice = nowMillis / bucketMillis;
+    int index = (int) (slice % buckets.length());
+
+    long current;
+    long next;
+    do {
+      current = buckets.get(index);
+      if (current >>> COUNT_BITS == slice) {
+        next = (current & COUNT_MASK) == COUNT_MASK ? current : current + 1;
+      } else {
+        // The bucket holds a slice that has left the window, so start it over.
+        next = slice << COUNT_BITS | 1;
+      }
+    } while (!buckets.compareAndSet(index, current, next));
+
+    return count(nowMillis);
+  }
+
+  /**
+   * Returns the number of events within the window.
+   *
+   * @param nowMillis the current time in milliseconds
+   * @return the number of events
+   */
+  public int count(final long nowMillis) {
+    long slice = nowMillis / bucketMillis;
+    long oldestSlice = slice - buckets.length();
+
+    int count = 0;
+    for (int i = 0; i < buckets.length(); i++) {
+      long bucket = buckets.get(i);
+      long bucketSlice = bucket >>> COUNT_BITS;
+      if (bucketSlice > oldestSlice && bucketSlice <= slice) {
+        count += (int) (bucket & COUNT_MASK);
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,98 @@
+package com.developersboard.backend.service.security.impl;
+
+import com.developersboard.backend.service.cache.CacheInvalidationBus.Invalidation;
+import com.developersboard.backend.service.cache.CacheInvalidationService;
+import com.developersboard.backend.service.security.TokenRevocationService;
+import com.developersboard.constant.CacheConstants;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * This is the implementation of the token revocation service.
+ *
+ * <p>Only the time of the latest revocation is kept per user, and only for as long as an access
+ * token can live, since older tokens have expired on their own by then. The revocations are not
+ * bounded in number, as dropping one early would accept tokens that are still valid again, so
+ * their memory grows with the revocations made within an access token lifetime. Revocations are
+ * sent to the other application nodes, a token revoked on one node is rejected by all of them.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+  private final transient Cache<String, Instant> revocations;
+  private final transient CacheInvalidationService cacheInvalidationService;
+
+  public TokenRevocationServiceImpl(
+      CacheInvalidationService cacheInvalidationService,
+      @Value("${access-token-expiration-in-minutes}") int accessTokenExpirationInMinutes) {
+    this.cacheInvalidationService = cacheInvalidationService;
+    this.revocations =
+        Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(accessTokenExpirationInMinutes))
+            .build();
+    cacheInvalidationService.subscribe(CacheConstants.TOKEN_REVOCATIONS, this::revokeLocally);
+  }
+
+  /**
+   * Revokes all tokens issued to the user up to now.
+   *
+   * @param publicId the publicId of the user
+   */
+  @Override
+  public void revokeTokens(final String publicId) {
+    if (StringUtils.isNotBlank(publicId)) {
+      LOG.debug("Revoking tokens issued to user {}", publicId);
+      var revokedAt = Instant.now();
+      revocations.put(publicId, revokedAt);
+      cacheInvalidationService.invalidate(CacheConstants.TOKEN_REVOCATIONS, publicId, revokedAt);
+    }
+  }
+
+  /**
+   * Checks if a token issued to the user at the given time has been revoked.
+   *
+   * @param publicId the publicId of the user
+   * @param issuedAt when the token was issued
+   * @return if the token is revoked
+   */
+  @Override
+  public boolean isRevoked(final String publicId, final Date issuedAt) {
+    if (StringUtils.isBlank(publicId) || Objects.isNull(issuedAt)) {
+      return true;
+    }
+    var revokedAt = revocations.getIfPresent(publicId);
+
+    // Token issue times only have second precision, so a token issued within the same second
+    // as the revocation is treated as revoked.
+    return Objects.nonNull(revokedAt)
+        && !issuedAt.toInstant().isAfter(revokedAt.truncatedTo(ChronoUnit.SECONDS));
+  }
+
+  private void revokeLocally(final Invalidation invalidation) {
+    // An invalidation of every cache names no user, the revocations it stands for are lost.
+    if (Objects.isNull(invalidation.key()) || Objects.isNull(invalidation.invalidatedAt())) {
+      return;
+    }
+    revocations
+        .asMap()
+        .merge(
+            invalidation.key(),
+            invalidation.invalidatedAt(),
+            (revokedAt, remoteRevokedAt) ->
+                remoteRevokedAt.isAfter(revokedAt) ? remoteRevokedAt : revokedAt);
+  }
+}
@@ -2,7 +2,9 @@ package com.developersboard.backend.service.storage;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Instant;
 import java.util.List;
+import java.util.Objects;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
@@ -59,6 +61,16 @@ public interface AmazonS3Service {
    */
   InputStream getFile(String path) throws IOException;
 
+  /**
+   * Return a file for the path given with the metadata needed to cache it. The content is only
+   * transferred if the file no longer matches the entity tag the caller holds.
+   *
+   * @param path the path
+   * @param eTag the entity tag of the copy the caller holds, null if it holds none
+   * @return the file, without content if it is unchanged, or null if the path is not found
+   */
+  StoredFile getStoredFile(String path, String eTag);
+
   /**
    * Pre-signed URLs allow formation of a signed URL for an Amazon S3 resource.
    *
@@ -82,4 +94,30 @@ public interface AmazonS3Service {
    * @param key the key of the user as a path to image file
    */
   void delete(String key);
+
+  /**
+   * A stored file and its metadata.
+   *
+   * @param content the content, null if the file matches the entity tag given
+   * @param contentType the media type of the content
+   * @param contentLength the length of the content
+   * @param eTag the entity tag of the file
+   * @param lastModified the time the file was last modified
+   */
+  record StoredFile(
+      InputStream content,
+      String contentType,
+      long contentLength,
+      String eTag,
+      Instant lastModified) {
+
+    /**
+     * Whether the file is unchanged, in which case there is no content.
+     *
+     * @return true if the file matches the entity tag given
+     */
+    public boolean isNotModified() {
+      return Objects.isNull(content);
+    }
+  }
 }
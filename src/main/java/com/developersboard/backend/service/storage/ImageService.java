@@ -0,0 +1,31 @@
+package com.developersboard.backend.service.storage;
+
+import com.developersboard.enums.ImageVariant;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This interface provides the processing of uploaded images.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+public interface ImageService {
+
+  /**
+   * Decodes the image once and creates each variant from it, encoded in the given format.
+   *
+   * @param inputStream the image, which is left open
+   * @param formatName the format to encode the variants in, the format of the image if unknown
+   * @param variants the variants to create
+   * @return the encoded variants, empty if the stream does not hold an image that can be resized
+   * @throws IOException if the image cannot be decoded
+   * @throws InterruptedException if interrupted while waiting for the image to be processed
+   */
+  Map<ImageVariant, byte[]> resize(
+      InputStream inputStream, String formatName, Set<ImageVariant> variants)
+      throws IOException, InterruptedException;
+}
@@ -3,12 +3,14 @@ package com.developersboard.backend.service.storage.impl;
 import com.developersboard.backend.service.storage.AmazonS3Service;
 import com.developersboard.config.properties.AwsProperties;
 import com.developersboard.constant.StorageConstants;
-import com.developersboard.shared.util.core.ValidationUtils;
-import java.io.File;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.OutputStream;
-import java.nio.file.Files;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -26,6 +28,9 @@ import software.amazon.awssdk.services.s3.model.*;
 @Slf4j
 public abstract class AbstractAmazonS3Service implements AmazonS3Service {
 
+  /** The time each bucket was last found to exist. */
+  private final Map<String, Long> verifiedBuckets = new ConcurrentHashMap<>();
+
   /**
    * It stores the given file name in S3 and returns the key under which the file has been stored.
    *
@@ -44,28 +49,44 @@ public abstract class AbstractAmazonS3Service implements AmazonS3Service {
   }
 
   /**
-   * Converts a multipart file to a regular file.
+   * Creates the key a file is stored under, keeping the extension of its original name.
    *
-   * @param multipart the multipart file
-   * @return the converted file
-   * @throws IOException if there is an error with inputs/outputs
+   * @param path The folder within which this file will be placed
+   * @param fileName The file name without extension
+   * @param originalFilename The name of the file as uploaded
+   * @return The S3 object key
    */
-  protected File multipartToFile(final MultipartFile multipart) throws IOException {
-    ValidationUtils.validateInputsWithMessage(StorageConstants.MULTIPART_FILE_IS_NULL, multipart);
-
-    var path = multipart.getOriginalFilename();
-    Objects.requireNonNull(path, StorageConstants.A_NULL_WITHIN_METHOD);
-
-    var file = new File(path);
-    if (file.createNewFile()) {
-      LOG.debug(StorageConstants.FILE_CREATED_SUCCESSFULLY);
-    }
-
-    try (OutputStream fos = Files.newOutputStream(file.toPath())) {
-      fos.write(multipart.getBytes());
-    }
+  protected String createKey(
+      final String path, final String fileName, final String originalFilename) {
+    Objects.requireNonNull(originalFilename, StorageConstants.ORIGINAL_FILE_NAME_IS_NULL);
+
+    return path
+        + StorageConstants.SEPARATOR
+        + fileName
+        + FilenameUtils.EXTENSION_SEPARATOR
+        + FilenameUtils.getExtension(originalFilename);
+  }
 
-    return file;
+  /**
+   * Ensures the bucket exists, creating it if necessary. A bucket is only checked again once the
+   * verification interval has passed since its last check, so most uploads skip straight to the
+   * upload. Concurrent uploads wait for a single check of the same bucket.
+   *
+   * @param s3Client The S3 client
+   * @param properties The AWS properties
+   */
+  private void verifyBucket(final S3Client s3Client, final AwsProperties properties) {
+    var interval = properties.getS3BucketVerificationInterval().toNanos();
+    verifiedBuckets.compute(
+        properties.getS3BucketName(),
+        (bucketName, verifiedAt) -> {
+          var now = System.nanoTime();
+          if (Objects.nonNull(verifiedAt) && now - verifiedAt < interval) {
+            return verifiedAt;
+          }
+          ensureBucketExists(bucketName, s3Client);
+          return now;
+        });
   }
 
   /**
@@ -73,64 +94,136 @@ public abstract class AbstractAmazonS3Service implements AmazonS3Service {
    *
    * @param bucketName The bucket name
    * @param s3Client The S3 client
-   * @return The bucket's region
    */
-  private String ensureBucketExists(final String bucketName, final S3Client s3Client) {
+  private void ensureBucketExists(final String bucketName, final S3Client s3Client) {
     try {
       s3Client.headBucket(HeadBucketRequest.builder().bucket(bucketName).build());
       LOG.debug("Bucket {} exists", bucketName);
     } catch (NoSuchBucketException e) {
       LOG.debug("Bucket {} doesn't exist. Creating one...", bucketName);
       s3Client.createBucket(CreateBucketRequest.builder().bucket(bucketName).build());
-      LOG.debug("Created bucket: {}", bucketName);
+      LOG.info("Created bucket: {}", bucketName);
     }
-
-    return s3Client
-        .getBucketLocation(GetBucketLocationRequest.builder().bucket(bucketName).build())
-        .locationConstraintAsString();
   }
 
   /**
-   * Stores a file in S3 and returns the key under which the file has been stored.
+   * Stores a file in S3 with a single request.
    *
-   * @param resource The file resource to upload to S3
-   * @param path The folder within which this file will be placed
-   * @param fileName The file name (e.g., fileName.png)
+   * @param requestBody The content of the file
+   * @param key The key for the file
    * @param s3Client The S3 client
    * @param properties The AWS properties
    * @return The S3 object key
    */
   protected String storeFileToS3(
-      final File resource,
-      final String path,
-      final String fileName,
+      final RequestBody requestBody,
+      final String key,
       final S3Client s3Client,
       final AwsProperties properties) {
 
-    String bucketLocation = ensureBucketExists(properties.getS3BucketName(), s3Client);
-    LOG.info("Bucket location: {}", bucketLocation);
+    verifyBucket(s3Client, properties);
 
-    String key = path + "/" + fileName + "." + FilenameUtils.getExtension(resource.getName());
-    uploadFileToS3(resource, key, s3Client, properties);
+    PutObjectRequest putObjectRequest =
+        PutObjectRequest.builder().bucket(properties.getS3BucketName()).key(key).build();
+
+    LOG.debug("Starting file upload...");
+    try {
+      s3Client.putObject(putObjectRequest, requestBody);
+    } catch (NoSuchBucketException e) {
+      forgetBucket(properties);
+      throw e;
+    }
+    LOG.debug("File uploaded successfully: {}", key);
 
     return key;
   }
 
   /**
-   * Uploads a file to S3.
+   * Stores a file in S3 with a multipart upload, reading one part at a time into the same buffer.
+   * The upload is aborted if any part fails, so that no incomplete parts are left in the bucket.
    *
-   * @param resource The file resource to upload
+   * @param inputStream The content of the file
    * @param key The key for the file
+   * @param partSize The size of each part but the last
    * @param s3Client The S3 client
    * @param properties The AWS properties
+   * @return The S3 object key
+   * @throws IOException if the content cannot be read
    */
-  private void uploadFileToS3(
-      File resource, String key, S3Client s3Client, AwsProperties properties) {
-    PutObjectRequest putObjectRequest =
-        PutObjectRequest.builder().bucket(properties.getS3BucketName()).key(key).build();
+  protected String storeFileToS3InParts(
+      final InputStream inputStream,
+      final String key,
+      final int partSize,
+      final S3Client s3Client,
+      final AwsProperties properties)
+      throws IOException {
 
-    LOG.debug("Starting file upload...");
-    s3Client.putObject(putObjectRequest, RequestBody.fromFile(resource));
-    LOG.debug("File uploaded successfully: {}", key);
+    var bucketName = properties.getS3BucketName();
+    verifyBucket(s3Client, properties);
+
+    String uploadId;
+    try {
+      uploadId =
+          s3Client
+              .createMultipartUpload(
+                  CreateMultipartUploadRequest.builder().bucket(bucketName).key(key).build())
+              .uploadId();
+    } catch (NoSuchBucketException e) {
+      forgetBucket(properties);
+      throw e;
+    }
+    LOG.debug("Starting multipart upload {} of {}", uploadId, key);
+
+    try {
+      List<CompletedPart> parts = new ArrayList<>();
+      var buffer = new byte[partSize];
+      int read;
+      while ((read = inputStream.readNBytes(buffer, 0, partSize)) > 0) {
+        var partNumber = parts.size() + 1;
+        var uploadPartRequest =
+            UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .build();
+        var response =
+            s3Client.uploadPart(
+                uploadPartRequest,
+                RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read));
+        parts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+      }
+
+      s3Client.completeMultipartUpload(
+          CompleteMultipartUploadRequest.builder()
+              .bucket(bucketName)
+              .key(key)
+              .uploadId(uploadId)
+              .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+              .build());
+      LOG.debug("File uploaded successfully in {} part(s): {}", parts.size(), key);
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Aborting multipart upload {} of {}", uploadId, key);
+      s3Client.abortMultipartUpload(
+          AbortMultipartUploadRequest.builder()
+              .bucket(bucketName)
+              .key(key)
+              .uploadId(uploadId)
+              .build());
+      throw e;
+    }
+
+    return key;
+  }
+
+  /**
+   * Forgets that the bucket was verified, after it turned out to be missing, so that the next
+   * upload checks it again.
+   *
+   * @param properties The AWS properties
+   */
+  private void forgetBucket(final AwsProperties properties) {
+    LOG.warn("Bucket {} no longer exists", properties.getS3BucketName());
+    verifiedBuckets.remove(properties.getS3BucketName());
   }
 }
@@ -1,25 +1,31 @@
 package com.developersboard.backend.service.storage.impl;
 
+import com.developersboard.backend.service.storage.ImageService;
 import com.developersboard.config.properties.AwsProperties;
+import com.developersboard.constant.CacheConstants;
 import com.developersboard.constant.EnvConstants;
 import com.developersboard.constant.StorageConstants;
+import com.developersboard.enums.ImageVariant;
 import com.developersboard.exception.InvalidFileFormatException;
-import com.developersboard.shared.util.core.FileUtils;
 import com.developersboard.shared.util.core.ValidationUtils;
-import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import javax.imageio.ImageIO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FilenameUtils;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
@@ -41,6 +47,7 @@ public class AmazonS3ServiceImpl extends AbstractAmazonS3Service {
   private final S3Client s3Client;
   private final S3Presigner s3Presigner;
   private final AwsProperties properties;
+  private final ImageService imageService;
 
   @Override
   public String storeFile(MultipartFile file, String path, String fileName)
@@ -51,16 +58,27 @@ public class AmazonS3ServiceImpl extends AbstractAmazonS3Service {
       LOG.debug(StorageConstants.MULTI_PART_FILE_IS_EMPTY);
       throw new InvalidFileFormatException(StorageConstants.MULTI_PART_FILE_IS_EMPTY);
     }
-    File image = multipartToFile(file);
-    if (Objects.nonNull(ImageIO.read(image))) {
+    var extension = FilenameUtils.getExtension(file.getOriginalFilename());
+    var key = createKey(path, fileName, file.getOriginalFilename());
+
+    Map<ImageVariant, byte[]> images;
+    try (var inputStream = file.getInputStream()) {
+      images = imageService.resize(inputStream, extension, EnumSet.of(ImageVariant.MEDIUM));
+    }
+    if (!images.isEmpty()) {
       LOG.debug("MultipartFile is an image and a resize will be done accordingly.");
-      FileUtils.resize600(image);
+      var image = images.get(ImageVariant.MEDIUM);
+      return storeFileToS3(RequestBody.fromBytes(image), key, s3Client, properties);
     }
-    String imageUrl = storeFileToS3(image, path, fileName, s3Client, properties);
-    if (imageUrl != null && image.exists() && Files.deleteIfExists(image.toPath())) {
-      LOG.debug("Image successfully deleted!");
+
+    try (var inputStream = file.getInputStream()) {
+      if (file.getSize() > properties.getS3MultipartThreshold().toBytes()) {
+        var partSize = Math.toIntExact(properties.getS3PartSize().toBytes());
+        return storeFileToS3InParts(inputStream, key, partSize, s3Client, properties);
+      }
+      return storeFileToS3(
+          RequestBody.fromInputStream(inputStream, file.getSize()), key, s3Client, properties);
     }
-    return imageUrl;
   }
 
   @Override
@@ -88,6 +106,51 @@ public class AmazonS3ServiceImpl extends AbstractAmazonS3Service {
   }
 
   @Override
+  public StoredFile getStoredFile(String path, String eTag) {
+    Objects.requireNonNull(path, StorageConstants.PATH_CANNOT_BE_NULL);
+
+    GetObjectRequest request =
+        GetObjectRequest.builder()
+            .bucket(properties.getS3BucketName())
+            .key(path)
+            .ifNoneMatch(eTag)
+            .build();
+
+    try {
+      var object = s3Client.getObject(request);
+      var response = object.response();
+      if (Objects.nonNull(eTag) && eTag.equals(response.eTag())) {
+        // Not every S3 compatible store honors the condition, the unchanged content is discarded.
+        object.abort();
+        return new StoredFile(null, null, 0, eTag, response.lastModified());
+      }
+      return new StoredFile(
+          object,
+          response.contentType(),
+          response.contentLength(),
+          response.eTag(),
+          response.lastModified());
+    } catch (NoSuchKeyException e) {
+      LOG.debug("No file is stored under {}", path);
+      return null;
+    } catch (S3Exception e) {
+      if (e.statusCode() == HttpStatus.NOT_MODIFIED.value()) {
+        return new StoredFile(null, null, 0, eTag, null);
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Pre-signed URLs allow formation of a signed URL for an Amazon S3 resource. The URLs are cached
+   * per key for less time than they are valid for, so that a cached URL is never handed out close
+   * to its expiry.
+   *
+   * @param key the key of the user as a path to image file
+   * @return the pre-signed url
+   */
+  @Override
+  @Cacheable(CacheConstants.PRESIGNED_URLS)
   public String generatePreSignedUrl(String key) {
     GetObjectRequest getObjectRequest =
         GetObjectRequest.builder().bucket(properties.getS3BucketName()).key(key).build();
@@ -102,6 +165,7 @@ public class AmazonS3ServiceImpl extends AbstractAmazonS3Service {
   }
 
   @Override
+  @CacheEvict(value = CacheConstants.PRESIGNED_URLS, key = "#currentKey")
   public String renameFile(String currentKey, String newKey) {
     ValidationUtils.validateInputs(currentKey, newKey);
 
@@ -123,6 +187,7 @@ public class AmazonS3ServiceImpl extends AbstractAmazonS3Service {
   }
 
   @Override
+  @CacheEvict(CacheConstants.PRESIGNED_URLS)
   public void delete(String key) {
     ValidationUtils.validateInputs(key);
 
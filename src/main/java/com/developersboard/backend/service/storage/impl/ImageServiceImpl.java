@@ -0,0 +1,250 @@
+package com.developersboard.backend.service.storage.impl;
+
+import com.developersboard.backend.service.storage.ImageService;
+import com.developersboard.constant.StorageConstants;
+import com.developersboard.enums.ImageResizeMode;
+import com.developersboard.enums.ImageVariant;
+import com.developersboard.exception.StorageException;
+import com.developersboard.shared.util.core.FileUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * This is the implementation of the image service.
+ *
+ * <p>Images are processed on a small pool of threads with a bounded queue, so that a burst of
+ * uploads takes no more processors than the pool has threads, and is turned away once the queue is
+ * full rather than piling up. Large images are subsampled while they are decoded, down to the
+ * largest variant requested, and all variants are resized from the one decoded image. The image
+ * streams are cached in memory, since the default cache writes temporary files.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class ImageServiceImpl implements ImageService {
+
+  private static final String METRIC_RESIZE = "image.resize";
+  private static final Set<String> JPEG_FORMATS = Set.of("jpg", "jpeg");
+  private static final String PNG_FORMAT = "png";
+
+  private final float jpegQuality;
+  private final float pngQuality;
+
+  private final ThreadPoolExecutor executor;
+  private final Timer resizeTimer;
+
+  public ImageServiceImpl(
+      MeterRegistry meterRegistry,
+      @Value("${image.resize.threads}") int threads,
+      @Value("${image.resize.queueCapacity}") int queueCapacity,
+      @Value("${image.quality.jpeg}") float jpegQuality,
+      @Value("${image.quality.png}") float pngQuality) {
+
+    this.jpegQuality = jpegQuality;
+    this.pngQuality = pngQuality;
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("image-resize-"));
+    this.resizeTimer = meterRegistry.timer(METRIC_RESIZE);
+    new ExecutorServiceMetrics(executor, METRIC_RESIZE, Tags.empty()).bindTo(meterRegistry);
+  }
+
+  @Override
+  public Map<ImageVariant, byte[]> resize(
+      final InputStream inputStream, final String formatName, final Set<ImageVariant> variants)
+      throws IOException, InterruptedException {
+
+    if (variants.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    try {
+      var resized =
+          executor.submit(
+              () -> resizeTimer.recordCallable(() -> process(inputStream, formatName, variants)));
+      return resized.get();
+    } catch (RejectedExecutionException e) {
+      throw new StorageException(StorageConstants.TOO_MANY_IMAGES, e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      throw new StorageException(e.getMessage(), e.getCause());
+    }
+  }
+
+  /** Stops the image processing threads. */
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  private Map<ImageVariant, byte[]> process(
+      final InputStream inputStream, final String formatName, final Set<ImageVariant> variants)
+      throws IOException {
+
+    try (var input = new MemoryCacheImageInputStream(inputStream)) {
+      // Only the first bytes are read to tell whether the stream holds an image at all.
+      var readers = ImageIO.getImageReaders(input);
+      if (!readers.hasNext()) {
+        return Collections.emptyMap();
+      }
+
+      var reader = readers.next();
+      BufferedImage image;
+      String format;
+      try {
+        reader.setInput(input, true, true);
+        image = read(reader, variants);
+        format = isWritable(formatName) ? formatName : reader.getFormatName();
+      } finally {
+        reader.dispose();
+      }
+      format = format.toLowerCase(Locale.ROOT);
+
+      Map<ImageVariant, byte[]> encodedVariants = new EnumMap<>(ImageVariant.class);
+      for (ImageVariant variant : variants) {
+        var resizedImage =
+            FileUtils.resize(image, variant.getWidth(), variant.getHeight(), variant.getMode());
+        var encodedImage = encode(resizedImage, format);
+        if (encodedImage.length == 0) {
+          LOG.debug("No writer can encode the resized image as {}", format);
+          return Collections.emptyMap();
+        }
+        encodedVariants.put(variant, encodedImage);
+      }
+      return encodedVariants;
+    }
+  }
+
+  /**
+   * Decodes the image, skipping as many pixels as the largest variant can spare.
+   *
+   * @param reader the reader, with the image as input
+   * @param variants the variants to create
+   * @return the decoded image
+   * @throws IOException if the image cannot be decoded
+   */
+  private BufferedImage read(final ImageReader reader, final Set<ImageVariant> variants)
+      throws IOException {
+
+    var width = reader.getWidth(0);
+    var height = reader.getHeight(0);
+
+    var subsampling = Integer.MAX_VALUE;
+    for (ImageVariant variant : variants) {
+      // A cropped variant needs both sides at its size, a fitted one only its longer side.
+      var widthRatio = width / variant.getWidth();
+      var heightRatio = height / variant.getHeight();
+      subsampling =
+          Math.min(
+              subsampling,
+              variant.getMode() == ImageResizeMode.CROP
+                  ? Math.min(widthRatio, heightRatio)
+                  : Math.max(widthRatio, heightRatio));
+    }
+
+    var param = reader.getDefaultReadParam();
+    if (subsampling > 1) {
+      param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+    }
+    return reader.read(0, param);
+  }
+
+  /**
+   * Encodes the image at the quality configured for its format.
+   *
+   * @param image the image
+   * @param format the format
+   * @return the encoded image, empty if the format cannot be written
+   * @throws IOException if the image cannot be encoded
+   */
+  private byte[] encode(final BufferedImage image, final String format) throws IOException {
+    var writers = ImageIO.getImageWritersByFormatName(format);
+    if (!writers.hasNext()) {
+      return new byte[0];
+    }
+
+    var writer = writers.next();
+    try {
+      var param = writer.getDefaultWriteParam();
+      var quality =
+          JPEG_FORMATS.contains(format) ? jpegQuality : PNG_FORMAT.equals(format) ? pngQuality : -1;
+      if (quality >= 0 && param.canWriteCompressed()) {
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        if (Objects.isNull(param.getCompressionType())) {
+          param.setCompressionType(param.getCompressionTypes()[0]);
+        }
+        param.setCompressionQuality(quality);
+      }
+
+      // JPEG has no transparency, transparent pixels would come out black.
+      var writableImage =
+          JPEG_FORMATS.contains(format) && image.getColorModel().hasAlpha()
+              ? flatten(image)
+              : image;
+
+      var outputStream = new ByteArrayOutputStream();
+      try (var output = new MemoryCacheImageOutputStream(outputStream)) {
+        writer.setOutput(output);
+        writer.write(null, new IIOImage(writableImage, null, null), param);
+      }
+      return outputStream.toByteArray();
+    } finally {
+      writer.dispose();
+    }
+  }
+
+  private static BufferedImage flatten(final BufferedImage image) {
+    var flattenedImage =
+        new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+    var graphics = flattenedImage.createGraphics();
+    try {
+      graphics.drawImage(image, 0, 0, Color.WHITE, null);
+    } finally {
+      graphics.dispose();
+    }
+    return flattenedImage;
+  }
+
+  private static boolean isWritable(final String formatName) {
+    return Objects.nonNull(formatName) && ImageIO.getImageWritersByFormatName(formatName).hasNext();
+  }
+}
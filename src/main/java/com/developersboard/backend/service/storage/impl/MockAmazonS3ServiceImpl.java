@@ -59,6 +59,18 @@ public class MockAmazonS3ServiceImpl extends AbstractAmazonS3Service {
     return InputStream.nullInputStream();
   }
 
+  /**
+   * Return a file for the path given with its metadata, there are no stored files to return.
+   *
+   * @param path the path
+   * @param eTag the entity tag of the copy the caller holds
+   * @return null
+   */
+  @Override
+  public StoredFile getStoredFile(String path, String eTag) {
+    return null;
+  }
+
   /**
    * Pre-signed URLs allow formation of a signed URL for an Amazon S3 resource.
    *
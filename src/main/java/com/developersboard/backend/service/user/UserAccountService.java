@@ -0,0 +1,33 @@
+package com.developersboard.backend.service.user;
+
+import com.developersboard.shared.dto.UserDto;
+
+/**
+ * This is the contract of the account journeys that change a user and email the user about it.
+ * The change and the email are committed together, so an email is never queued for a change that
+ * rolled back.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+public interface UserAccountService {
+
+  /**
+   * Creates a new user with a verification token and sends the user the account verification
+   * email.
+   *
+   * @param userDto the user to create
+   * @return the created user
+   */
+  UserDto signUp(UserDto userDto);
+
+  /**
+   * Gives the user with the given email a new verification token and sends the user the password
+   * reset email.
+   *
+   * @param email the email of the user
+   * @return the user or null if no user has the email
+   */
+  UserDto startPasswordReset(String email);
+}
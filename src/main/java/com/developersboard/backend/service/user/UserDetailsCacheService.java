@@ -0,0 +1,58 @@
+package com.developersboard.backend.service.user;
+
+import com.developersboard.backend.service.impl.UserDetailsBuilder;
+import com.developersboard.enums.UserCacheEvictionCause;
+
+/**
+ * This is the contract of the cache of the user details that authenticate requests. A user is
+ * cached once under its id and found by any of its aliases, the username, the email or the public
+ * id, so a change to the user evicts exactly that user whichever alias it was cached under.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+public interface UserDetailsCacheService {
+
+  /**
+   * Returns the cached details of the user with the given username or email.
+   *
+   * @param usernameOrEmail the username or email
+   * @return the user details or null if they are not cached
+   */
+  UserDetailsBuilder get(String usernameOrEmail);
+
+  /**
+   * Returns the stamp to take before reading the details of a user that are to be cached.
+   *
+   * @return the read stamp
+   */
+  long readStamp();
+
+  /**
+   * Caches the details of a user under its id and all its aliases, unless the user was evicted
+   * after the details were read, as they may then be older than the eviction.
+   *
+   * @param userDetails the user details
+   * @param readStamp the stamp taken before the details were read
+   */
+  void put(UserDetailsBuilder userDetails, long readStamp);
+
+  /**
+   * Evicts the user with the given id. Within a transaction, the user is evicted once the
+   * transaction commits, so the old details cannot be cached again in between.
+   *
+   * @param id the id of the user
+   * @param cause why the user is evicted
+   */
+  void evictById(Long id, UserCacheEvictionCause cause);
+
+  /**
+   * Evicts the user with the given public id. Within a transaction, the user is evicted once the
+   * transaction commits.
+   *
+   * @param publicId the public id of the user
+   * @param cause why the user is evicted
+   */
+  void evictByPublicId(String publicId, UserCacheEvictionCause cause);
+}
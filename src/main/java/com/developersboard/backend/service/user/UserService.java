@@ -4,9 +4,15 @@ import com.developersboard.backend.persistent.domain.user.User;
 import com.developersboard.enums.RoleType;
 import com.developersboard.enums.UserHistoryType;
 import com.developersboard.shared.dto.UserDto;
+import com.developersboard.web.payload.request.UserExportRequest;
+import com.developersboard.web.payload.response.UserImportResponse;
 import com.developersboard.web.payload.response.UserResponse;
+import com.developersboard.web.payload.response.UserScrollResponse;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.datatables.mapping.DataTablesInput;
@@ -54,6 +60,15 @@ public interface UserService {
   @NonNull
   UserDto createUser(final UserDto userDto, final Set<RoleType> roleTypes);
 
+  /**
+   * Creates the users in the stream in batches. Rows that cannot be created are reported in the
+   * response and do not stop the import.
+   *
+   * @param userDtos the users to create
+   * @return the outcome of the import
+   */
+  UserImportResponse createUsers(final Stream<UserDto> userDtos);
+
   /**
    * Returns users.
    *
@@ -62,6 +77,28 @@ public interface UserService {
    */
   Page<UserResponse> findAll(final Pageable pageable);
 
+  /**
+   * Returns the users after the given user, in a stable id order. Unlike an offset page, a page
+   * after a cursor costs the same however deep it is, and nothing is counted unless an estimate of
+   * the total is requested.
+   *
+   * @param after the public id of the last user of the previous page, null for the first page
+   * @param size the maximum number of users
+   * @param estimateTotal whether to include the estimated number of users
+   * @return the users and the cursor of the next page
+   */
+  UserScrollResponse findUsers(String after, int size, boolean estimateTotal);
+
+  /**
+   * Hands the users matching the filters to the consumer one at a time, in a stable id order. The
+   * users are read as they are consumed, so no more than a fetch of them is ever held in memory.
+   *
+   * @param userExportRequest the filters of the export
+   * @param consumer the consumer of the users
+   * @return the number of users exported
+   */
+  long exportUsers(UserExportRequest userExportRequest, Consumer<UserResponse> consumer);
+
   /**
    * Returns users according to the details in the dataTablesInput or null if no user exists.
    *
@@ -107,11 +144,23 @@ public interface UserService {
   UserDto findByEmail(String email);
 
   /**
-   * Find all users that failed to verify their email after a certain time.
+   * Find the ids of users that failed to verify their email after a certain time, in ascending
+   * order after the given id.
+   *
+   * @param afterId only ids greater than this id
+   * @param limit the maximum number of ids
+   * @return the ids of the users
+   */
+  List<Long> findNotEnabledUserIdsAfterAllowedDays(long afterId, int limit);
+
+  /**
+   * Delete the users with the given ids along with their roles and histories, skipping any user
+   * that has been enabled in the meantime.
    *
-   * @return List of users that failed to verify their email.
+   * @param ids the ids of the users
+   * @return the number of users deleted
    */
-  List<UserDto> findAllNotEnabledAfterAllowedDays();
+  int deleteNotEnabledUsers(Collection<Long> ids);
 
   /**
    * Returns a userDetails for the given username or null if a user could not be found.
@@ -0,0 +1,90 @@
+package com.developersboard.backend.service.user.impl;
+
+import com.developersboard.backend.service.mail.EmailService;
+import com.developersboard.backend.service.security.EncryptionService;
+import com.developersboard.backend.service.security.JwtService;
+import com.developersboard.backend.service.user.UserAccountService;
+import com.developersboard.backend.service.user.UserService;
+import com.developersboard.constant.user.UserConstants;
+import com.developersboard.shared.dto.UserDto;
+import com.developersboard.shared.util.UserUtils;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.Validate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * The UserAccountServiceImpl class provides implementation for the UserAccountService definitions.
+ *
+ * <p>The account emails join the transaction of the user change, so the outbox row is written and
+ * committed along with the user.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserAccountServiceImpl implements UserAccountService {
+
+  private final JwtService jwtService;
+  private final UserService userService;
+  private final EmailService emailService;
+  private final EncryptionService encryptionService;
+
+  /**
+   * Creates a new user with a verification token and sends the user the account verification
+   * email.
+   *
+   * @param userDto the user to create
+   * @return the created user
+   */
+  @Override
+  @Transactional
+  public UserDto signUp(final UserDto userDto) {
+    Validate.notNull(userDto, UserConstants.USER_DTO_MUST_NOT_BE_NULL);
+
+    var verificationToken = jwtService.generateJwtToken(userDto.getUsername());
+    userDto.setVerificationToken(verificationToken);
+
+    var savedUserDto = userService.createUser(userDto);
+    emailService.sendAccountVerificationEmail(savedUserDto, encode(verificationToken));
+
+    return savedUserDto;
+  }
+
+  /**
+   * Gives the user with the given email a new verification token and sends the user the password
+   * reset email.
+   *
+   * @param email the email of the user
+   * @return the user or null if no user has the email
+   */
+  @Override
+  @Transactional
+  public UserDto startPasswordReset(final String email) {
+    var userDto = userService.findByEmail(email);
+    if (Objects.isNull(userDto)) {
+      LOG.debug(UserConstants.USER_NOT_FOUND + " email: {}", email);
+      return null;
+    }
+
+    var verificationToken = jwtService.generateJwtToken(userDto.getUsername());
+    userDto.setVerificationToken(verificationToken);
+    userService.saveOrUpdate(UserUtils.convertToUser(userDto), false);
+
+    emailService.sendPasswordResetEmail(userDto, encode(verificationToken));
+
+    return userDto;
+  }
+
+  private String encode(final String verificationToken) {
+    var encryptedToken = encryptionService.encrypt(verificationToken);
+    LOG.debug("Encrypted JWT token: {}", encryptedToken);
+
+    return encryptionService.encode(encryptedToken);
+  }
+}
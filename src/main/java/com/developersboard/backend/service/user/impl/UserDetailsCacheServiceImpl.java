@@ -0,0 +1,317 @@
+package com.developersboard.backend.service.user.impl;
+
+import com.developersboard.backend.service.cache.CacheInvalidationBus.Invalidation;
+import com.developersboard.backend.service.cache.CacheInvalidationService;
+import com.developersboard.backend.service.impl.UserDetailsBuilder;
+import com.developersboard.backend.service.user.UserDetailsCacheService;
+import com.developersboard.config.jpa.JpaConfig;
+import com.developersboard.config.properties.CacheConfigProperties;
+import com.developersboard.constant.CacheConstants;
+import com.developersboard.enums.UserCacheEvictionCause;
+import com.developersboard.shared.util.UserUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * This is the implementation of the user details cache service.
+ *
+ * <p>The details are held once per user id in a size-bounded cache configured like the other
+ * application caches. The usernames, emails and public ids point to the id, and are dropped
+ * together with the details they belong to. Evictions are counted by their cause, and sent to the
+ * other application nodes, which evict the user by its id or public id. The evictions of deleted
+ * users are sent apart, as the other nodes also drop the cached queries that may find them.
+ *
+ * <p>An eviction may run between the read of the details of a user and their put, for instance
+ * after the commit of an update. Every eviction is therefore stamped under the id or public id of
+ * the user, and details read before the last eviction of their user are not cached.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class UserDetailsCacheServiceImpl implements UserDetailsCacheService {
+
+  private static final String METRIC_EVICTIONS = "user.details.cache.evictions";
+  private static final String TAG_CAUSE = "cause";
+  private static final String ALL_USERS = "*";
+  private static final Set<UserCacheEvictionCause> DELETIONS =
+      EnumSet.of(UserCacheEvictionCause.DELETED, UserCacheEvictionCause.PRUNED);
+
+  /** How long an eviction is remembered, details read longer ago than that are not cached. */
+  private static final Duration EVICTION_WINDOW = Duration.ofMinutes(1);
+
+  private final Map<String, Long> usernames = new ConcurrentHashMap<>();
+  private final Map<String, Long> emails = new ConcurrentHashMap<>();
+  private final Map<String, Long> publicIds = new ConcurrentHashMap<>();
+  private final Map<UserCacheEvictionCause, Counter> evictionCounters =
+      new EnumMap<>(UserCacheEvictionCause.class);
+  private final Cache<String, Long> evictions =
+      Caffeine.newBuilder().expireAfterWrite(EVICTION_WINDOW).build();
+
+  private final Cache<Long, UserDetailsBuilder> userDetails;
+  private final CacheInvalidationService cacheInvalidationService;
+
+  public UserDetailsCacheServiceImpl(
+      CacheConfigProperties cacheProperties,
+      CacheInvalidationService cacheInvalidationService,
+      MeterRegistry meterRegistry) {
+
+    this.cacheInvalidationService = cacheInvalidationService;
+
+    for (var cause : UserCacheEvictionCause.values()) {
+      evictionCounters.put(
+          cause, meterRegistry.counter(METRIC_EVICTIONS, TAG_CAUSE, cause.getName()));
+    }
+
+    var cacheSpec = cacheProperties.getSpec(CacheConstants.USER_DETAILS);
+    this.userDetails =
+        JpaConfig.cacheBuilder(cacheProperties, cacheSpec)
+            .<Long, UserDetailsBuilder>removalListener(this::onRemoval)
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, userDetails, CacheConstants.USER_DETAILS);
+    cacheInvalidationService.subscribe(CacheConstants.USER_DETAILS, this::evictLocally);
+    cacheInvalidationService.subscribe(CacheConstants.DELETED_USERS, this::evictLocally);
+  }
+
+  /**
+   * Returns the cached details of the user with the given username or email. An identifier shaped
+   * like an email is matched against the emails first and then against the usernames, as it is
+   * looked up in that order.
+   *
+   * @param usernameOrEmail the username or email
+   * @return the user details or null if they are not cached
+   */
+  @Override
+  public UserDetailsBuilder get(final String usernameOrEmail) {
+    if (StringUtils.isBlank(usernameOrEmail)) {
+      return null;
+    }
+
+    if (UserUtils.isEmailIdentifier(usernameOrEmail)) {
+      var cached = get(emails, usernameOrEmail, UserDetailsBuilder::getEmail);
+      if (Objects.nonNull(cached)) {
+        return cached;
+      }
+    }
+    return get(usernames, usernameOrEmail, UserDetailsBuilder::getUsername);
+  }
+
+  /**
+   * Returns the stamp to take before reading the details of a user that are to be cached.
+   *
+   * @return the read stamp
+   */
+  @Override
+  public long readStamp() {
+    return System.nanoTime();
+  }
+
+  /**
+   * Caches the details of a user under its id and all its aliases, unless the user was evicted
+   * after the details were read. The eviction is checked again once the details are cached, as it
+   * may have run in between.
+   *
+   * @param userDetails the user details
+   * @param readStamp the stamp taken before the details were read
+   */
+  @Override
+  public void put(final UserDetailsBuilder userDetails, final long readStamp) {
+    if (Objects.isNull(userDetails)
+        || Objects.isNull(userDetails.getId())
+        || isEvictedSince(userDetails, readStamp)) {
+      return;
+    }
+
+    var id = userDetails.getId();
+    var previous = this.userDetails.asMap().put(id, userDetails);
+    if (Objects.nonNull(previous)) {
+      removeAliases(id, previous);
+    }
+    putAlias(usernames, userDetails.getUsername(), id);
+    putAlias(emails, userDetails.getEmail(), id);
+    putAlias(publicIds, userDetails.getPublicId(), id);
+
+    // An eviction that ran while the details were put may have missed them.
+    if (isEvictedSince(userDetails, readStamp)
+        && this.userDetails.asMap().remove(id, userDetails)) {
+      removeAliases(id, userDetails);
+    }
+  }
+
+  /**
+   * Evicts the user with the given id once the current transaction, if any, commits.
+   *
+   * @param id the id of the user
+   * @param cause why the user is evicted
+   */
+  @Override
+  public void evictById(final Long id, final UserCacheEvictionCause cause) {
+    if (Objects.nonNull(id)) {
+      afterCommit(
+          () -> {
+            stampEviction(String.valueOf(id));
+            evict(id, cause);
+          });
+      invalidate(String.valueOf(id), cause);
+    }
+  }
+
+  /**
+   * Evicts the user with the given public id once the current transaction, if any, commits.
+   *
+   * @param publicId the public id of the user
+   * @param cause why the user is evicted
+   */
+  @Override
+  public void evictByPublicId(final String publicId, final UserCacheEvictionCause cause) {
+    if (StringUtils.isNotBlank(publicId)) {
+      afterCommit(
+          () -> {
+            stampEviction(publicId);
+            var id = publicIds.get(publicId);
+            if (Objects.nonNull(id)) {
+              evict(id, cause);
+            }
+          });
+      invalidate(publicId, cause);
+    }
+  }
+
+  /**
+   * Publishes the eviction to the other nodes. It is published within the transaction, if any, as
+   * the bus only delivers it once the transaction commits.
+   *
+   * @param idOrPublicId the id or public id of the user
+   * @param cause why the user is evicted
+   */
+  private void invalidate(final String idOrPublicId, final UserCacheEvictionCause cause) {
+    var cacheName =
+        DELETIONS.contains(cause) ? CacheConstants.DELETED_USERS : CacheConstants.USER_DETAILS;
+    cacheInvalidationService.invalidate(cacheName, idOrPublicId, Instant.now());
+  }
+
+  private void evictLocally(final Invalidation invalidation) {
+    var key = invalidation.key();
+    stampEviction(Objects.isNull(key) ? ALL_USERS : key);
+    if (Objects.isNull(key)) {
+      userDetails.invalidateAll();
+      usernames.clear();
+      emails.clear();
+      publicIds.clear();
+      return;
+    }
+
+    // Public ids are UUIDs, so a key made of digits only is an id.
+    var id = StringUtils.isNumeric(key) ? Long.valueOf(key) : publicIds.get(key);
+    if (Objects.nonNull(id)) {
+      evict(id, UserCacheEvictionCause.INVALIDATED);
+    }
+  }
+
+  private void stampEviction(final String idOrPublicId) {
+    evictions.put(idOrPublicId, System.nanoTime());
+  }
+
+  /**
+   * Whether the user was evicted at or after the given read stamp. Details read longer ago than
+   * evictions are remembered are treated as evicted, as their evictions may be forgotten.
+   */
+  private boolean isEvictedSince(final UserDetailsBuilder userDetails, final long readStamp) {
+    if (System.nanoTime() - readStamp > EVICTION_WINDOW.toNanos()) {
+      return true;
+    }
+    return Stream.of(ALL_USERS, String.valueOf(userDetails.getId()), userDetails.getPublicId())
+        .filter(Objects::nonNull)
+        .map(evictions::getIfPresent)
+        .anyMatch(evictedAt -> Objects.nonNull(evictedAt) && evictedAt - readStamp >= 0);
+  }
+
+  private UserDetailsBuilder get(
+      final Map<String, Long> aliases,
+      final String alias,
+      final Function<UserDetailsBuilder, String> aliasOf) {
+
+    var id = aliases.get(alias);
+    var cached = Objects.isNull(id) ? null : userDetails.getIfPresent(id);
+
+    // An alias may still point to a user whose username or email has changed since.
+    return Objects.nonNull(cached) && alias.equals(aliasOf.apply(cached)) ? cached : null;
+  }
+
+  private void evict(final Long id, final UserCacheEvictionCause cause) {
+    var evicted = userDetails.asMap().remove(id);
+    if (Objects.nonNull(evicted)) {
+      removeAliases(id, evicted);
+      evictionCounters.get(cause).increment();
+      LOG.debug("Evicted cached user {} since it was {}", evicted.getUsername(), cause.getName());
+    }
+  }
+
+  private void onRemoval(
+      final Long id, final UserDetailsBuilder removed, final RemovalCause cause) {
+    // Explicit removals and replacements have already updated the aliases.
+    if (Objects.isNull(id) || Objects.isNull(removed) || !cause.wasEvicted()) {
+      return;
+    }
+    removeAliases(id, removed);
+    if (cause == RemovalCause.SIZE) {
+      evictionCounters.get(UserCacheEvictionCause.SIZE).increment();
+    } else {
+      evictionCounters.get(UserCacheEvictionCause.EXPIRED).increment();
+    }
+  }
+
+  private void removeAliases(final Long id, final UserDetailsBuilder removed) {
+    removeAlias(usernames, removed.getUsername(), id);
+    removeAlias(emails, removed.getEmail(), id);
+    removeAlias(publicIds, removed.getPublicId(), id);
+  }
+
+  private static void putAlias(final Map<String, Long> aliases, final String alias, final Long id) {
+    if (Objects.nonNull(alias)) {
+      aliases.put(alias, id);
+    }
+  }
+
+  private static void removeAlias(
+      final Map<String, Long> aliases, final String alias, final Long id) {
+    if (Objects.nonNull(alias)) {
+      aliases.remove(alias, id);
+    }
+  }
+
+  private static void afterCommit(final Runnable eviction) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              eviction.run();
+            }
+          });
+    } else {
+      eviction.run();
+    }
+  }
+}
@@ -0,0 +1,262 @@
+package com.developersboard.backend.service.user.impl;
+
+import com.developersboard.backend.persistent.domain.user.Role;
+import com.developersboard.backend.persistent.domain.user.User;
+import com.developersboard.backend.persistent.domain.user.UserHistory;
+import com.developersboard.backend.persistent.repository.UserRepository;
+import com.developersboard.backend.service.user.RoleService;
+import com.developersboard.constant.user.UserConstants;
+import com.developersboard.enums.RoleType;
+import com.developersboard.enums.UserHistoryType;
+import com.developersboard.shared.dto.UserDto;
+import com.developersboard.shared.util.UserUtils;
+import com.developersboard.web.payload.response.UserImportResponse;
+import com.developersboard.web.payload.response.UserImportResponse.RowError;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Creates users from a stream of any size in batches.
+ *
+ * <p>Each batch checks its usernames and emails against the database with one query each, hashes
+ * the passwords in parallel on a bounded pool and inserts the users with their roles and histories
+ * in a single transaction, which lets Hibernate send the inserts in JDBC batches. A row that cannot
+ * be created is reported and skipped, it never fails the rest of the import.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class UserImporter {
+
+  private final int batchSize;
+  private final int maxReportedErrors;
+
+  private final RoleService roleService;
+  private final UserRepository userRepository;
+  private final PasswordEncoder passwordEncoder;
+  private final Validator validator;
+  private final TransactionTemplate transactionTemplate;
+  private final ExecutorService hashingExecutor;
+
+  public UserImporter(
+      RoleService roleService,
+      UserRepository userRepository,
+      PasswordEncoder passwordEncoder,
+      Validator validator,
+      PlatformTransactionManager transactionManager,
+      @Value("${user.import.batchSize}") int batchSize,
+      @Value("${user.import.hashingThreads}") int hashingThreads,
+      @Value("${user.import.maxReportedErrors}") int maxReportedErrors) {
+
+    this.roleService = roleService;
+    this.userRepository = userRepository;
+    this.passwordEncoder = passwordEncoder;
+    this.validator = validator;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    this.maxReportedErrors = maxReportedErrors;
+    this.hashingExecutor =
+        Executors.newFixedThreadPool(
+            hashingThreads, new CustomizableThreadFactory("user-import-hashing-"));
+  }
+
+  /**
+   * Creates the users in the stream, one batch at a time.
+   *
+   * @param userDtos the users to create
+   * @return the outcome of the import
+   */
+  public UserImportResponse importUsers(final Stream<UserDto> userDtos) {
+    var response = new UserImportResponse();
+    var role = roleService.findByName(RoleType.ROLE_USER.name());
+
+    // The usernames and emails seen so far, to catch duplicates across batches of the import.
+    Set<String> seenUsernames = new HashSet<>();
+    Set<String> seenEmails = new HashSet<>();
+
+    List<ImportRow> batch = new ArrayList<>(batchSize);
+    Iterator<UserDto> iterator = userDtos.iterator();
+    while (iterator.hasNext()) {
+      batch.add(new ImportRow(response.getTotal() + 1, iterator.next()));
+      response.setTotal(response.getTotal() + 1);
+
+      if (batch.size() == batchSize || !iterator.hasNext()) {
+        importBatch(batch, role, seenUsernames, seenEmails, response);
+        batch.clear();
+        LOG.info(
+            "Imported {} row(s), {} created and {} failed",
+            response.getTotal(),
+            response.getCreated(),
+            response.getFailed());
+      }
+    }
+    return response;
+  }
+
+  /** Stops the password hashing threads. */
+  @PreDestroy
+  public void shutdown() {
+    hashingExecutor.shutdown();
+  }
+
+  private void importBatch(
+      final List<ImportRow> batch,
+      final Role role,
+      final Set<String> seenUsernames,
+      final Set<String> seenEmails,
+      final UserImportResponse response) {
+
+    var userDtos = batch.stream().map(ImportRow::userDto).filter(Objects::nonNull).toList();
+    var existingUsernames =
+        findExisting(userDtos, UserDto::getUsername, userRepository::findExistingUsernames);
+    var existingEmails =
+        findExisting(userDtos, UserDto::getEmail, userRepository::findExistingEmails);
+
+    // Only an accepted row claims its username and email, a rejected row claims neither.
+    var rows = new ArrayList<ImportRow>(batch.size());
+    var existing = new ArrayList<ImportRow>();
+    for (ImportRow row : batch) {
+      var message = validate(row.userDto());
+      if (Objects.nonNull(message)) {
+        reject(response, row, message);
+        continue;
+      }
+
+      var username = row.userDto().getUsername();
+      var email = row.userDto().getEmail();
+      if (seenUsernames.contains(username) || seenEmails.contains(email)) {
+        reject(response, row, UserConstants.DUPLICATE_IN_IMPORT);
+      } else if (existingUsernames.contains(username) || existingEmails.contains(email)) {
+        existing.add(row);
+      } else {
+        seenUsernames.add(username);
+        seenEmails.add(email);
+        rows.add(row);
+      }
+    }
+    existing.forEach(row -> reject(response, row, UserConstants.USERNAME_OR_EMAIL_EXISTS));
+    if (rows.isEmpty()) {
+      return;
+    }
+
+    hashPasswords(rows);
+
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> userRepository.saveAll(rows.stream().map(row -> toUser(row, role)).toList()));
+      response.setCreated(response.getCreated() + rows.size());
+    } catch (RuntimeException e) {
+      LOG.warn("Batch of {} user(s) failed, retrying one by one", rows.size(), e);
+      rows.forEach(row -> importRow(row, role, response));
+    }
+  }
+
+  private static Set<String> findExisting(
+      final List<UserDto> userDtos,
+      final Function<UserDto, String> field,
+      final Function<Collection<String>, Set<String>> finder) {
+
+    var values = userDtos.stream().map(field).filter(Objects::nonNull).toList();
+    return values.isEmpty() ? Set.of() : finder.apply(values);
+  }
+
+  private void importRow(final ImportRow row, final Role role, final UserImportResponse response) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> userRepository.save(toUser(row, role)));
+      response.setCreated(response.getCreated() + 1);
+    } catch (RuntimeException e) {
+      LOG.debug("User {} could not be created", row.userDto().getUsername(), e);
+      reject(response, row, UserConstants.USER_IMPORT_FAILED);
+    }
+  }
+
+  private void hashPasswords(final List<ImportRow> rows) {
+    var hashed =
+        rows.stream()
+            .map(
+                row ->
+                    CompletableFuture.runAsync(
+                        () ->
+                            row.userDto()
+                                .setPassword(passwordEncoder.encode(row.userDto().getPassword())),
+                        hashingExecutor))
+            .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(hashed).join();
+  }
+
+  private User toUser(final ImportRow row, final Role role) {
+    // A new entity is built on every attempt, since a rolled back batch leaves its ids behind.
+    var user = UserUtils.convertToUser(row.userDto());
+    user.addUserRole(role);
+    var userHistory = new UserHistory(UUID.randomUUID().toString(), user, UserHistoryType.CREATED);
+    user.addUserHistory(userHistory);
+    return user;
+  }
+
+  /**
+   * Validates the user as it would be persisted, so that an invalid row cannot fail its batch.
+   *
+   * @param userDto the user to validate
+   * @return the violations joined into one message or null if the user is valid
+   */
+  private String validate(final UserDto userDto) {
+    if (Objects.isNull(userDto)) {
+      return UserConstants.USER_DTO_MUST_NOT_BE_NULL;
+    }
+    if (Objects.isNull(userDto.getPublicId())) {
+      userDto.setPublicId(UUID.randomUUID().toString());
+    }
+
+    Set<ConstraintViolation<User>> violations =
+        validator.validate(UserUtils.convertToUser(userDto));
+    if (violations.isEmpty()) {
+      return null;
+    }
+    return violations.stream()
+        .map(ConstraintViolation::getMessage)
+        .sorted()
+        .collect(Collectors.joining(", "));
+  }
+
+  private void reject(
+      final UserImportResponse response, final ImportRow row, final String message) {
+    response.setFailed(response.getFailed() + 1);
+    if (response.getErrors().size() < maxReportedErrors) {
+      var username = Objects.isNull(row.userDto()) ? null : row.userDto().getUsername();
+      response.getErrors().add(new RowError(row.number(), username, message));
+    }
+  }
+
+  /**
+   * A row of the import.
+   *
+   * @param number the position of the row in the import, starting at 1
+   * @param userDto the user to create
+   */
+  private record ImportRow(long number, UserDto userDto) {}
+}
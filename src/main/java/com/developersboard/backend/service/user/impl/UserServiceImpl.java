@@ -4,32 +4,44 @@ import com.developersboard.backend.persistent.domain.user.User;
 import com.developersboard.backend.persistent.domain.user.UserHistory;
 import com.developersboard.backend.persistent.repository.UserRepository;
 import com.developersboard.backend.service.impl.UserDetailsBuilder;
+import com.developersboard.backend.service.security.TokenRevocationService;
 import com.developersboard.backend.service.user.RoleService;
+import com.developersboard.backend.service.user.UserDetailsCacheService;
 import com.developersboard.backend.service.user.UserService;
 import com.developersboard.constant.CacheConstants;
 import com.developersboard.constant.user.UserConstants;
 import com.developersboard.enums.RoleType;
+import com.developersboard.enums.UserCacheEvictionCause;
 import com.developersboard.enums.UserHistoryType;
 import com.developersboard.exception.user.UserAlreadyExistsException;
 import com.developersboard.shared.dto.UserDto;
 import com.developersboard.shared.dto.mapper.UserDtoMapper;
 import com.developersboard.shared.util.UserUtils;
 import com.developersboard.shared.util.core.ValidationUtils;
+import com.developersboard.web.payload.request.UserExportRequest;
+import com.developersboard.web.payload.response.UserImportResponse;
 import com.developersboard.web.payload.response.UserResponse;
+import com.developersboard.web.payload.response.UserScrollResponse;
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.datatables.mapping.DataTablesInput;
@@ -38,6 +50,7 @@ import org.springframework.lang.NonNull;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -57,6 +70,9 @@ public class UserServiceImpl implements UserService {
   private final RoleService roleService;
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
+  private final TokenRevocationService tokenRevocationService;
+  private final UserImporter userImporter;
+  private final UserDetailsCacheService userDetailsCacheService;
 
   /**
    * Saves or updates the user with the user instance given.
@@ -133,6 +149,21 @@ public class UserServiceImpl implements UserService {
     return persistUser(userDto, roleTypes, UserHistoryType.CREATED, false);
   }
 
+  /**
+   * Creates the users in the stream in batches. Rows that cannot be created are reported in the
+   * response and do not stop the import.
+   *
+   * @param userDtos the users to create
+   * @return the outcome of the import
+   */
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public UserImportResponse createUsers(final Stream<UserDto> userDtos) {
+    Validate.notNull(userDtos, UserConstants.USER_DTO_MUST_NOT_BE_NULL);
+
+    return userImporter.importUsers(userDtos);
+  }
+
   @Override
   public Page<UserResponse> findAll(Pageable pageable) {
     Page<User> usersPage = userRepository.findAll(pageable);
@@ -140,6 +171,52 @@ public class UserServiceImpl implements UserService {
     return usersPage.map(UserDtoMapper.MAPPER::toUserResponse);
   }
 
+  @Override
+  public UserScrollResponse findUsers(
+      final String after, final int size, final boolean estimateTotal) {
+
+    // One more user than asked for tells whether there is a next page.
+    var limit = Limit.of(size + 1);
+    var users =
+        StringUtils.isBlank(after)
+            ? userRepository.findUserResponses(limit)
+            : userRepository.findUserResponsesAfter(after, limit);
+
+    var response = new UserScrollResponse();
+    if (users.size() > size) {
+      users = users.subList(0, size);
+      response.setNext(users.getLast().getPublicId());
+    }
+    response.setUsers(new ArrayList<>(users));
+
+    if (estimateTotal) {
+      response.setEstimatedTotal(userRepository.estimateCount());
+    }
+    return response;
+  }
+
+  @Override
+  public long exportUsers(
+      final UserExportRequest userExportRequest, final Consumer<UserResponse> consumer) {
+    Validate.notNull(userExportRequest, UserConstants.USER_EXPORT_REQUEST_MUST_NOT_BE_NULL);
+
+    var role = userExportRequest.getRole();
+    try (var users =
+        userRepository.streamUserResponses(
+            userExportRequest.getEnabled(),
+            userExportRequest.getCreatedFrom(),
+            userExportRequest.getCreatedTo(),
+            Objects.isNull(role) ? null : role.getName())) {
+
+      long exported = 0;
+      for (var iterator = users.iterator(); iterator.hasNext(); exported++) {
+        consumer.accept(iterator.next());
+      }
+      LOG.debug("Exported {} users matching {}", exported, userExportRequest);
+      return exported;
+    }
+  }
+
   /**
    * Returns users according to the details in the dataTablesInput or null if no user exists.
    *
@@ -227,16 +304,50 @@ public class UserServiceImpl implements UserService {
   }
 
   /**
-   * Find all users that failed to verify their email after a certain time.
+   * Find the ids of users that failed to verify their email after a certain time, in ascending
+   * order after the given id.
    *
-   * @return List of users that failed to verify their email.
+   * @param afterId only ids greater than this id
+   * @param limit the maximum number of ids
+   * @return the ids of the users
    */
   @Override
-  public List<UserDto> findAllNotEnabledAfterAllowedDays() {
+  public List<Long> findNotEnabledUserIdsAfterAllowedDays(final long afterId, final int limit) {
     var date = LocalDateTime.now(clock).minusDays(UserConstants.DAYS_TO_ALLOW_ACCOUNT_ACTIVATION);
-    List<User> expiredUsers = userRepository.findByEnabledFalseAndCreatedAtBefore(date);
 
-    return UserUtils.convertToUserDto(expiredUsers);
+    return userRepository.findNotEnabledUserIds(date, afterId, Limit.of(limit));
+  }
+
+  /**
+   * Delete the users with the given ids along with their roles and histories, skipping any user
+   * that has been enabled in the meantime.
+   *
+   * <p>The users still not enabled are locked first, so a user cannot be enabled while its roles
+   * and histories are deleted, and only the locked ones are deleted.
+   *
+   * @param ids the ids of the users
+   * @return the number of users deleted
+   */
+  @Override
+  @CacheEvict(value = CacheConstants.USERS, allEntries = true)
+  @Transactional
+  public int deleteNotEnabledUsers(final Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    var lockedIds = userRepository.lockNotEnabledUserIds(ids);
+    if (lockedIds.isEmpty()) {
+      return 0;
+    }
+    lockedIds.forEach(id -> userDetailsCacheService.evictById(id, UserCacheEvictionCause.PRUNED));
+
+    // Children go first, since the foreign keys do not cascade.
+    userRepository.deleteUserHistoriesByUserIds(lockedIds);
+    userRepository.deleteUserRolesByUserIds(lockedIds);
+    int numberOfRowsDeleted = userRepository.deleteByIdIn(lockedIds);
+    LOG.debug("Deleted {} of {} not enabled user(s)", numberOfRowsDeleted, ids.size());
+
+    return numberOfRowsDeleted;
   }
 
   /**
@@ -264,7 +375,7 @@ public class UserServiceImpl implements UserService {
   @Override
   public boolean existsByUsername(final String username) {
     Validate.notNull(username, UserConstants.BLANK_USERNAME);
-    return userRepository.existsByUsernameOrderById(username);
+    return userRepository.existsByUsername(username);
   }
 
   /**
@@ -280,8 +391,10 @@ public class UserServiceImpl implements UserService {
     Validate.notNull(username, UserConstants.BLANK_USERNAME);
     Validate.notNull(email, UserConstants.BLANK_EMAIL);
 
-    return userRepository.existsByUsernameAndEnabledTrueOrEmailAndEnabledTrueOrderById(
-        username, email);
+    // Some databases scan the whole table for a match on either column, a lookup on each unique
+    // index never does.
+    return userRepository.existsByUsernameAndEnabledTrue(username)
+        || userRepository.existsByEmailAndEnabledTrue(email);
   }
 
   /**
@@ -295,7 +408,7 @@ public class UserServiceImpl implements UserService {
   public boolean isValidUsernameAndToken(final String username, final String token) {
     Validate.notNull(username, UserConstants.BLANK_USERNAME);
 
-    return userRepository.existsByUsernameAndVerificationTokenOrderById(username, token);
+    return userRepository.existsByUsernameAndVerificationToken(username, token);
   }
 
   /**
@@ -311,14 +424,15 @@ public class UserServiceImpl implements UserService {
       evict = {
         @CacheEvict(value = CacheConstants.USERS, key = "#userDto.username"),
         @CacheEvict(value = CacheConstants.USERS, key = "#userDto.publicId"),
-        @CacheEvict(value = CacheConstants.USERS, key = "#userDto.email"),
-        @CacheEvict(value = CacheConstants.USER_DETAILS, allEntries = true)
+        @CacheEvict(value = CacheConstants.USERS, key = "#userDto.email")
       })
   @Transactional
   public UserDto updateUser(UserDto userDto, UserHistoryType userHistoryType) {
     Validate.notNull(userDto, UserConstants.USER_DTO_MUST_NOT_BE_NULL);
 
     userDto.setVerificationToken(null);
+    tokenRevocationService.revokeTokens(userDto.getPublicId());
+    userDetailsCacheService.evictById(userDto.getId(), UserCacheEvictionCause.UPDATED);
     return persistUser(userDto, Collections.emptySet(), userHistoryType, true);
   }
 
@@ -330,11 +444,7 @@ public class UserServiceImpl implements UserService {
    * @throws NullPointerException in case the given entity is {@literal null}
    */
   @Override
-  @Caching(
-      evict = {
-        @CacheEvict(value = CacheConstants.USERS),
-        @CacheEvict(value = CacheConstants.USER_DETAILS, allEntries = true)
-      })
+  @CacheEvict(value = CacheConstants.USERS)
   @Transactional
   public UserDto enableUser(final String publicId) {
     Validate.notNull(publicId, UserConstants.BLANK_PUBLIC_ID);
@@ -343,6 +453,7 @@ public class UserServiceImpl implements UserService {
     LOG.debug("Enabling user {}", storedUser);
 
     if (Objects.nonNull(storedUser)) {
+      userDetailsCacheService.evictById(storedUser.getId(), UserCacheEvictionCause.ENABLED);
       storedUser.setEnabled(true);
       UserDto userDto = UserUtils.convertToUserDto(storedUser);
 
@@ -359,18 +470,16 @@ public class UserServiceImpl implements UserService {
    * @throws NullPointerException in case the given entity is {@literal null}
    */
   @Override
-  @Caching(
-      evict = {
-        @CacheEvict(value = CacheConstants.USERS),
-        @CacheEvict(value = CacheConstants.USER_DETAILS, allEntries = true)
-      })
+  @CacheEvict(value = CacheConstants.USERS)
   @Transactional
   public UserDto disableUser(final String publicId) {
     Validate.notNull(publicId, UserConstants.BLANK_PUBLIC_ID);
 
     User storedUser = userRepository.findByPublicId(publicId);
     if (Objects.nonNull(storedUser)) {
+      userDetailsCacheService.evictById(storedUser.getId(), UserCacheEvictionCause.DISABLED);
       storedUser.setEnabled(false);
+      tokenRevocationService.revokeTokens(publicId);
       UserDto userDto = UserUtils.convertToUserDto(storedUser);
 
       return persistUser(userDto, Collections.emptySet(), UserHistoryType.ACCOUNT_DISABLED, true);
@@ -385,14 +494,12 @@ public class UserServiceImpl implements UserService {
    * @throws NullPointerException in case the given entity is {@literal null}
    */
   @Override
-  @Caching(
-      evict = {
-        @CacheEvict(value = CacheConstants.USERS, key = "#publicId"),
-        @CacheEvict(value = CacheConstants.USER_DETAILS, allEntries = true)
-      })
+  @CacheEvict(value = CacheConstants.USERS, key = "#publicId")
   @Transactional
   public void deleteUser(final String publicId) {
     ValidationUtils.validateInputsWithMessage(UserConstants.BLANK_PUBLIC_ID, publicId);
+    tokenRevocationService.revokeTokens(publicId);
+    userDetailsCacheService.evictByPublicId(publicId, UserCacheEvictionCause.DELETED);
 
     // The Number of rows deleted is expected to be 1 since publicId is unique
     int numberOfRowsDeleted = userRepository.deleteByPublicId(publicId);
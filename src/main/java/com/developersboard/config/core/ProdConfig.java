@@ -1,12 +1,24 @@
 package com.developersboard.config.core;
 
+import com.developersboard.backend.service.mail.impl.PooledJavaMailSender;
 import com.developersboard.config.properties.AwsProperties;
 import com.developersboard.constant.EnvConstants;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Properties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.mail.javamail.JavaMailSender;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 
@@ -23,7 +35,8 @@ import software.amazon.awssdk.services.s3.S3Client;
 public class ProdConfig {
 
   /**
-   * A bean to be used by AmazonS3 Service.
+   * A bean to be used by AmazonS3 Service. Connections are pooled, so that uploads reuse open
+   * connections instead of paying for a new TLS handshake each time.
    *
    * @param props the aws properties
    * @return instance of S3Client
@@ -34,9 +47,68 @@ public class ProdConfig {
     var credentials =
         AwsBasicCredentials.create(props.getAccessKeyId(), props.getSecretAccessKey());
 
+    var httpClient =
+        ApacheHttpClient.builder()
+            .maxConnections(props.getS3MaxConnections())
+            .connectionTimeout(props.getS3ConnectionTimeout())
+            .connectionAcquisitionTimeout(props.getS3ConnectionAcquisitionTimeout())
+            .socketTimeout(props.getS3SocketTimeout())
+            .tcpKeepAlive(true);
+
     return S3Client.builder()
         .region(Region.of(props.getRegion()))
         .credentialsProvider(StaticCredentialsProvider.create(credentials))
+        .httpClientBuilder(httpClient)
+        .overrideConfiguration(
+            ClientOverrideConfiguration.builder()
+                .apiCallTimeout(props.getS3ApiCallTimeout())
+                .build())
         .build();
   }
+
+  /**
+   * Creates a JavaMailSender bean that reuses its SMTP connections across sends.
+   *
+   * @param props the mail properties
+   * @param meterRegistry the meter registry
+   * @param maxConnections the most connections open at a time
+   * @param maxMessagesPerConnection the most messages sent over one connection
+   * @param idleTimeout how long a connection may stay unused
+   * @return javaMailSender
+   */
+  @Bean
+  public JavaMailSender mailSender(
+      MailProperties props,
+      MeterRegistry meterRegistry,
+      @Value("${mail.smtp.pool.maxConnections}") int maxConnections,
+      @Value("${mail.smtp.pool.maxMessagesPerConnection}") int maxMessagesPerConnection,
+      @Value("${mail.smtp.pool.idleTimeout}") Duration idleTimeout) {
+
+    var mailSender =
+        new PooledJavaMailSender(maxConnections, maxMessagesPerConnection, idleTimeout);
+    mailSender.setHost(props.getHost());
+    if (Objects.nonNull(props.getPort())) {
+      mailSender.setPort(props.getPort());
+    }
+    mailSender.setUsername(props.getUsername());
+    mailSender.setPassword(props.getPassword());
+    mailSender.setProtocol(props.getProtocol());
+    if (Objects.nonNull(props.getDefaultEncoding())) {
+      mailSender.setDefaultEncoding(props.getDefaultEncoding().name());
+    }
+    var javaMailProperties = new Properties();
+    javaMailProperties.putAll(props.getProperties());
+    mailSender.setJavaMailProperties(javaMailProperties);
+
+    FunctionCounter.builder(
+            "mail.smtp.connections.opened",
+            mailSender,
+            PooledJavaMailSender::getConnectionsOpened)
+        .register(meterRegistry);
+    Gauge.builder(
+            "mail.smtp.connections.idle", mailSender, PooledJavaMailSender::getIdleConnections)
+        .register(meterRegistry);
+
+    return mailSender;
+  }
 }
@@ -1,13 +1,17 @@
 package com.developersboard.config.jpa;
 
 import com.developersboard.backend.persistent.domain.base.ApplicationAuditorAware;
+import com.developersboard.backend.service.cache.CacheInvalidationService;
+import com.developersboard.backend.service.cache.impl.ClusterInvalidatingCacheManager;
+import com.developersboard.config.properties.CacheConfigProperties;
 import com.developersboard.constant.CacheConstants;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
 import java.util.List;
+import java.util.Objects;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
-import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
@@ -47,18 +51,58 @@ public class JpaConfig {
   }
 
   /**
-   * Creates maps to manage the cacheable objects.
+   * Creates size-bounded caches with expiring entries to manage the cacheable objects.
    *
+   * <p>Statistics are recorded on every cache so that hits, misses and evictions are published
+   * through the actuator metrics endpoint. Evictions are also sent to the other application nodes.
+   *
+   * @param cacheProperties the cache properties
+   * @param cacheInvalidationService the service invalidating the caches of the other nodes
    * @return the cacheManager
    */
   @Bean
-  public CacheManager cacheManager() {
-    SimpleCacheManager cacheManager = new SimpleCacheManager();
-    cacheManager.setCaches(
+  public CacheManager cacheManager(
+      final CacheConfigProperties cacheProperties,
+      final CacheInvalidationService cacheInvalidationService) {
+    var cacheManager = new ClusterInvalidatingCacheManager(cacheInvalidationService);
+    cacheManager.setCaffeine(cacheBuilder(cacheProperties, new CacheConfigProperties.CacheSpec()));
+
+    for (String cacheName :
         List.of(
-            new ConcurrentMapCache(CacheConstants.USERS),
-            new ConcurrentMapCache(CacheConstants.USER_DETAILS),
-            new ConcurrentMapCache(CacheConstants.ROLES)));
+            CacheConstants.USERS,
+            CacheConstants.ROLES,
+            CacheConstants.PRESIGNED_URLS)) {
+      var cacheSpec = cacheProperties.getSpec(cacheName);
+      cacheManager.registerCustomCache(cacheName, cacheBuilder(cacheProperties, cacheSpec).build());
+    }
     return cacheManager;
   }
+
+  /**
+   * Creates a cache builder with the size and expiration of the given spec, recording statistics.
+   *
+   * @param cacheProperties the cache properties with the defaults
+   * @param spec the spec of the cache
+   * @return the cache builder
+   */
+  public static Caffeine<Object, Object> cacheBuilder(
+      final CacheConfigProperties cacheProperties, final CacheConfigProperties.CacheSpec spec) {
+
+    var maximumSize =
+        Objects.requireNonNullElse(spec.getMaximumSize(), cacheProperties.getDefaultMaximumSize());
+    var timeToLive =
+        Objects.requireNonNullElse(spec.getTimeToLive(), cacheProperties.getDefaultTimeToLive());
+
+    // The system scheduler removes expired entries promptly, even when a cache sits idle.
+    var builder =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .scheduler(Scheduler.systemScheduler())
+            .recordStats();
+    if (Objects.nonNull(spec.getTimeToIdle())) {
+      builder.expireAfterAccess(spec.getTimeToIdle());
+    }
+    return builder;
+  }
 }
@@ -0,0 +1,136 @@
+package com.developersboard.config.jpa;
+
+import com.developersboard.backend.persistent.domain.user.Role;
+import com.developersboard.backend.persistent.domain.user.User;
+import com.developersboard.backend.persistent.domain.user.UserRole;
+import com.developersboard.constant.CacheConstants;
+import java.io.Serializable;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.annotations.CacheLayout;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Sizes the regions of the Hibernate second-level cache. A region that is not sized here makes the
+ * application fail to start (hibernate.javax.cache.missing_cache_strategy=fail).
+ *
+ * <p>The hottest entries are kept on the heap, the rest off the heap where they do not add to the
+ * garbage collection work, unless the off-heap tier is disabled. Entries of the regions that users
+ * write to expire, so that a change missed by this node is not served for long.
+ *
+ * <p>Cached queries keep the ids of the entities they found rather than copies of them, so that
+ * evicting an entity is enough for the queries that found it to read it again.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+  private static final Duration USER_TIME_TO_LIVE = Duration.ofMinutes(10);
+  private static final Duration QUERY_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+  /**
+   * Creates the Ehcache manager holding the second-level cache regions.
+   *
+   * <p>Each application context gets its own manager, so that closing one context does not close
+   * the regions of another one started in the same JVM.
+   *
+   * @param offheapEnabled whether the regions have an off-heap tier
+   * @return the second-level cache manager
+   */
+  @Bean
+  public CacheManager secondLevelCacheManager(
+      @Value("${second-level-cache.offheap-enabled:true}") final boolean offheapEnabled) {
+    Map<String, CacheConfiguration<?, ?>> regions = new HashMap<>();
+    regions.put(Role.class.getName(), region(100, null, null));
+    regions.put(
+        User.class.getName(), region(10_000, offheap(offheapEnabled, 64), USER_TIME_TO_LIVE));
+    regions.put(
+        User.class.getName() + ".userRoles",
+        region(10_000, offheap(offheapEnabled, 32), USER_TIME_TO_LIVE));
+    // The ids of the users by their public id, which never changes, so the entries do not expire.
+    regions.put(
+        User.class.getName() + "##NaturalId", region(10_000, offheap(offheapEnabled, 16), null));
+    regions.put(
+        UserRole.class.getName(), region(20_000, offheap(offheapEnabled, 32), USER_TIME_TO_LIVE));
+    regions.put(
+        RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+        region(10_000, offheap(offheapEnabled, 32), QUERY_TIME_TO_LIVE));
+    regions.put(
+        CacheConstants.USER_CREDENTIALS,
+        region(10_000, offheap(offheapEnabled, 16), QUERY_TIME_TO_LIVE));
+    // The last update of each table, it must outlive the query results it validates.
+    regions.put(
+        RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, region(1000, null, null));
+
+    var classLoader = getClass().getClassLoader();
+    var cachingProvider =
+        (EhcacheCachingProvider)
+            Caching.getCachingProvider(EhcacheCachingProvider.class.getName(), classLoader);
+    return cachingProvider.getCacheManager(
+        URI.create("urn:second-level-cache:" + UUID.randomUUID()),
+        new DefaultConfiguration(regions, classLoader));
+  }
+
+  /**
+   * Hands the sized regions over to Hibernate, along with the natural id of users that they cache.
+   *
+   * @param secondLevelCacheManager the second-level cache manager
+   * @return the customizer of the Hibernate properties
+   */
+  @Bean
+  public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+      final CacheManager secondLevelCacheManager) {
+    return properties -> {
+      properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+      properties.put(CacheSettings.QUERY_CACHE_LAYOUT, CacheLayout.SHALLOW);
+      properties.put(
+          EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER,
+          (IntegratorProvider) () -> List.of(new UserNaturalIdIntegrator()));
+    };
+  }
+
+  private static Long offheap(final boolean enabled, final long megabytes) {
+    return enabled ? megabytes : null;
+  }
+
+  private static CacheConfiguration<Serializable, Serializable> region(
+      final long heapEntries, final Long offheapMegabytes, final Duration timeToLive) {
+
+    var resourcePools = ResourcePoolsBuilder.heap(heapEntries);
+    if (Objects.nonNull(offheapMegabytes)) {
+      resourcePools = resourcePools.offheap(offheapMegabytes, MemoryUnit.MB);
+    }
+    var builder =
+        CacheConfigurationBuilder.newCacheConfigurationBuilder(
+            Serializable.class, Serializable.class, resourcePools);
+    if (Objects.nonNull(timeToLive)) {
+      builder = builder.withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(timeToLive));
+    }
+    return builder.build();
+  }
+}
@@ -0,0 +1,91 @@
+package com.developersboard.config.jpa;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the statistics of the Hibernate second-level cache under /actuator/secondlevelcache.
+ *
+ * <p>The counts are only collected while hibernate.generate_statistics is on, and are counted from
+ * the start of the application.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@Endpoint(id = "secondlevelcache")
+public class SecondLevelCacheEndpoint {
+
+  private final Statistics statistics;
+
+  public SecondLevelCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+    this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  /**
+   * Returns the hits, misses and puts of the second-level and query caches, and of each region.
+   *
+   * @return the statistics of the second-level cache
+   */
+  @ReadOperation
+  public SecondLevelCacheStatistics statistics() {
+    Map<String, RegionStatistics> regions = new TreeMap<>();
+    for (var regionName : statistics.getSecondLevelCacheRegionNames()) {
+      var regionStatistics = statistics.getCacheRegionStatistics(regionName);
+      if (Objects.nonNull(regionStatistics)) {
+        regions.put(
+            regionName,
+            new RegionStatistics(
+                regionStatistics.getHitCount(),
+                regionStatistics.getMissCount(),
+                regionStatistics.getPutCount()));
+      }
+    }
+
+    return new SecondLevelCacheStatistics(
+        statistics.isStatisticsEnabled(),
+        new RegionStatistics(
+            statistics.getSecondLevelCacheHitCount(),
+            statistics.getSecondLevelCacheMissCount(),
+            statistics.getSecondLevelCachePutCount()),
+        new RegionStatistics(
+            statistics.getQueryCacheHitCount(),
+            statistics.getQueryCacheMissCount(),
+            statistics.getQueryCachePutCount()),
+        statistics.getPrepareStatementCount(),
+        regions);
+  }
+
+  /**
+   * The statistics of the second-level cache.
+   *
+   * @param enabled whether the statistics are collected
+   * @param entities the totals of the entity and collection regions
+   * @param queries the totals of the query cache
+   * @param statements the number of statements prepared
+   * @param regions the statistics of each region by its name
+   */
+  public record SecondLevelCacheStatistics(
+      boolean enabled,
+      RegionStatistics entities,
+      RegionStatistics queries,
+      long statements,
+      Map<String, RegionStatistics> regions) {}
+
+  /**
+   * The counts of a cache region.
+   *
+   * @param hits the number of entries found
+   * @param misses the number of entries not found
+   * @param puts the number of entries put
+   */
+  public record RegionStatistics(long hits, long misses, long puts) {}
+}
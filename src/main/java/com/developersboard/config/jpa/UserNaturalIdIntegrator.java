@@ -0,0 +1,44 @@
+package com.developersboard.config.jpa;
+
+import com.developersboard.backend.persistent.domain.user.User;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Declares the public id as the natural id of users, so that a user can be loaded by it from the
+ * natural id cache without a query.
+ *
+ * <p>The public id is mapped once for all entities by BaseEntity, and an entity cannot redeclare an
+ * attribute of its mapped superclass. Annotating it there would make it the natural id of every
+ * entity, so the mapping of users is changed here, before Hibernate builds its model from it.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+public class UserNaturalIdIntegrator implements Integrator {
+
+  private static final String PUBLIC_ID = "publicId";
+
+  @Override
+  public void integrate(
+      final Metadata metadata,
+      final BootstrapContext bootstrapContext,
+      final SessionFactoryImplementor sessionFactory) {
+
+    var publicId = metadata.getEntityBinding(User.class.getName()).getProperty(PUBLIC_ID);
+    publicId.setNaturalIdentifier(true);
+    // An immutable natural id, the same as an unannotated @NaturalId
+    publicId.setUpdateable(false);
+  }
+
+  @Override
+  public void disintegrate(
+      final SessionFactoryImplementor sessionFactory,
+      final SessionFactoryServiceRegistry serviceRegistry) {
+    // Nothing to undo, the mapping goes away with the session factory
+  }
+}
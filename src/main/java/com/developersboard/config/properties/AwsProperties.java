@@ -1,8 +1,10 @@
 package com.developersboard.config.properties;
 
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Aws configuration properties groups all properties prefixed with "aws.".
@@ -23,4 +25,18 @@ public class AwsProperties {
   private String s3BucketName;
   private String serviceEndpoint;
   private String servicePort;
+
+  // Files larger than the threshold are uploaded in parts, holding one part in memory at a time
+  private DataSize s3MultipartThreshold = DataSize.ofMegabytes(16);
+  private DataSize s3PartSize = DataSize.ofMegabytes(8);
+
+  // Uploads only check that the bucket exists once per interval
+  private Duration s3BucketVerificationInterval = Duration.ofHours(1);
+
+  // S3 client connection pool and timeouts
+  private int s3MaxConnections = 50;
+  private Duration s3ConnectionTimeout = Duration.ofSeconds(2);
+  private Duration s3ConnectionAcquisitionTimeout = Duration.ofSeconds(10);
+  private Duration s3SocketTimeout = Duration.ofSeconds(30);
+  private Duration s3ApiCallTimeout = Duration.ofMinutes(2);
 }
@@ -0,0 +1,53 @@
+package com.developersboard.config.properties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache configuration properties groups all properties prefixed with "cache.".
+ *
+ * <p>Each cache is configured under "cache.specs.&lt;cacheName&gt;" using the names declared in
+ * {@link com.developersboard.constant.CacheConstants}. Any value left unset falls back to the
+ * defaults.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "cache")
+public class CacheConfigProperties {
+
+  private long defaultMaximumSize = 1000;
+  private Duration defaultTimeToLive = Duration.ofMinutes(5);
+  private Map<String, CacheSpec> specs = new HashMap<>();
+
+  /**
+   * Returns the spec configured for the cache name or an empty spec if none was configured.
+   *
+   * @param cacheName the cache name
+   * @return the cache spec
+   */
+  public CacheSpec getSpec(final String cacheName) {
+    return specs.getOrDefault(cacheName, new CacheSpec());
+  }
+
+  /** The size and expiration policy of a single cache. */
+  @Data
+  public static class CacheSpec {
+
+    /** Maximum number of entries before the least valuable entries are evicted. */
+    private Long maximumSize;
+
+    /** Entries expire this long after they were written. */
+    private Duration timeToLive;
+
+    /** Entries expire this long after they were last read or written, if set. */
+    private Duration timeToIdle;
+  }
+}
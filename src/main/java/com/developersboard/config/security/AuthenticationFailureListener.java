@@ -1,10 +1,12 @@
 package com.developersboard.config.security;
 
 import com.developersboard.backend.service.security.BruteForceProtectionService;
+import com.developersboard.shared.util.core.WebUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationListener;
 import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
 import org.springframework.stereotype.Component;
 
 /**
@@ -27,6 +29,10 @@ public class AuthenticationFailureListener
     String username = event.getAuthentication().getName();
     LOG.warn("********* login failed for user {} ", username);
 
-    bruteForceProtectionService.registerLoginFailure(username);
+    String clientIp = WebUtils.getClientIpAddress();
+    if (event.getAuthentication().getDetails() instanceof WebAuthenticationDetails details) {
+      clientIp = details.getRemoteAddress();
+    }
+    bruteForceProtectionService.registerLoginFailure(username, clientIp);
   }
 }
@@ -0,0 +1,62 @@
+package com.developersboard.config.security;
+
+import com.developersboard.backend.service.security.BruteForceProtectionService;
+import com.developersboard.constant.user.UserConstants;
+import com.developersboard.shared.util.core.WebUtils;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+/**
+ * Authenticates logins with the UserDetailsService, rejecting those under brute force attack.
+ *
+ * <p>A client under attack is rejected before the user is looked up, so its logins are rejected
+ * for unknown usernames too and do not reach the database. A username under attack is rejected
+ * once the user is loaded, before the password is checked.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+public class BruteForceAuthenticationProvider extends DaoAuthenticationProvider {
+
+  private final BruteForceProtectionService bruteForceProtectionService;
+
+  public BruteForceAuthenticationProvider(
+      UserDetailsService userDetailsService,
+      BruteForceProtectionService bruteForceProtectionService) {
+
+    super(userDetailsService);
+    this.bruteForceProtectionService = bruteForceProtectionService;
+
+    var accountStatusChecker = new AccountStatusUserDetailsChecker();
+    setPreAuthenticationChecks(
+        user -> {
+          if (bruteForceProtectionService.isBruteForceAttack(user.getUsername(), null)) {
+            throw new LockedException(UserConstants.USER_LOCKED_MESSAGE);
+          }
+          accountStatusChecker.check(user);
+        });
+  }
+
+  @Override
+  public Authentication authenticate(final Authentication authentication)
+      throws AuthenticationException {
+
+    if (bruteForceProtectionService.isBruteForceAttack(null, clientIp(authentication))) {
+      throw new LockedException(UserConstants.USER_LOCKED_MESSAGE);
+    }
+    return super.authenticate(authentication);
+  }
+
+  private static String clientIp(final Authentication authentication) {
+    if (authentication.getDetails() instanceof WebAuthenticationDetails details) {
+      return details.getRemoteAddress();
+    }
+    return WebUtils.getClientIpAddress();
+  }
+}
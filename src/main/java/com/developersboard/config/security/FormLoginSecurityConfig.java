@@ -5,6 +5,7 @@ import static org.springframework.security.config.Customizer.withDefaults;
 import com.developersboard.constant.EnvConstants;
 import com.developersboard.constant.HomeConstants;
 import com.developersboard.constant.SecurityConstants;
+import com.developersboard.enums.RoleType;
 import java.util.Arrays;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
@@ -69,8 +70,12 @@ public class FormLoginSecurityConfig {
         .authorizeHttpRequests(
             requests ->
                 requests
+                    .requestMatchers(SecurityConstants.PROFILE_IMAGES_URL_MAPPING)
+                    .authenticated()
                     .requestMatchers(SecurityConstants.getPublicMatchers().toArray(new String[0]))
                     .permitAll()
+                    .requestMatchers(SecurityConstants.ACTUATOR_URL_MAPPING)
+                    .hasAuthority(RoleType.ROLE_ADMIN.getName())
                     .anyRequest()
                     .authenticated())
         .authenticationProvider(authenticationProvider) // Register the provider
@@ -1,5 +1,6 @@
 package com.developersboard.config.security;
 
+import com.developersboard.backend.service.security.BruteForceProtectionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,15 +25,20 @@ public class SecurityConfig {
 
   private final PasswordEncoder passwordEncoder;
   private final UserDetailsService userDetailsService;
+  private final BruteForceProtectionService bruteForceProtectionService;
 
   /**
    * Creates a DaoAuthenticationProvider with the UserDetailsService and PasswordEncoder.
    *
+   * <p>Logins from a client under brute force attack are rejected before the user is looked up,
+   * and logins of a username under attack before the password is checked.
+   *
    * @return DaoAuthenticationProvider
    */
   @Bean
   public DaoAuthenticationProvider authenticationProvider() {
-    DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
+    DaoAuthenticationProvider provider =
+        new BruteForceAuthenticationProvider(userDetailsService, bruteForceProtectionService);
     provider.setPasswordEncoder(passwordEncoder);
     return provider;
   }
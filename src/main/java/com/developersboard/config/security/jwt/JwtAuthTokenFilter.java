@@ -1,17 +1,25 @@
 package com.developersboard.config.security.jwt;
 
+import com.developersboard.backend.service.impl.UserDetailsBuilder;
 import com.developersboard.backend.service.security.EncryptionService;
 import com.developersboard.backend.service.security.JwtService;
+import com.developersboard.backend.service.security.TokenRevocationService;
 import com.developersboard.shared.util.core.SecurityUtils;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AccountStatusException;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -31,6 +39,15 @@ public class JwtAuthTokenFilter extends OncePerRequestFilter {
   private final JwtService jwtService;
   private final EncryptionService encryptionService;
   private final UserDetailsService userDetailsService;
+  private final TokenRevocationService tokenRevocationService;
+
+  /** Rejects the same disabled, locked and expired accounts as a login does. */
+  private final AccountStatusUserDetailsChecker accountStatusChecker =
+      new AccountStatusUserDetailsChecker();
+
+  /** When enabled, the principal is built from the token claims instead of loading the user. */
+  @Value("${jwt.stateless-principal:false}")
+  private boolean statelessPrincipal;
 
   @Override
   protected void doFilterInternal(
@@ -50,13 +67,45 @@ public class JwtAuthTokenFilter extends OncePerRequestFilter {
     if (StringUtils.isNotBlank(jwt)) {
       var accessToken = encryptionService.decrypt(jwt);
 
-      if (StringUtils.isNotBlank(accessToken) && jwtService.isValidJwtToken(accessToken)) {
+      if (StringUtils.isNotBlank(accessToken)) {
+        // Verify the token only once and read the username from the verified claims.
+        var claims = jwtService.getVerifiedClaims(accessToken);
 
-        var username = jwtService.getUsernameFromToken(accessToken);
-        var userDetails = userDetailsService.loadUserByUsername(username);
-        SecurityUtils.authenticateUser(request, userDetails);
+        if (Objects.nonNull(claims)) {
+          var userDetails = getUserDetails(claims);
+          SecurityUtils.authenticateUser(request, userDetails);
+        }
       }
     }
     filterChain.doFilter(request, response);
   }
+
+  /**
+   * Resolves the principal for the verified claims. In stateless mode, tokens carrying the
+   * principal are trusted unless revoked, and only tokens without it fall back to loading the user.
+   *
+   * @param claims the verified claims
+   * @return the userDetails or null if the token must not authenticate
+   */
+  private UserDetails getUserDetails(final Claims claims) {
+    if (statelessPrincipal) {
+      var userDetails = UserDetailsBuilder.buildUserDetailsFromClaims(claims);
+
+      if (Objects.nonNull(userDetails)) {
+        var publicId = userDetails.getPublicId();
+        if (tokenRevocationService.isRevoked(publicId, claims.getIssuedAt())) {
+          LOG.debug("Token for user {} is revoked", claims.getSubject());
+          return null;
+        }
+        try {
+          accountStatusChecker.check(userDetails);
+        } catch (AccountStatusException e) {
+          LOG.debug("Account of user {} is inactive: {}", claims.getSubject(), e.getMessage());
+          return null;
+        }
+        return userDetails;
+      }
+    }
+    return userDetailsService.loadUserByUsername(claims.getSubject());
+  }
 }
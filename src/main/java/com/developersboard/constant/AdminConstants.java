@@ -1,5 +1,7 @@
 package com.developersboard.constant;
 
+import org.springframework.http.MediaType;
+
 /**
  * This class holds all constants used by the operations available to the ADMIN.
  *
@@ -12,6 +14,25 @@ public final class AdminConstants {
   /** Admin Controller URI Mappings. */
   public static final String API_V1_USERS_ROOT_URL = "/api/v1/users";
 
+  /** Admin URI mapping of the outbound emails. */
+  public static final String API_V1_EMAILS_ROOT_URL = "/api/v1/emails";
+
+  /** The number of users listed after a cursor, by default and at most. */
+  public static final int DEFAULT_SCROLL_SIZE = 20;
+
+  public static final int MAX_SCROLL_SIZE = 100;
+
+  /** The number of exported users read from the database per round trip. */
+  public static final int EXPORT_FETCH_SIZE = 500;
+
+  /** The number of exported users written between flushes of the response. */
+  public static final int EXPORT_FLUSH_SIZE = 1000;
+
+  /** Media type of the comma separated values accepted by the bulk operations. */
+  public static final String TEXT_CSV_VALUE = "text/csv";
+
+  public static final MediaType TEXT_CSV = MediaType.valueOf(TEXT_CSV_VALUE);
+
   private AdminConstants() {
     throw new AssertionError(ErrorConstants.NOT_INSTANTIABLE);
   }
@@ -18,6 +18,18 @@ public final class CacheConstants {
   /** Constant for the cache key for user details */
   public static final String USER_DETAILS = "userDetails";
 
+  /** Constant for the invalidations of the users deleted, which also drop the cached queries */
+  public static final String DELETED_USERS = "deletedUsers";
+
+  /** Constant for the second-level cache region of the cached user credentials queries */
+  public static final String USER_CREDENTIALS = "userCredentials";
+
+  /** Constant for the cache key for the pre-signed URLs of stored files */
+  public static final String PRESIGNED_URLS = "presignedUrls";
+
+  /** Constant for the cache key for the token revocations */
+  public static final String TOKEN_REVOCATIONS = "tokenRevocations";
+
   /** Constant for the cache key for the user histories */
   public static final String USER_HISTORIES = "userHistories";
 
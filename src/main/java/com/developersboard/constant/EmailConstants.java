@@ -33,6 +33,13 @@ public final class EmailConstants {
   /** Email password update html template */
   public static final String PASSWORD_UPDATE_TEMPLATE = "email/password-update";
 
+  /** Email request must not be null message */
+  public static final String EMAIL_REQUEST_MUST_NOT_BE_NULL = "EmailRequest must not be null";
+
+  /** Outbox emails are rendered when sent, so files cannot be attached to them */
+  public static final String OUTBOX_ATTACHMENTS_NOT_SUPPORTED =
+      "Emails with attachments cannot be queued in the outbox";
+
   /** Simulation message to be displayed in dev mode */
   public static final String SIMULATING_SENDING_AN_EMAIL = "Simulating sending an email...";
 
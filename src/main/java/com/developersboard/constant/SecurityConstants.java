@@ -1,6 +1,7 @@
 package com.developersboard.constant;
 
 import com.developersboard.constant.user.PasswordConstants;
+import com.developersboard.constant.user.ProfileConstants;
 import com.developersboard.constant.user.SignUpConstants;
 import java.util.Arrays;
 import java.util.Collection;
@@ -21,6 +22,11 @@ public final class SecurityConstants {
   public static final String API_V1_AUTH_URL_MAPPING = "/api/v1/auth/**";
   public static final String API_ROOT_URL_MAPPING = "/api/**";
   public static final String ERROR_URL_MAPPING = "/error/**";
+  public static final String ACTUATOR_URL_MAPPING = "/actuator/**";
+
+  /** Profile images are below the public images, but only served to authenticated users. */
+  public static final String PROFILE_IMAGES_URL_MAPPING =
+      ProfileConstants.PROFILE_IMAGES_MAPPING + "/**";
   public static final String BEARER = "Bearer";
   public static final String BEARER_PREFIX = "Bearer ";
   public static final String JSESSIONID = "JSESSIONID";
@@ -35,6 +41,17 @@ public final class SecurityConstants {
 
   public static final String LOGIN_VIEW_NAME = "user/login";
 
+  /** Claims carrying the user principal in access tokens. */
+  public static final String CLAIM_USER_ID = "uid";
+
+  public static final String CLAIM_PUBLIC_ID = "pid";
+  public static final String CLAIM_EMAIL = "email";
+  public static final String CLAIM_ROLES = "roles";
+  public static final String CLAIM_ENABLED = "enabled";
+  public static final String CLAIM_ACCOUNT_NON_LOCKED = "nonLocked";
+  public static final String CLAIM_ACCOUNT_NON_EXPIRED = "nonExpired";
+  public static final String CLAIM_CREDENTIALS_NON_EXPIRED = "credentialsNonExpired";
+
   public static final int DEFAULT_TOKEN_DURATION = 7;
 
   public static final int SECURITY_STRENGTH = 12;
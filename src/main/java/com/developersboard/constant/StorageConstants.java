@@ -15,13 +15,13 @@ public final class StorageConstants {
 
   public static final String PROFILE_PATH = "profileImages";
   public static final String PROFILE_PICTURE_FILE_NAME = "profileImage";
-  public static final String FILE_CREATED_SUCCESSFULLY = "File created successfully!";
-  public static final String A_NULL_WITHIN_METHOD =
-      "fileName returned a null within multipartToFile method!";
+  public static final String ORIGINAL_FILE_NAME_IS_NULL = "Original file name is null";
   public static final String MULTI_PART_FILE_IS_EMPTY = "Multi part file is empty";
 
   public static final String MULTIPART_FILE_IS_NULL = "Multipart file is null";
   public static final String PATH_CANNOT_BE_NULL = "Path cannot be null";
+  public static final String TOO_MANY_IMAGES =
+      "Too many images are being processed, please try again later";
 
   private StorageConstants() {
     throw new AssertionError(ErrorConstants.NOT_INSTANTIABLE);
@@ -1,6 +1,7 @@
 package com.developersboard.constant.user;
 
 import com.developersboard.constant.ErrorConstants;
+import com.developersboard.constant.StorageConstants;
 
 /**
  * Profile constant provides details about user profile.
@@ -14,6 +15,14 @@ public final class ProfileConstants {
 
   public static final String PROFILE_UPDATE_MAPPING = "/update";
 
+  /** Stored images are served under their storage key, below the images mapping. */
+  public static final String IMAGES_MAPPING = "/images/";
+
+  public static final String PROFILE_IMAGES_MAPPING =
+      IMAGES_MAPPING + StorageConstants.PROFILE_PATH;
+  public static final String PROFILE_IMAGE_MAPPING = "/{username}/{fileName}";
+  public static final String IMAGE_VERSION_PARAM = "v";
+
   /** URL Redirect Mapping Constants. */
   public static final String REDIRECT_TO_PROFILE = "redirect:/profile";
 
@@ -24,6 +24,8 @@ public final class UserConstants {
 
   public static final String USER_MUST_NOT_BE_NULL = "User must not be null";
   public static final String USER_DTO_MUST_NOT_BE_NULL = "UserDto must not be null";
+  public static final String USER_EXPORT_REQUEST_MUST_NOT_BE_NULL =
+      "UserExportRequest must not be null";
 
   /** Username should be at least 3 and at most 50 characters. */
   public static final String USERNAME_SIZE =
@@ -55,6 +57,8 @@ public final class UserConstants {
   public static final String USER_LOCKED_MESSAGE = "User is locked";
   public static final String USER_EXPIRED_MESSAGE = "User is expired";
   public static final String USER_CREDENTIALS_EXPIRED_MESSAGE = "User credentials expired";
+  public static final String DUPLICATE_IN_IMPORT = "Username or email appears earlier in the import";
+  public static final String USER_IMPORT_FAILED = "User could not be created";
 
   private UserConstants() {
     throw new AssertionError(ErrorConstants.NOT_INSTANTIABLE);
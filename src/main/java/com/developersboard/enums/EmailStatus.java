@@ -0,0 +1,27 @@
+package com.developersboard.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * EmailStatus holds the states of an email in the outbox.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EmailStatus {
+
+  /** The email is waiting to be sent, possibly after a failed attempt. */
+  PENDING("Pending"),
+
+  /** The email has been handed to the mail server. */
+  SENT("Sent"),
+
+  /** Every attempt to send the email failed, it is kept for inspection and manual retry. */
+  DEAD("Dead");
+
+  private final String name;
+}
@@ -0,0 +1,24 @@
+package com.developersboard.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ImageResizeMode holds the ways an image is fitted into a width and height.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageResizeMode {
+
+  /** The whole image is scaled down to fit, keeping its aspect ratio, one side may be shorter. */
+  FIT("Fit"),
+
+  /** The image is scaled to cover both sides, keeping its aspect ratio, then cropped centered. */
+  CROP("Crop");
+
+  private final String name;
+}
@@ -0,0 +1,30 @@
+package com.developersboard.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ImageVariant holds the sizes an uploaded image is stored in.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+  /** A small square, as shown in lists. */
+  THUMBNAIL("Thumbnail", 150, 150, ImageResizeMode.CROP),
+
+  /** The square profile image. */
+  MEDIUM("Medium", 600, 600, ImageResizeMode.CROP),
+
+  /** The image as uploaded, only scaled down if it is larger than the bounds. */
+  ORIGINAL("Original", 2048, 2048, ImageResizeMode.FIT);
+
+  private final String name;
+  private final int width;
+  private final int height;
+  private final ImageResizeMode mode;
+}
@@ -0,0 +1,48 @@
+package com.developersboard.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * UserCacheEvictionCause holds the reasons a cached user is evicted, as reported in the metrics.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UserCacheEvictionCause {
+
+  /** The details of the user were updated. */
+  UPDATED("updated"),
+
+  /** The account of the user was enabled. */
+  ENABLED("enabled"),
+
+  /** The account of the user was disabled. */
+  DISABLED("disabled"),
+
+  /** The user was deleted. */
+  DELETED("deleted"),
+
+  /** The user never enabled the account and was pruned. */
+  PRUNED("pruned"),
+
+  /** The account of the user was locked after too many failed logins. */
+  LOCKED("locked"),
+
+  /** The outcomes of the logins of the user were written. */
+  LOGIN("login"),
+
+  /** The user was not read for longer than the time to live. */
+  EXPIRED("expired"),
+
+  /** The user was the least valuable entry of a full cache. */
+  SIZE("size"),
+
+  /** The user was changed on another application node. */
+  INVALIDATED("invalidated");
+
+  private final String name;
+}
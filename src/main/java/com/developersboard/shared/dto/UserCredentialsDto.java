@@ -0,0 +1,47 @@
+package com.developersboard.shared.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * The UserCredentialsDto carries what authenticating a user needs, read in a single query: the
+ * credentials, the account status and the names of the roles of the user.
+ *
+ * @param id the id
+ * @param publicId the public id
+ * @param username the username
+ * @param email the email
+ * @param password the encoded password
+ * @param firstName the first name
+ * @param lastName the last name
+ * @param phone the phone
+ * @param enabled whether the account is enabled
+ * @param accountNonExpired whether the account has not expired
+ * @param accountNonLocked whether the account is not locked
+ * @param credentialsNonExpired whether the credentials have not expired
+ * @param failedLoginAttempts the failed login attempts
+ * @param lastSuccessfulLogin when the user last logged in
+ * @param roles the names of the roles separated by commas, null if the user has none
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+public record UserCredentialsDto(
+    Long id,
+    String publicId,
+    String username,
+    String email,
+    String password,
+    String firstName,
+    String lastName,
+    String phone,
+    boolean enabled,
+    boolean accountNonExpired,
+    boolean accountNonLocked,
+    boolean credentialsNonExpired,
+    int failedLoginAttempts,
+    LocalDateTime lastSuccessfulLogin,
+    String roles) {
+
+  /** The separator of the role names. */
+  public static final String ROLE_SEPARATOR = ",";
+}
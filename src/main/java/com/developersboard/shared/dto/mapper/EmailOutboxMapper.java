@@ -0,0 +1,29 @@
+package com.developersboard.shared.dto.mapper;
+
+import com.developersboard.backend.persistent.domain.mail.EmailOutbox;
+import com.developersboard.web.payload.response.EmailOutboxResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * The EmailOutboxMapper class outlines the supported conversions between EmailOutbox and other
+ * objects.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface EmailOutboxMapper {
+
+  EmailOutboxMapper MAPPER = Mappers.getMapper(EmailOutboxMapper.class);
+
+  /**
+   * Convert and populate an EmailOutbox to EmailOutboxResponse object.
+   *
+   * @param emailOutbox the emailOutbox
+   * @return the emailOutboxResponse
+   */
+  EmailOutboxResponse toEmailOutboxResponse(EmailOutbox emailOutbox);
+}
@@ -4,6 +4,7 @@ import com.developersboard.backend.persistent.domain.user.User;
 import com.developersboard.backend.service.impl.UserDetailsBuilder;
 import com.developersboard.shared.dto.UserDto;
 import com.developersboard.web.payload.request.SignUpRequest;
+import com.developersboard.web.payload.request.UserImportRequest;
 import com.developersboard.web.payload.response.UserResponse;
 import java.util.List;
 import org.mapstruct.Mapper;
@@ -46,6 +47,14 @@ public interface UserDtoMapper {
    */
   UserDto toUserDto(SignUpRequest signUpRequest);
 
+  /**
+   * Convert and populate a userImportRequest to userDto object.
+   *
+   * @param userImportRequest the user import request
+   * @return the userDto
+   */
+  UserDto toUserDto(UserImportRequest userImportRequest);
+
   /**
    * Convert and populate users to list of userDto objects.
    *
@@ -68,6 +77,9 @@ public interface UserDtoMapper {
    * @param userDto the userDto
    * @return the user
    */
+  @Mapping(
+      target = "profileImage",
+      expression = "java(UserUtils.getProfileImageKey(userDto.getProfileImage()))")
   User toUser(UserDto userDto);
 
   /**
@@ -6,6 +6,7 @@ import com.developersboard.backend.persistent.domain.user.UserHistory;
 import com.developersboard.backend.persistent.domain.user.UserRole;
 import com.developersboard.backend.service.impl.UserDetailsBuilder;
 import com.developersboard.constant.ErrorConstants;
+import com.developersboard.constant.StorageConstants;
 import com.developersboard.constant.user.ProfileConstants;
 import com.developersboard.constant.user.UserConstants;
 import com.developersboard.enums.RoleType;
@@ -15,6 +16,7 @@ import com.developersboard.shared.dto.mapper.UserDtoMapper;
 import com.developersboard.shared.dto.mapper.UserHistoryDtoMapper;
 import com.developersboard.shared.util.core.ValidationUtils;
 import com.developersboard.web.payload.request.SignUpRequest;
+import com.developersboard.web.payload.request.UserImportRequest;
 import com.developersboard.web.payload.response.UserResponse;
 import java.util.ArrayList;
 import java.util.List;
@@ -44,6 +46,10 @@ public final class UserUtils {
   /** Minimum password length for the password generation. */
   private static final int PASSWORD_MIN_LENGTH = 4;
 
+  /** The start of the storage key of every profile image. */
+  private static final String PROFILE_IMAGE_KEY_PREFIX =
+      StorageConstants.PROFILE_PATH + StorageConstants.SEPARATOR;
+
   private UserUtils() {
     throw new AssertionError(ErrorConstants.NOT_INSTANTIABLE);
   }
@@ -215,6 +221,20 @@ public final class UserUtils {
     return userDto;
   }
 
+  /**
+   * Transfers data from a bulk import request to an enabled transfer object, since imported users
+   * are vouched for by the administrator and skip the email verification.
+   *
+   * @param userImportRequest the user import request
+   * @return user dto
+   */
+  public static UserDto convertToUserDto(final UserImportRequest userImportRequest) {
+    var userDto = UserDtoMapper.MAPPER.toUserDto(userImportRequest);
+    Validate.notNull(userDto, UserConstants.USER_DTO_MUST_NOT_BE_NULL);
+    enableUser(userDto);
+    return userDto;
+  }
+
   /**
    * Transfers data from entity to transfer object.
    *
@@ -287,6 +307,22 @@ public final class UserUtils {
     return EmailValidator.getInstance().isValid(email);
   }
 
+  /**
+   * Tells whether the identifier a user signs in with has the shape of an email, an at sign with
+   * characters on both sides. Unlike {@link #isEmail(String)}, the identifier is only scanned once
+   * and never matched against the full email grammar.
+   *
+   * @param identifier the username or email
+   * @return true if the identifier may be an email, otherwise false.
+   */
+  public static boolean isEmailIdentifier(String identifier) {
+    if (Objects.isNull(identifier)) {
+      return false;
+    }
+    var at = identifier.indexOf('@');
+    return at > 0 && at < identifier.length() - 1;
+  }
+
   /**
    * Retrieves the roles from the userRoles.
    *
@@ -327,7 +363,9 @@ public final class UserUtils {
   }
 
   /**
-   * Returns the user profile or random image if not found.
+   * Returns the user profile or random image if not found. A stored image is returned as the path
+   * the application serves it under, carrying the user version so that a changed image is never
+   * served from a browser or CDN cache.
    *
    * @param user the user
    * @return profile image
@@ -337,9 +375,37 @@ public final class UserUtils {
       return ProfileConstants.PIC_SUM_PHOTOS_150_RANDOM;
     }
 
+    if (user.getProfileImage().startsWith(PROFILE_IMAGE_KEY_PREFIX)) {
+      return ProfileConstants.IMAGES_MAPPING
+          + user.getProfileImage()
+          + "?"
+          + ProfileConstants.IMAGE_VERSION_PARAM
+          + "="
+          + user.getVersion();
+    }
     return user.getProfileImage();
   }
 
+  /**
+   * Returns the profile image to store for the one returned by {@link #getUserProfileImage(User)},
+   * which is the storage key of a served image and nothing for the random image.
+   *
+   * @param profileImage the profile image
+   * @return the profile image to store
+   */
+  public static String getProfileImageKey(String profileImage) {
+    if (StringUtils.isBlank(profileImage)
+        || ProfileConstants.PIC_SUM_PHOTOS_150_RANDOM.equals(profileImage)) {
+      return null;
+    }
+
+    var key = StringUtils.removeStart(profileImage, ProfileConstants.IMAGES_MAPPING);
+    if (key.startsWith(PROFILE_IMAGE_KEY_PREFIX)) {
+      return StringUtils.substringBefore(key, "?");
+    }
+    return profileImage;
+  }
+
   /**
    * Transfers data from entity to a returnable object.
    *
@@ -0,0 +1,87 @@
+package com.developersboard.shared.util.core;
+
+import com.developersboard.constant.ErrorConstants;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * This utility class holds methods to read and write comma separated values.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+public final class CsvUtils {
+
+  private static final char SEPARATOR = ',';
+  private static final char QUOTE = '"';
+
+  private CsvUtils() {
+    throw new AssertionError(ErrorConstants.NOT_INSTANTIABLE);
+  }
+
+  /**
+   * Splits a line into its values. A value may be enclosed in double quotes to contain commas, and
+   * a double quote within a quoted value is written twice.
+   *
+   * @param line the line
+   * @return the values of the line
+   */
+  public static List<String> parseLine(final String line) {
+    List<String> values = new ArrayList<>();
+    var value = new StringBuilder();
+    var quoted = false;
+
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+          value.append(QUOTE);
+          i++;
+        } else if (c == QUOTE) {
+          quoted = false;
+        } else {
+          value.append(c);
+        }
+      } else if (c == QUOTE) {
+        quoted = true;
+      } else if (c == SEPARATOR) {
+        values.add(value.toString().trim());
+        value.setLength(0);
+      } else {
+        value.append(c);
+      }
+    }
+    values.add(value.toString().trim());
+    return values;
+  }
+
+  /**
+   * Joins the values into a line that {@link #parseLine(String)} reads back. A value containing a
+   * comma, a double quote or a line break is enclosed in double quotes, and a null value is empty.
+   *
+   * @param values the values
+   * @return the line, without a line break
+   */
+  public static String formatLine(final Iterable<?> values) {
+    var line = new StringJoiner(String.valueOf(SEPARATOR));
+    for (var value : values) {
+      line.add(formatValue(value));
+    }
+    return line.toString();
+  }
+
+  private static String formatValue(final Object value) {
+    var text = Objects.toString(value, "");
+    if (text.indexOf(SEPARATOR) < 0
+        && text.indexOf(QUOTE) < 0
+        && text.indexOf('\n') < 0
+        && text.indexOf('\r') < 0) {
+      return text;
+    }
+    var quote = String.valueOf(QUOTE);
+    return quote + text.replace(quote, quote + quote) + quote;
+  }
+}
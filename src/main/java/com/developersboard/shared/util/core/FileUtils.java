@@ -1,6 +1,7 @@
 package com.developersboard.shared.util.core;
 
 import com.developersboard.constant.ErrorConstants;
+import com.developersboard.enums.ImageResizeMode;
 import java.awt.AlphaComposite;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
@@ -39,7 +40,8 @@ public final class FileUtils {
   }
 
   /**
-   * Resize the file provided to the given width and height.
+   * Resize the file provided to the given width and height, cropping the image to keep its aspect
+   * ratio.
    *
    * @param file the file
    * @param width the width
@@ -50,24 +52,85 @@ public final class FileUtils {
   public static File resize(final File file, int width, int height) throws IOException {
     var image = ImageIO.read(file);
 
-    var resizedBufferedImage = resize(image, width, height, image.getType());
+    var resizedBufferedImage = resize(image, width, height, ImageResizeMode.CROP);
 
     ImageIO.write(resizedBufferedImage, FilenameUtils.getExtension(file.getName()), file);
     return file;
   }
 
-  private static BufferedImage resize(
+  /**
+   * Resize the image to the given width and height, keeping its aspect ratio. Fitted images are
+   * never scaled up, cropped images always come out at exactly the width and height.
+   *
+   * @param image the image
+   * @param width the width
+   * @param height the height
+   * @param mode how the image is fitted into the width and height
+   * @return the resized image
+   */
+  public static BufferedImage resize(
+      final BufferedImage image, int width, int height, final ImageResizeMode mode) {
+
+    var widthRatio = (double) width / image.getWidth();
+    var heightRatio = (double) height / image.getHeight();
+
+    if (mode == ImageResizeMode.CROP) {
+      var ratio = Math.max(widthRatio, heightRatio);
+      var cropWidth = Math.min(image.getWidth(), Math.max(1, (int) Math.round(width / ratio)));
+      var cropHeight = Math.min(image.getHeight(), Math.max(1, (int) Math.round(height / ratio)));
+      var cropped =
+          image.getSubimage(
+              (image.getWidth() - cropWidth) / 2,
+              (image.getHeight() - cropHeight) / 2,
+              cropWidth,
+              cropHeight);
+      return scale(cropped, width, height);
+    }
+
+    var ratio = Math.min(1, Math.min(widthRatio, heightRatio));
+    return scale(
+        image,
+        Math.max(1, (int) Math.round(image.getWidth() * ratio)),
+        Math.max(1, (int) Math.round(image.getHeight() * ratio)));
+  }
+
+  /**
+   * Scales the image down by at most half at a time, since a bilinear scale in one large step skips
+   * most of the pixels and leaves the result jagged. Scaling up takes a single step.
+   */
+  private static BufferedImage scale(final BufferedImage image, int width, int height) {
+    // Images of a custom type cannot be created again, so they are drawn into a standard type.
+    var type =
+        image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+    var scaledImage = image;
+    var scaledWidth = image.getWidth();
+    var scaledHeight = image.getHeight();
+    do {
+      scaledWidth = scaledWidth > width ? Math.max(scaledWidth / 2, width) : width;
+      scaledHeight = scaledHeight > height ? Math.max(scaledHeight / 2, height) : height;
+      scaledImage = draw(scaledImage, scaledWidth, scaledHeight, type);
+    } while (scaledWidth != width || scaledHeight != height);
+
+    return scaledImage;
+  }
+
+  private static BufferedImage draw(
       final BufferedImage originalImage, int width, int height, int type) {
     BufferedImage resizedImage = new BufferedImage(width, height, type);
     Graphics2D graphics2D = resizedImage.createGraphics();
-    graphics2D.drawImage(originalImage, 0, 0, width, height, null);
-    graphics2D.dispose();
-    graphics2D.setComposite(AlphaComposite.Src);
-
-    graphics2D.setRenderingHint(
-        RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-    graphics2D.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-    graphics2D.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    try {
+      graphics2D.setComposite(AlphaComposite.Src);
+      graphics2D.setRenderingHint(
+          RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      graphics2D.setRenderingHint(
+          RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      graphics2D.setRenderingHint(
+          RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+      graphics2D.drawImage(originalImage, 0, 0, width, height, null);
+    } finally {
+      graphics2D.dispose();
+    }
 
     return resizedImage;
   }
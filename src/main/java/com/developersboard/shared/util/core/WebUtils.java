@@ -6,6 +6,8 @@ import com.developersboard.constant.ErrorConstants;
 import com.developersboard.constant.HomeConstants;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
@@ -61,4 +63,16 @@ public final class WebUtils {
 
     return links;
   }
+
+  /**
+   * Returns the address of the client that sent the current request.
+   *
+   * @return the client address or null if there is no current request
+   */
+  public static String getClientIpAddress() {
+    if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+      return attributes.getRequest().getRemoteAddr();
+    }
+    return null;
+  }
 }
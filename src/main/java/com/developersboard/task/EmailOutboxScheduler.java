@@ -0,0 +1,85 @@
+package com.developersboard.task;
+
+import com.developersboard.backend.service.mail.EmailOutboxService;
+import com.developersboard.backend.service.mail.EmailService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends the emails waiting in the outbox, and purges the ones sent or dead for long enough.
+ *
+ * <p>The dispatch waits for the outbox workers to send each batch, so it runs on a thread of its
+ * own rather than on the shared scheduling pool.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mail.outbox.enabled", havingValue = "true")
+public class EmailOutboxScheduler {
+
+  private final EmailOutboxService emailOutboxService;
+  private final EmailService emailService;
+  private final Duration pollInterval;
+  private final ScheduledExecutorService dispatcher;
+
+  public EmailOutboxScheduler(
+      EmailOutboxService emailOutboxService,
+      EmailService emailService,
+      @Value("${mail.outbox.pollInterval}") Duration pollInterval) {
+
+    this.emailOutboxService = emailOutboxService;
+    this.emailService = emailService;
+    this.pollInterval = pollInterval;
+    this.dispatcher =
+        Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("mail-outbox-dispatch-"));
+  }
+
+  /** Starts sending the queued emails every poll interval. */
+  @PostConstruct
+  public void start() {
+    dispatcher.scheduleWithFixedDelay(
+        this::sendQueuedEmails, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /** Stops sending the queued emails. */
+  @PreDestroy
+  public void stop() {
+    dispatcher.shutdown();
+  }
+
+  /** Every poll interval, the emails that are due are sent by the outbox workers. */
+  public void sendQueuedEmails() {
+    try {
+      var sent = emailOutboxService.dispatch(emailService::sendHtmlEmail);
+      if (sent > 0) {
+        LOG.debug("Sent {} queued email(s)", sent);
+      }
+    } catch (RuntimeException e) {
+      // An exception would cancel the next runs of the dispatch.
+      LOG.error("Failed to send the queued emails", e);
+    }
+  }
+
+  /** Every hour, the emails sent or dead for longer than the retention period are deleted. */
+  @Scheduled(cron = "0 0 * * * *")
+  public void purgeFinishedEmails() {
+    var purged = emailOutboxService.purge();
+    if (purged > 0) {
+      LOG.info("Purged {} sent or dead email(s) from the outbox", purged);
+    }
+  }
+}
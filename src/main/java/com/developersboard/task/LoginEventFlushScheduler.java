@@ -0,0 +1,31 @@
+package com.developersboard.task;
+
+import com.developersboard.backend.service.security.LoginEventService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes the queued login outcomes to the users in batches.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginEventFlushScheduler {
+
+  private final LoginEventService loginEventService;
+
+  /** Every flush interval, all queued login outcomes are written to the database. */
+  @Scheduled(fixedDelayString = "${login.events.flushInterval}")
+  public void flushLoginEvents() {
+    var written = loginEventService.flush();
+    if (written > 0) {
+      LOG.debug("Flushed {} login event(s)", written);
+    }
+  }
+}
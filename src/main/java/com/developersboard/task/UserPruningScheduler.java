@@ -2,27 +2,54 @@ package com.developersboard.task;
 
 import com.developersboard.annotation.Loggable;
 import com.developersboard.backend.service.user.UserService;
-import com.developersboard.shared.dto.UserDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
 import java.util.List;
-import java.util.stream.Stream;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
  * Removes all users not enabled. That is users that do not verify their account after some time.
  *
+ * <p>The users are deleted in chunks of ids walked in ascending order, each chunk with a few
+ * set-based statements in its own short transaction, pausing between chunks so a large backlog
+ * does not hold locks or starve other work on the database. The pauses only hold one thread of the
+ * scheduling pool (spring.task.scheduling.pool.size), the other scheduled tasks keep running.
+ *
  * @author Eric Opoku
  * @version 1.0
  * @since 1.0
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class UserPruningScheduler {
 
+  private static final String METRIC_CHUNK = "users.pruning.chunk";
+  private static final String METRIC_PRUNED = "users.pruned";
+
+  private final int chunkSize;
+  private final Duration pause;
+
   private final UserService userService;
+  private final Timer chunkTimer;
+  private final Counter prunedCounter;
+
+  public UserPruningScheduler(
+      UserService userService,
+      MeterRegistry meterRegistry,
+      @Value("${user.pruning.chunkSize}") int chunkSize,
+      @Value("${user.pruning.pause}") Duration pause) {
+
+    this.userService = userService;
+    this.chunkSize = chunkSize;
+    this.pause = pause;
+    this.chunkTimer = meterRegistry.timer(METRIC_CHUNK);
+    this.prunedCounter = meterRegistry.counter(METRIC_PRUNED);
+  }
 
   /**
    * Every user that does not verify email after a certain time is deleted from the database.
@@ -44,16 +71,38 @@ public class UserPruningScheduler {
   @Loggable
   @Scheduled(cron = "0 0 0 ? * SUN")
   public void pruneUsers() {
-    List<UserDto> usersToDelete = userService.findAllNotEnabledAfterAllowedDays();
-    LOG.debug("Found {} user(s) to be removed", usersToDelete.size());
+    long lastId = 0;
+    int totalDeleted = 0;
+
+    List<Long> ids;
+    do {
+      ids = userService.findNotEnabledUserIdsAfterAllowedDays(lastId, chunkSize);
+      if (ids.isEmpty()) {
+        break;
+      }
+      lastId = ids.getLast();
 
-    // Delete all users that are not enabled after a certain time
-    int PRUNE_THRESHOLD = 5000;
-    Stream<UserDto> userStream =
-        usersToDelete.size() > PRUNE_THRESHOLD
-            ? usersToDelete.parallelStream()
-            : usersToDelete.stream();
+      var chunk = ids;
+      int deleted = chunkTimer.record(() -> userService.deleteNotEnabledUsers(chunk));
+      prunedCounter.increment(deleted);
+      totalDeleted += deleted;
+      LOG.debug("Deleted {} of {} user(s) in chunk ending at id {}", deleted, ids.size(), lastId);
+    } while (ids.size() == chunkSize && pauseBetweenChunks());
+
+    LOG.info("Removed {} user(s) that did not verify their account", totalDeleted);
+  }
 
-    userStream.map(UserDto::getPublicId).forEach(userService::deleteUser);
+  private boolean pauseBetweenChunks() {
+    if (pause.isZero() || pause.isNegative()) {
+      return true;
+    }
+    try {
+      Thread.sleep(pause);
+      return true;
+    } catch (InterruptedException e) {
+      LOG.warn("User pruning interrupted, the remaining users are removed on the next run");
+      Thread.currentThread().interrupt();
+      return false;
+    }
   }
 }
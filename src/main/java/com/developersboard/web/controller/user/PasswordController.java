@@ -3,6 +3,7 @@ package com.developersboard.web.controller.user;
 import com.developersboard.backend.service.mail.EmailService;
 import com.developersboard.backend.service.security.EncryptionService;
 import com.developersboard.backend.service.security.JwtService;
+import com.developersboard.backend.service.user.UserAccountService;
 import com.developersboard.backend.service.user.UserService;
 import com.developersboard.constant.ErrorConstants;
 import com.developersboard.constant.HomeConstants;
@@ -44,6 +45,7 @@ public class PasswordController {
   private final EmailService emailService;
   private final PasswordEncoder passwordEncoder;
   private final EncryptionService encryptionService;
+  private final UserAccountService userAccountService;
 
   /**
    * Processes the password-reset form.
@@ -65,20 +67,10 @@ public class PasswordController {
    */
   @PostMapping
   public String forgetPassword(Model model, @RequestParam final String email) {
-    var userDto = userService.findByEmail(email);
+    // send email to the user to verify email to complete a password reset.
+    var userDto = userAccountService.startPasswordReset(email);
     if (Objects.nonNull(userDto)) {
       model.addAttribute(UserConstants.EMAIL, userDto.getEmail());
-
-      // send email to the user to verify email to complete a sign-up process.
-      String token = jwtService.generateJwtToken(userDto.getUsername());
-      userDto.setVerificationToken(token);
-      userService.saveOrUpdate(UserUtils.convertToUser(userDto), false);
-
-      var encryptedToken = encryptionService.encrypt(token);
-      var encodedToken = encryptionService.encode(encryptedToken);
-      emailService.sendPasswordResetEmail(userDto, encodedToken);
-    } else {
-      LOG.debug(UserConstants.USER_NOT_FOUND + " email: {}", email);
     }
 
     model.addAttribute(PasswordConstants.PASSWORD_RESET_EMAIL_SENT_KEY, true);
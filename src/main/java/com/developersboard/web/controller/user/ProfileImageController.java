@@ -0,0 +1,121 @@
+package com.developersboard.web.controller.user;
+
+import com.developersboard.backend.service.storage.AmazonS3Service;
+import com.developersboard.constant.StorageConstants;
+import com.developersboard.constant.user.ProfileConstants;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * This controller serves the stored profile images.
+ *
+ * <p>Images are only served to authenticated users, so that anonymous clients can neither fetch
+ * the avatars of users nor find out their usernames from them.
+ *
+ * <p>By default an image is redirected to its cached pre-signed URL. When proxied, the application
+ * streams the image itself with its entity tag and a long-lived private Cache-Control, so browsers
+ * keep it until the versioned URL of the image changes and only revalidate it after that. Shared
+ * caches do not keep it, since they would hand it out without authentication.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Controller
+@RequestMapping(ProfileConstants.PROFILE_IMAGES_MAPPING)
+public class ProfileImageController {
+
+  private final AmazonS3Service amazonS3Service;
+  private final boolean proxy;
+  private final CacheControl cacheControl;
+  private final CacheControl redirectCacheControl;
+
+  public ProfileImageController(
+      AmazonS3Service amazonS3Service,
+      @Value("${image.profile.proxy}") boolean proxy,
+      @Value("${image.profile.maxAge}") Duration maxAge,
+      @Value("${image.profile.redirectMaxAge}") Duration redirectMaxAge) {
+
+    this.amazonS3Service = amazonS3Service;
+    this.proxy = proxy;
+    this.cacheControl = CacheControl.maxAge(maxAge).cachePrivate();
+    // The redirect must expire well before the pre-signed URL it points to.
+    this.redirectCacheControl = CacheControl.maxAge(redirectMaxAge).cachePrivate();
+  }
+
+  /**
+   * Serves the profile image stored for the user.
+   *
+   * @param username the username the image is stored under
+   * @param fileName the file name of the image
+   * @param request the request, with the validators of the copy the client holds
+   * @return the image, a redirect to it or not modified
+   * @throws IOException if the unchanged image cannot be discarded
+   */
+  @GetMapping(ProfileConstants.PROFILE_IMAGE_MAPPING)
+  public ResponseEntity<Resource> profileImage(
+      @PathVariable String username, @PathVariable String fileName, WebRequest request)
+      throws IOException {
+
+    var key =
+        String.join(StorageConstants.SEPARATOR, StorageConstants.PROFILE_PATH, username, fileName);
+
+    if (!proxy) {
+      return ResponseEntity.status(HttpStatus.FOUND)
+          .location(URI.create(amazonS3Service.generatePreSignedUrl(key)))
+          .cacheControl(redirectCacheControl)
+          .build();
+    }
+
+    var storedFile =
+        amazonS3Service.getStoredFile(key, request.getHeader(HttpHeaders.IF_NONE_MATCH));
+    if (Objects.isNull(storedFile)) {
+      LOG.debug("No profile image is stored under {}", key);
+      return ResponseEntity.notFound().build();
+    }
+    if (storedFile.isNotModified()) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .cacheControl(cacheControl)
+          .eTag(storedFile.eTag())
+          .build();
+    }
+
+    var lastModified =
+        Objects.isNull(storedFile.lastModified()) ? -1 : storedFile.lastModified().toEpochMilli();
+    if (request.checkNotModified(storedFile.eTag(), lastModified)) {
+      // The client holds a copy modified since, the response is already set to not modified.
+      storedFile.content().close();
+      return null;
+    }
+
+    var response =
+        ResponseEntity.ok()
+            .cacheControl(cacheControl)
+            .eTag(storedFile.eTag())
+            .contentLength(storedFile.contentLength());
+    if (Objects.nonNull(storedFile.lastModified())) {
+      response.lastModified(storedFile.lastModified());
+    }
+    if (Objects.nonNull(storedFile.contentType())) {
+      response.contentType(MediaType.parseMediaType(storedFile.contentType()));
+    }
+    return response.body(new InputStreamResource(storedFile.content()));
+  }
+}
@@ -4,6 +4,7 @@ import com.developersboard.annotation.Loggable;
 import com.developersboard.backend.service.mail.EmailService;
 import com.developersboard.backend.service.security.EncryptionService;
 import com.developersboard.backend.service.security.JwtService;
+import com.developersboard.backend.service.user.UserAccountService;
 import com.developersboard.backend.service.user.UserService;
 import com.developersboard.constant.ErrorConstants;
 import com.developersboard.constant.user.ProfileConstants;
@@ -43,6 +44,7 @@ public class SignUpController {
   private final UserService userService;
   private final EmailService emailService;
   private final EncryptionService encryptionService;
+  private final UserAccountService userAccountService;
 
   /**
    * Returns user to the sign-up form to start registration.
@@ -75,14 +77,7 @@ public class SignUpController {
       return SignUpConstants.SIGN_UP_VIEW_NAME;
     }
 
-    var verificationToken = jwtService.generateJwtToken(userDto.getUsername());
-    userDto.setVerificationToken(verificationToken);
-
-    var savedUserDto = userService.createUser(userDto);
-    var encryptedToken = encryptionService.encrypt(verificationToken);
-    var encodedToken = encryptionService.encode(encryptedToken);
-
-    emailService.sendAccountVerificationEmail(savedUserDto, encodedToken);
+    userAccountService.signUp(userDto);
     model.addAttribute(SignUpConstants.SIGN_UP_PENDING_KEY, true);
 
     model.addAttribute(UserConstants.USER_MODEL_KEY, new SignUpRequest());
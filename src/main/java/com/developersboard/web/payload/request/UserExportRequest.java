@@ -0,0 +1,30 @@
+package com.developersboard.web.payload.request;
+
+import com.developersboard.enums.RoleType;
+import java.time.LocalDateTime;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+/**
+ * This class models the filters of the user export allowed through the controller endpoints. A
+ * filter that is not given does not restrict the export.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+public final class UserExportRequest {
+
+  private Boolean enabled;
+
+  /** Users created at or after this time. */
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+  private LocalDateTime createdFrom;
+
+  /** Users created before this time. */
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+  private LocalDateTime createdTo;
+
+  private RoleType role;
+}
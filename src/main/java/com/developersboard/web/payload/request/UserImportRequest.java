@@ -0,0 +1,26 @@
+package com.developersboard.web.payload.request;
+
+import lombok.Data;
+import lombok.ToString;
+
+/**
+ * This class models the format of a single user in the bulk import request allowed through the
+ * controller endpoints.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+public final class UserImportRequest {
+
+  private String username;
+  private String email;
+
+  @ToString.Exclude private String password;
+
+  private String firstName;
+  private String middleName;
+  private String lastName;
+  private String phone;
+}
@@ -0,0 +1,29 @@
+package com.developersboard.web.payload.response;
+
+import com.developersboard.enums.EmailStatus;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import lombok.Data;
+
+/**
+ * This class models an email of the outbox produced in the controller endpoints.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+public class EmailOutboxResponse implements Serializable {
+  @Serial private static final long serialVersionUID = -3157804219628412967L;
+
+  private String publicId;
+  private String recipient;
+  private String subject;
+  private String template;
+  private EmailStatus status;
+  private int attempts;
+  private String lastError;
+  private LocalDateTime createdAt;
+  private LocalDateTime nextAttemptAt;
+}
@@ -0,0 +1,38 @@
+package com.developersboard.web.payload.response;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * This class models the outcome of a bulk user import produced in the controller endpoints.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+public class UserImportResponse implements Serializable {
+  @Serial private static final long serialVersionUID = 2484120567470263415L;
+
+  private long total;
+  private long created;
+  private long failed;
+  private List<RowError> errors = new ArrayList<>();
+
+  /** The reason a row of the import was not created. */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class RowError implements Serializable {
+    @Serial private static final long serialVersionUID = -3104727368213371520L;
+
+    private long row;
+    private String username;
+    private String message;
+  }
+}
@@ -2,7 +2,9 @@ package com.developersboard.web.payload.response;
 
 import java.io.Serial;
 import java.io.Serializable;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 /**
  * This class models the format of the response produced in the controller endpoints.
@@ -12,6 +14,8 @@ import lombok.Data;
  * @since 1.0
  */
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class UserResponse implements Serializable {
   @Serial private static final long serialVersionUID = -8632756128923682589L;
 
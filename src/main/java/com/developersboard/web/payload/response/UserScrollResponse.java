@@ -0,0 +1,27 @@
+package com.developersboard.web.payload.response;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+
+/**
+ * This class models a page of users listed after a cursor, produced in the controller endpoints.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+public class UserScrollResponse implements Serializable {
+  @Serial private static final long serialVersionUID = 5829471460832647104L;
+
+  private List<UserResponse> users = new ArrayList<>();
+
+  /** The cursor of the next page, null if this is the last page. */
+  private String next;
+
+  /** The estimated number of users, only present if requested. */
+  private Long estimatedTotal;
+}
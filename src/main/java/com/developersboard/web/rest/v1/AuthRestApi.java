@@ -18,6 +18,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.time.Duration;
 import java.util.Date;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.time.DateUtils;
@@ -118,7 +119,7 @@ public class AuthRestApi {
     SecurityUtils.authenticateUser(request, userDetails);
 
     var expiration = DateUtils.addMinutes(new Date(), accessTokenExpirationInMinutes);
-    var newAccessToken = jwtService.generateJwtToken(username, expiration);
+    var newAccessToken = generateAccessToken(username, expiration);
     var encryptedAccessToken = encryptionService.encrypt(newAccessToken);
 
     return ResponseEntity.ok(JwtResponseBuilder.buildJwtResponse(encryptedAccessToken));
@@ -165,6 +166,27 @@ public class AuthRestApi {
     }
 
     var accessTokenExpiration = DateUtils.addMinutes(new Date(), accessTokenExpirationInMinutes);
-    return jwtService.generateJwtToken(username, accessTokenExpiration);
+    return generateAccessToken(username, accessTokenExpiration);
+  }
+
+  /**
+   * Generates an access token that carries the authenticated user's principal in its claims, so
+   * that requests can be authenticated without loading the user.
+   *
+   * @param username the username
+   * @param expiration the expiration date
+   * @return the access token
+   */
+  private String generateAccessToken(String username, Date expiration) {
+    var userDetails = SecurityUtils.getAuthenticatedUserDetails();
+    if (Objects.nonNull(userDetails)) {
+      return jwtService.generateJwtToken(
+          userDetails,
+          userDetails.getId(),
+          userDetails.getPublicId(),
+          userDetails.getEmail(),
+          expiration);
+    }
+    return jwtService.generateJwtToken(username, expiration);
   }
 }
@@ -0,0 +1,65 @@
+package com.developersboard.web.rest.v1;
+
+import com.developersboard.annotation.Loggable;
+import com.developersboard.backend.service.mail.EmailOutboxService;
+import com.developersboard.constant.AdminConstants;
+import com.developersboard.enums.OperationStatus;
+import com.developersboard.web.payload.response.EmailOutboxResponse;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.converters.models.PageableAsQueryParam;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * This class handles all rest calls for the outbound emails.
+ *
+ * @author Eric Opoku
+ * @version 1.0
+ * @since 1.0
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(AdminConstants.API_V1_EMAILS_ROOT_URL)
+public class EmailRestApi {
+
+  private final EmailOutboxService emailOutboxService;
+
+  private static final String AUTHORIZE =
+      "isFullyAuthenticated() && hasRole(T(com.developersboard.enums.RoleType).ROLE_ADMIN)";
+
+  /**
+   * Lists the emails that could not be sent after all attempts.
+   *
+   * @param page Allows for pagination of the dead letters.
+   * @return The ResponseEntity containing the dead letters as a Page
+   */
+  @PageableAsQueryParam
+  @PreAuthorize(AUTHORIZE)
+  @Loggable(ignoreResponseData = true)
+  @GetMapping(value = "/dead-letters", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<Page<EmailOutboxResponse>> getDeadLetters(final Pageable page) {
+    return ResponseEntity.ok(emailOutboxService.findDeadLetters(page));
+  }
+
+  /**
+   * Queues the dead letter associated with the publicId to be sent again.
+   *
+   * @param publicId the publicId
+   * @return if the operation is success
+   */
+  @PreAuthorize(AUTHORIZE)
+  @PutMapping(value = "/dead-letters/{publicId}/retry", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<OperationStatus> retryDeadLetter(@PathVariable String publicId) {
+    var queued = emailOutboxService.retry(publicId);
+
+    return ResponseEntity.ok(queued ? OperationStatus.SUCCESS : OperationStatus.FAILURE);
+  }
+}
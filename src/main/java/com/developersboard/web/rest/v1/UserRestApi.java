@@ -1,21 +1,43 @@
 package com.developersboard.web.rest.v1;
 
 import com.developersboard.annotation.Loggable;
-import com.developersboard.backend.service.mail.EmailService;
-import com.developersboard.backend.service.security.EncryptionService;
-import com.developersboard.backend.service.security.JwtService;
+import com.developersboard.backend.service.user.UserAccountService;
 import com.developersboard.backend.service.user.UserService;
 import com.developersboard.constant.AdminConstants;
 import com.developersboard.constant.user.UserConstants;
 import com.developersboard.enums.OperationStatus;
 import com.developersboard.shared.util.UserUtils;
+import com.developersboard.shared.util.core.CsvUtils;
 import com.developersboard.web.payload.request.SignUpRequest;
+import com.developersboard.web.payload.request.UserExportRequest;
+import com.developersboard.web.payload.request.UserImportRequest;
+import com.developersboard.web.payload.response.UserImportResponse;
 import com.developersboard.web.payload.response.UserResponse;
+import com.developersboard.web.payload.response.UserScrollResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.security.SecurityRequirements;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.springdoc.core.converters.models.PageableAsQueryParam;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -30,7 +52,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
@@ -48,13 +72,15 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 public class UserRestApi {
 
   private final UserService userService;
-  private final JwtService jwtService;
-  private final EmailService emailService;
-  private final EncryptionService encryptionService;
+  private final UserAccountService userAccountService;
+  private final ObjectMapper objectMapper;
 
   private static final String AUTHORIZE =
       "isFullyAuthenticated() && hasRole(T(com.developersboard.enums.RoleType).ROLE_ADMIN)";
 
+  private static final List<String> EXPORT_COLUMNS =
+      List.of("publicId", "username", "firstName", "lastName", "email", "phone", "enabled");
+
   /**
    * Performs a search for users based on the provided search criteria.
    *
@@ -71,6 +97,78 @@ public class UserRestApi {
     return ResponseEntity.ok(users);
   }
 
+  /**
+   * Lists the users in a stable id order, starting after the last user of the previous page. Only
+   * the response columns are read and no page is slower than the first.
+   *
+   * @param after the public id of the last user of the previous page, none for the first page
+   * @param size the maximum number of users, at most 100
+   * @param estimateTotal whether to include the estimated number of users
+   * @return the users and the cursor of the next page
+   */
+  @PreAuthorize(AUTHORIZE)
+  @Loggable(ignoreResponseData = true)
+  @GetMapping(value = "/scroll", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<UserScrollResponse> scrollUsers(
+      @RequestParam(required = false) String after,
+      @RequestParam(defaultValue = "" + AdminConstants.DEFAULT_SCROLL_SIZE) int size,
+      @RequestParam(defaultValue = "false") boolean estimateTotal) {
+
+    var boundedSize = Math.clamp(size, 1, AdminConstants.MAX_SCROLL_SIZE);
+    return ResponseEntity.ok(userService.findUsers(after, boundedSize, estimateTotal));
+  }
+
+  /**
+   * Exports the users matching the filters as newline delimited JSON, or as CSV with a header row
+   * when CSV is accepted. The users are written to the response as they are read from the
+   * database and the response is flushed as it goes, so the export takes the same memory for ten
+   * users as for millions.
+   *
+   * @param accept the media types accepted by the client
+   * @param userExportRequest the filters of the export
+   * @param response the response the users are written to
+   * @throws IOException if the users cannot be written
+   */
+  @PreAuthorize(AUTHORIZE)
+  @Loggable(ignoreResponseData = true)
+  @GetMapping(
+      value = "/export",
+      produces = {MediaType.APPLICATION_NDJSON_VALUE, AdminConstants.TEXT_CSV_VALUE})
+  public void exportUsers(
+      @RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = MediaType.ALL_VALUE) String accept,
+      UserExportRequest userExportRequest,
+      HttpServletResponse response)
+      throws IOException {
+
+    var csv =
+        MediaType.parseMediaTypes(accept).stream()
+            .anyMatch(mediaType -> mediaType.equalsTypeAndSubtype(AdminConstants.TEXT_CSV));
+    response.setContentType(
+        csv ? AdminConstants.TEXT_CSV_VALUE : MediaType.APPLICATION_NDJSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+    try (var writer =
+        new BufferedWriter(
+            new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8))) {
+      if (csv) {
+        writeLine(writer, CsvUtils.formatLine(EXPORT_COLUMNS));
+      }
+
+      var written = new AtomicLong();
+      userService.exportUsers(
+          userExportRequest,
+          user -> {
+            writeLine(writer, csv ? toCsvLine(user) : toJsonLine(user));
+            // Flushing hands the rows to the client instead of buffering the whole export.
+            if (written.incrementAndGet() % AdminConstants.EXPORT_FLUSH_SIZE == 0) {
+              flush(writer);
+            }
+          });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
   /**
    * Enables the user associated with the publicId.
    *
@@ -115,6 +213,38 @@ public class UserRestApi {
     return ResponseEntity.ok(OperationStatus.SUCCESS);
   }
 
+  /**
+   * Creates users in bulk from newline delimited JSON, or from CSV with a header row naming the
+   * fields. The body is read as it streams in and the users are created in batches, so the import
+   * is never held in memory. Rows that cannot be created are reported in the response.
+   *
+   * @param contentType the content type of the body
+   * @param inputStream the body
+   * @return the outcome of the import
+   * @throws IOException if the body cannot be read
+   */
+  @PreAuthorize(AUTHORIZE)
+  @Loggable(ignoreResponseData = true)
+  @PostMapping(
+      value = "/bulk",
+      consumes = {MediaType.APPLICATION_NDJSON_VALUE, AdminConstants.TEXT_CSV_VALUE},
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<UserImportResponse> createUsers(
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream inputStream)
+      throws IOException {
+
+    try (var reader =
+        new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+      var userImportRequests =
+          MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+              ? readJsonLines(reader)
+              : readCsv(reader);
+
+      var response = userService.createUsers(userImportRequests.map(UserUtils::convertToUserDto));
+      return ResponseEntity.ok(response);
+    }
+  }
+
   @Loggable
   @PostMapping
   @SecurityRequirements
@@ -126,16 +256,7 @@ public class UserRestApi {
       return ResponseEntity.badRequest().body(UserConstants.USERNAME_OR_EMAIL_EXISTS);
     }
 
-    var verificationToken = jwtService.generateJwtToken(userDto.getUsername());
-    userDto.setVerificationToken(verificationToken);
-
-    var savedUserDto = userService.createUser(userDto);
-
-    var encryptedToken = encryptionService.encrypt(verificationToken);
-    LOG.debug("Encrypted JWT token: {}", encryptedToken);
-    var encodedToken = encryptionService.encode(encryptedToken);
-
-    emailService.sendAccountVerificationEmail(savedUserDto, encodedToken);
+    var savedUserDto = userAccountService.signUp(userDto);
     var location =
         ServletUriComponentsBuilder.fromCurrentRequest()
             .path("/{publicId}")
@@ -144,4 +265,78 @@ public class UserRestApi {
 
     return ResponseEntity.status(HttpStatus.CREATED).header(HttpHeaders.LOCATION, location).build();
   }
+
+  private String toJsonLine(final UserResponse user) {
+    try {
+      return objectMapper.writeValueAsString(user);
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String toCsvLine(final UserResponse user) {
+    return CsvUtils.formatLine(
+        Arrays.asList(
+            user.getPublicId(),
+            user.getUsername(),
+            user.getFirstName(),
+            user.getLastName(),
+            user.getEmail(),
+            user.getPhone(),
+            user.isEnabled()));
+  }
+
+  private static void writeLine(final Writer writer, final String line) {
+    try {
+      writer.write(line);
+      writer.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void flush(final Writer writer) {
+    try {
+      writer.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Stream<UserImportRequest> readJsonLines(final BufferedReader reader) {
+    return reader
+        .lines()
+        .filter(StringUtils::isNotBlank)
+        .map(
+            line -> {
+              try {
+                return objectMapper.readValue(line, UserImportRequest.class);
+              } catch (JsonProcessingException e) {
+                // The row is still counted and reported as invalid by the import.
+                LOG.debug("Unreadable user import line", e);
+                return new UserImportRequest();
+              }
+            });
+  }
+
+  private Stream<UserImportRequest> readCsv(final BufferedReader reader) throws IOException {
+    var header = reader.readLine();
+    if (Objects.isNull(header)) {
+      return Stream.empty();
+    }
+
+    var fields = CsvUtils.parseLine(header);
+    return reader
+        .lines()
+        .filter(StringUtils::isNotBlank)
+        .map(
+            line -> {
+              var values = CsvUtils.parseLine(line);
+              Map<String, String> row = new HashMap<>();
+              for (int i = 0; i < Math.min(fields.size(), values.size()); i++) {
+                row.put(fields.get(i), values.get(i));
+              }
+              return objectMapper.convertValue(row, UserImportRequest.class);
+            });
+  }
 }
@@ -0,0 +1,113 @@
+package com.developersboard.annotation.impl;
+
+import com.developersboard.annotation.Loggable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+@ExtendWith(OutputCaptureExtension.class)
+class MethodLoggerTest {
+
+  private static final String METRIC_METHOD = "loggable.method";
+
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void everyCallIsTimedPerMethod() {
+    var service = createProxy(1.0);
+
+    service.greet("first");
+    service.greet("second");
+
+    var timer =
+        meterRegistry
+            .get(METRIC_METHOD)
+            .tag("class", "GreetingService")
+            .tag("method", "greet")
+            .tag("outcome", "success")
+            .timer();
+    Assertions.assertEquals(2, timer.count());
+  }
+
+  @Test
+  void callsAreTimedEvenWhenNotSampled() {
+    var service = createProxy(0.0);
+
+    for (int i = 0; i < 5; i++) {
+      Assertions.assertEquals("Hello, user", service.greet("user"));
+    }
+
+    Assertions.assertEquals(
+        5, meterRegistry.get(METRIC_METHOD).tag("outcome", "success").timer().count());
+  }
+
+  @Test
+  void failedCallsAreTimedSeparately() {
+    var service = createProxy(1.0);
+
+    Assertions.assertThrows(IllegalStateException.class, service::fail);
+
+    var timer =
+        meterRegistry
+            .get(METRIC_METHOD)
+            .tag("method", "fail")
+            .tag("outcome", "error")
+            .timer();
+    Assertions.assertEquals(1, timer.count());
+  }
+
+  @Test
+  void failuresAreLoggedWithTheirStackTrace(CapturedOutput output) {
+    var service = createProxy(1.0);
+
+    Assertions.assertThrows(IllegalStateException.class, service::fail);
+
+    Assertions.assertTrue(output.getOut().contains("fail(..) : IllegalStateException - Failed"));
+    Assertions.assertTrue(output.getOut().contains("at " + GreetingService.class.getName()));
+  }
+
+  @Test
+  void percentilesArePublished() {
+    var service = createProxy(1.0);
+
+    service.greet("user");
+
+    var gauges =
+        meterRegistry
+            .get(METRIC_METHOD + ".percentile")
+            .tag("method", "greet")
+            .tag("outcome", "success")
+            .gauges();
+    Assertions.assertEquals(2, gauges.size());
+  }
+
+  private GreetingService createProxy(final double sampleRate) {
+    var factory = new AspectJProxyFactory(new GreetingService());
+    factory.setProxyTargetClass(true);
+    factory.addAspect(new MethodLogger(meterRegistry, sampleRate, new double[] {0.5, 0.95}));
+    return factory.getProxy();
+  }
+
+  static class GreetingService {
+
+    @Loggable(level = "debug")
+    public String greet(final String name) {
+      return "Hello, " + name;
+    }
+
+    @Loggable(level = "unknown", ignoreResponseData = true)
+    public String fail() {
+      throw new IllegalStateException("failed");
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.developersboard.backend.persistent.domain.mail;
+
+import com.developersboard.TestUtils;
+import com.jparams.verifier.tostring.NameStyle;
+import com.jparams.verifier.tostring.ToStringVerifier;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+class EmailOutboxTest {
+
+  @Test
+  void equalsContract() {
+    EqualsVerifier.forClass(EmailOutbox.class)
+        .withRedefinedSuperclass()
+        .withOnlyTheseFields(TestUtils.getEntityEqualsFields("recipient", "template"))
+        .verify();
+  }
+
+  @Test
+  void testToString() {
+    ToStringVerifier.forClass(EmailOutbox.class)
+        .withClassName(NameStyle.SIMPLE_NAME)
+        .withIgnoredFields("urls")
+        .verify();
+  }
+}
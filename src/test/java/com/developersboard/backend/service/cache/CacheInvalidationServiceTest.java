@@ -0,0 +1,90 @@
+package com.developersboard.backend.service.cache;
+
+import com.developersboard.backend.service.cache.CacheInvalidationBus.Invalidation;
+import com.developersboard.backend.service.cache.impl.CacheInvalidationServiceImpl;
+import com.developersboard.backend.service.cache.impl.ClusterInvalidatingCacheManager;
+import com.developersboard.backend.service.cache.impl.InProcessCacheInvalidationBus;
+import com.developersboard.constant.CacheConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+
+class CacheInvalidationServiceTest {
+
+  private CacheInvalidationBus cacheInvalidationBus;
+  private CacheInvalidationService node;
+  private CacheInvalidationService otherNode;
+
+  @BeforeEach
+  void setUp() {
+    cacheInvalidationBus = new InProcessCacheInvalidationBus();
+    node = new CacheInvalidationServiceImpl(cacheInvalidationBus, new SimpleMeterRegistry());
+    otherNode = new CacheInvalidationServiceImpl(cacheInvalidationBus, new SimpleMeterRegistry());
+  }
+
+  @Test
+  void invalidationOnlyReachesTheOtherNodes() {
+    List<Invalidation> received = new ArrayList<>();
+    List<Invalidation> receivedByOtherNode = new ArrayList<>();
+    node.subscribe(CacheConstants.USERS, received::add);
+    otherNode.subscribe(CacheConstants.USERS, receivedByOtherNode::add);
+    otherNode.subscribe(CacheConstants.ROLES, receivedByOtherNode::add);
+
+    node.invalidate(CacheConstants.USERS, "john", Instant.now());
+
+    Assertions.assertTrue(received.isEmpty());
+    Assertions.assertEquals(1, receivedByOtherNode.size());
+    Assertions.assertEquals("john", receivedByOtherNode.getFirst().key());
+  }
+
+  @Test
+  void invalidationOfEveryCacheReachesEverySubscriber() {
+    List<Invalidation> received = new ArrayList<>();
+    otherNode.subscribe(CacheConstants.USERS, received::add);
+    otherNode.subscribe(CacheConstants.ROLES, received::add);
+
+    cacheInvalidationBus.publish(new Invalidation(null, null, null, Instant.now()));
+
+    Assertions.assertEquals(2, received.size());
+  }
+
+  @Test
+  void evictedEntryIsEvictedOnTheOtherNodes() {
+    var cacheManager = createCacheManager(node);
+    var otherCacheManager = createCacheManager(otherNode);
+    for (var manager : List.of(cacheManager, otherCacheManager)) {
+      manager.getCache(CacheConstants.USERS).put("john", "John");
+      manager.getCache(CacheConstants.USERS).put("jane", "Jane");
+    }
+
+    cacheManager.getCache(CacheConstants.USERS).evict("john");
+
+    var otherUsers = otherCacheManager.getCache(CacheConstants.USERS);
+    Assertions.assertNull(otherUsers.get("john"));
+    Assertions.assertEquals("Jane", otherUsers.get("jane", String.class));
+  }
+
+  @Test
+  void clearedCacheIsClearedOnTheOtherNodes() {
+    var cacheManager = createCacheManager(node);
+    var otherCacheManager = createCacheManager(otherNode);
+    otherCacheManager.getCache(CacheConstants.USERS).put("john", "John");
+    otherCacheManager.getCache(CacheConstants.ROLES).put("ROLE_USER", "User");
+
+    cacheManager.getCache(CacheConstants.USERS).clear();
+
+    Assertions.assertNull(otherCacheManager.getCache(CacheConstants.USERS).get("john"));
+    Assertions.assertNotNull(otherCacheManager.getCache(CacheConstants.ROLES).get("ROLE_USER"));
+  }
+
+  private static CacheManager createCacheManager(final CacheInvalidationService service) {
+    var cacheManager = new ClusterInvalidatingCacheManager(service);
+    cacheManager.setCacheNames(List.of(CacheConstants.USERS, CacheConstants.ROLES));
+    return cacheManager;
+  }
+}
@@ -2,6 +2,9 @@ package com.developersboard.backend.service.impl;
 
 import com.developersboard.TestUtils;
 import com.developersboard.backend.persistent.repository.UserRepository;
+import com.developersboard.backend.service.user.UserDetailsCacheService;
+import com.developersboard.enums.RoleType;
+import com.developersboard.shared.dto.UserCredentialsDto;
 import com.developersboard.shared.util.UserUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,12 +14,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 class UserDetailsServiceImplTest extends TestUtils {
 
   @Mock private transient UserRepository userRepository;
 
+  @Mock private transient UserDetailsCacheService userDetailsCacheService;
+
   @InjectMocks private transient UserDetailsServiceImpl userDetailsService;
 
   private transient String email;
@@ -30,8 +36,31 @@ class UserDetailsServiceImplTest extends TestUtils {
       var user =
           UserUtils.createUser(testInfo.getDisplayName(), FAKER.credentials().password(), email);
 
-      Mockito.when(userRepository.findByUsername(testInfo.getDisplayName())).thenReturn(user);
-      Mockito.when(userRepository.findByEmail(user.getEmail())).thenReturn(user);
+      var userCredentials =
+          new UserCredentialsDto(
+              1L,
+              user.getPublicId(),
+              user.getUsername(),
+              user.getEmail(),
+              user.getPassword(),
+              user.getFirstName(),
+              user.getLastName(),
+              user.getPhone(),
+              true,
+              true,
+              true,
+              true,
+              0,
+              null,
+              String.join(
+                  UserCredentialsDto.ROLE_SEPARATOR,
+                  RoleType.ROLE_ADMIN.getName(),
+                  RoleType.ROLE_USER.getName()));
+
+      Mockito.when(userRepository.findCredentialsByUsername(testInfo.getDisplayName()))
+          .thenReturn(userCredentials);
+      Mockito.when(userRepository.findCredentialsByEmail(user.getEmail()))
+          .thenReturn(userCredentials);
     }
   }
 
@@ -60,4 +89,39 @@ class UserDetailsServiceImplTest extends TestUtils {
     Assertions.assertNotNull(userDetails);
     Assertions.assertEquals(testInfo.getDisplayName(), userDetails.getUsername());
   }
+
+  @Test
+  void testShouldReturnAllRolesAsAuthorities(TestInfo testInfo) {
+    var userDetails = userDetailsService.loadUserByUsername(testInfo.getDisplayName());
+
+    var authorities =
+        userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+    Assertions.assertEquals(2, authorities.size());
+    Assertions.assertTrue(authorities.contains(RoleType.ROLE_ADMIN.getName()));
+    Assertions.assertTrue(authorities.contains(RoleType.ROLE_USER.getName()));
+  }
+
+  @Test
+  void testShouldLookUpAUsernameWithAnAtSignWhenNoEmailMatches() {
+    var userCredentials =
+        new UserCredentialsDto(
+            2L, "publicId", "john@home", null, null, null, null, null, true, true, true, true, 0,
+            null, null);
+    Mockito.when(userRepository.findCredentialsByUsername("john@home")).thenReturn(userCredentials);
+
+    var userDetails = userDetailsService.loadUserByUsername(" john@home ");
+
+    Assertions.assertEquals("john@home", userDetails.getUsername());
+    Assertions.assertTrue(userDetails.getAuthorities().isEmpty());
+    Mockito.verify(userRepository).findCredentialsByEmail("john@home");
+  }
+
+  @Test
+  void testShouldReturnCachedUserWithoutQuerying(TestInfo testInfo) {
+    var cached = UserDetailsBuilder.builder().id(1L).username(testInfo.getDisplayName()).build();
+    Mockito.when(userDetailsCacheService.get(testInfo.getDisplayName())).thenReturn(cached);
+
+    Assertions.assertSame(cached, userDetailsService.loadUserByUsername(testInfo.getDisplayName()));
+    Mockito.verifyNoInteractions(userRepository);
+  }
 }
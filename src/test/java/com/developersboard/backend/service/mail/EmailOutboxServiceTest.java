@@ -0,0 +1,213 @@
+package com.developersboard.backend.service.mail;
+
+import com.developersboard.backend.persistent.domain.mail.EmailOutbox;
+import com.developersboard.backend.persistent.repository.EmailOutboxRepository;
+import com.developersboard.backend.service.mail.impl.EmailOutboxServiceImpl;
+import com.developersboard.constant.EmailConstants;
+import com.developersboard.enums.EmailStatus;
+import com.developersboard.web.payload.request.mail.HtmlEmailRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxServiceTest {
+
+  private static final int MAX_ATTEMPTS = 3;
+  private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(30);
+  private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+  private static final Duration RETENTION = Duration.ofDays(7);
+
+  @Mock private transient EmailOutboxRepository emailOutboxRepository;
+
+  private EmailOutboxServiceImpl emailOutboxService;
+  private LocalDateTime now;
+
+  @BeforeEach
+  void setUp() {
+    var clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+    now = LocalDateTime.now(clock);
+    emailOutboxService =
+        new EmailOutboxServiceImpl(
+            emailOutboxRepository,
+            new ObjectMapper(),
+            clock,
+            new SimpleMeterRegistry(),
+            10,
+            2,
+            MAX_ATTEMPTS,
+            INITIAL_BACKOFF,
+            MAX_BACKOFF,
+            Duration.ofMinutes(5),
+            RETENTION);
+  }
+
+  @AfterEach
+  void tearDown() {
+    emailOutboxService.shutdown();
+  }
+
+  @Test
+  void enqueueStoresPendingEmailDueNow() {
+    var emailRequest = createEmailRequest();
+
+    emailOutboxService.enqueue(emailRequest);
+
+    var captor = ArgumentCaptor.forClass(EmailOutbox.class);
+    Mockito.verify(emailOutboxRepository).save(captor.capture());
+    var email = captor.getValue();
+    Assertions.assertEquals(EmailStatus.PENDING, email.getStatus());
+    Assertions.assertEquals(emailRequest.getTo(), email.getRecipient());
+    Assertions.assertEquals(now, email.getNextAttemptAt());
+    Assertions.assertEquals("{\"link\":\"http://localhost\"}", email.getUrls());
+  }
+
+  @Test
+  void enqueueWithAttachmentsThrowsException() {
+    var emailRequest = createEmailRequest();
+    emailRequest.setAttachments(Set.of(new File("attachment.txt")));
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> emailOutboxService.enqueue(emailRequest));
+    Mockito.verifyNoInteractions(emailOutboxRepository);
+  }
+
+  @Test
+  void dispatchSendsClaimedEmails() {
+    var email = createEmail(0);
+    email.setUrls("{\"link\":\"http://localhost\"}");
+    mockDueEmail(email, 1);
+
+    var sent = emailOutboxService.dispatch(emailRequest -> {});
+
+    Assertions.assertEquals(1, sent);
+    Assertions.assertEquals(EmailStatus.SENT, email.getStatus());
+    Assertions.assertEquals(1, email.getAttempts());
+    Assertions.assertNull(email.getUrls());
+    Mockito.verify(emailOutboxRepository).save(email);
+  }
+
+  @Test
+  void dispatchSkipsEmailsClaimedByAnotherWorker() {
+    mockDueIds(1L);
+    Mockito.when(
+            emailOutboxRepository.claim(
+                ArgumentMatchers.eq(1L), ArgumentMatchers.any(), ArgumentMatchers.any()))
+        .thenReturn(0);
+
+    Assertions.assertEquals(0, emailOutboxService.dispatch(emailRequest -> {}));
+    Mockito.verify(emailOutboxRepository, Mockito.never()).findAllById(ArgumentMatchers.any());
+  }
+
+  @Test
+  void failedEmailIsRetriedWithBackoff() {
+    var email = createEmail(1);
+    mockDueEmail(email, 1);
+
+    var sent =
+        emailOutboxService.dispatch(
+            emailRequest -> {
+              throw new IllegalStateException("unavailable");
+            });
+
+    Assertions.assertEquals(0, sent);
+    Assertions.assertEquals(EmailStatus.PENDING, email.getStatus());
+    Assertions.assertEquals(2, email.getAttempts());
+    Assertions.assertEquals("unavailable", email.getLastError());
+    // The backoff doubles from the initial backoff, but never exceeds the maximum.
+    Assertions.assertEquals(now.plus(MAX_BACKOFF), email.getNextAttemptAt());
+  }
+
+  @Test
+  void emailIsDeadAfterTheLastAttempt() {
+    var email = createEmail(MAX_ATTEMPTS - 1);
+    mockDueEmail(email, 1);
+
+    emailOutboxService.dispatch(
+        emailRequest -> {
+          throw new IllegalStateException("unavailable");
+        });
+
+    Assertions.assertEquals(EmailStatus.DEAD, email.getStatus());
+    Assertions.assertEquals(MAX_ATTEMPTS, email.getAttempts());
+  }
+
+  @Test
+  void retryQueuesDeadLetterAgain() {
+    var email = createEmail(MAX_ATTEMPTS);
+    email.setStatus(EmailStatus.DEAD);
+    Mockito.when(emailOutboxRepository.findByPublicIdAndStatus("publicId", EmailStatus.DEAD))
+        .thenReturn(email);
+
+    Assertions.assertTrue(emailOutboxService.retry("publicId"));
+    Assertions.assertEquals(EmailStatus.PENDING, email.getStatus());
+    Assertions.assertEquals(0, email.getAttempts());
+    Assertions.assertEquals(now, email.getNextAttemptAt());
+  }
+
+  @Test
+  void retryWithoutDeadLetterReturnsFalse() {
+    Assertions.assertFalse(emailOutboxService.retry("publicId"));
+  }
+
+  @Test
+  void purgeDeletesSentAndDeadEmailsOlderThanTheRetention() {
+    Mockito.when(
+            emailOutboxRepository.deleteByStatusInAndUpdatedAtBefore(
+                Set.of(EmailStatus.SENT, EmailStatus.DEAD), now.minus(RETENTION)))
+        .thenReturn(2);
+
+    Assertions.assertEquals(2, emailOutboxService.purge());
+  }
+
+  private void mockDueEmail(final EmailOutbox email, final long id) {
+    mockDueIds(id);
+    Mockito.when(
+            emailOutboxRepository.claim(
+                ArgumentMatchers.eq(id), ArgumentMatchers.any(), ArgumentMatchers.any()))
+        .thenReturn(1);
+    Mockito.when(emailOutboxRepository.findAllById(List.of(id))).thenReturn(List.of(email));
+  }
+
+  private void mockDueIds(final long id) {
+    Mockito.when(
+            emailOutboxRepository.findDueIds(
+                ArgumentMatchers.eq(EmailStatus.PENDING),
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any()))
+        .thenReturn(List.of(id));
+  }
+
+  private static EmailOutbox createEmail(final int attempts) {
+    var email = new EmailOutbox();
+    email.setRecipient("john@example.com");
+    email.setTemplate(EmailConstants.EMAIL_WELCOME_TEMPLATE);
+    email.setAttempts(attempts);
+    return email;
+  }
+
+  private static HtmlEmailRequest createEmailRequest() {
+    var emailRequest = new HtmlEmailRequest();
+    emailRequest.setTo("john@example.com");
+    emailRequest.setTemplate(EmailConstants.EMAIL_WELCOME_TEMPLATE);
+    emailRequest.getUrls().put(EmailConstants.EMAIL_LINK, "http://localhost");
+    return emailRequest;
+  }
+}
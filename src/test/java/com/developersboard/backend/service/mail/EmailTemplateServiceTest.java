@@ -0,0 +1,138 @@
+package com.developersboard.backend.service.mail;
+
+import com.developersboard.backend.service.mail.impl.EmailTemplateServiceImpl;
+import com.developersboard.constant.EmailConstants;
+import com.developersboard.constant.user.UserConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+class EmailTemplateServiceTest {
+
+  private TemplateEngine templateEngine;
+  private EmailTemplateService emailTemplateService;
+
+  @BeforeEach
+  void setUp() {
+    var templateResolver = new ClassLoaderTemplateResolver();
+    templateResolver.setPrefix("templates/");
+    templateResolver.setSuffix(".html");
+    templateResolver.setTemplateMode(TemplateMode.HTML);
+
+    templateEngine = Mockito.spy(new SpringTemplateEngine());
+    templateEngine.setTemplateResolver(templateResolver);
+    emailTemplateService =
+        new EmailTemplateServiceImpl(templateEngine, new SimpleMeterRegistry(), true, 10);
+  }
+
+  @ParameterizedTest
+  @MethodSource("accountTemplates")
+  void rendersLikeTheTemplateEngine(final String template) {
+    var urls = createUrls("<Jane & 'Doe'>", "https://localhost/verify?token=a+b/c=&next=\"x\"");
+
+    Assertions.assertEquals(
+        process(template, urls), emailTemplateService.render(template, urls));
+  }
+
+  @ParameterizedTest
+  @MethodSource("accountTemplates")
+  void rendersLikeTheTemplateEngineWithoutReceiverUrls(final String template) {
+    var urls = createUrls(null, null);
+
+    Assertions.assertEquals(
+        process(template, urls), emailTemplateService.render(template, urls));
+  }
+
+  @Test
+  void compilesTemplateOncePerSharedUrls() {
+    var template = EmailConstants.EMAIL_VERIFY_TEMPLATE;
+
+    var first = emailTemplateService.render(template, createUrls("jane", "https://localhost/1"));
+    var second = emailTemplateService.render(template, createUrls("john", "https://localhost/2"));
+
+    Assertions.assertTrue(first.contains("jane") && first.contains("https://localhost/1"));
+    Assertions.assertTrue(second.contains("john") && second.contains("https://localhost/2"));
+    verifyProcessed(1);
+  }
+
+  @Test
+  void compilesTemplateAgainForOtherSharedUrls() {
+    var template = EmailConstants.EMAIL_WELCOME_TEMPLATE;
+    var urls = createUrls("jane", "https://localhost/1");
+    emailTemplateService.render(template, urls);
+
+    urls.put(EmailConstants.HOME_LINK, "https://example.com");
+    var rendered = emailTemplateService.render(template, urls);
+
+    Assertions.assertTrue(rendered.contains("https://example.com"));
+    verifyProcessed(2);
+  }
+
+  @Test
+  void usernameReadAsFalseIsProcessedByTheTemplateEngine() {
+    var template = EmailConstants.PASSWORD_UPDATE_TEMPLATE;
+    var urls = createUrls("No", null);
+
+    Assertions.assertEquals(process(template, urls), emailTemplateService.render(template, urls));
+    verifyProcessed(2);
+  }
+
+  @Test
+  void disabledCacheProcessesEveryEmail() {
+    emailTemplateService =
+        new EmailTemplateServiceImpl(templateEngine, new SimpleMeterRegistry(), false, 10);
+    var template = EmailConstants.PASSWORD_RESET_TEMPLATE;
+
+    emailTemplateService.render(template, createUrls("jane", "https://localhost/1"));
+    emailTemplateService.render(template, createUrls("john", "https://localhost/2"));
+
+    verifyProcessed(2);
+  }
+
+  private String process(final String template, final Map<String, String> urls) {
+    var context = new Context();
+    context.setVariable(EmailConstants.URLS, urls);
+    return templateEngine.process(template, context);
+  }
+
+  private void verifyProcessed(final int times) {
+    Mockito.verify(templateEngine, Mockito.times(times))
+        .process(ArgumentMatchers.anyString(), ArgumentMatchers.any(IContext.class));
+  }
+
+  private static Map<String, String> createUrls(final String username, final String link) {
+    Map<String, String> urls = new HashMap<>();
+    urls.put(EmailConstants.HOME_LINK, "https://localhost/");
+    urls.put(EmailConstants.CONTACT_US_LINK, "https://localhost/contact");
+    if (Objects.nonNull(username)) {
+      urls.put(UserConstants.USERNAME, username);
+    }
+    if (Objects.nonNull(link)) {
+      urls.put(EmailConstants.EMAIL_LINK, link);
+    }
+    return urls;
+  }
+
+  static Stream<String> accountTemplates() {
+    return Stream.of(
+        EmailConstants.EMAIL_VERIFY_TEMPLATE,
+        EmailConstants.EMAIL_WELCOME_TEMPLATE,
+        EmailConstants.PASSWORD_RESET_TEMPLATE,
+        EmailConstants.PASSWORD_UPDATE_TEMPLATE);
+  }
+}
@@ -0,0 +1,165 @@
+package com.developersboard.backend.service.security;
+
+import com.developersboard.backend.persistent.domain.user.User;
+import com.developersboard.backend.persistent.repository.UserRepository;
+import com.developersboard.backend.service.impl.UserDetailsBuilder;
+import com.developersboard.backend.service.security.impl.BruteForceProtectionServiceImpl;
+import com.developersboard.backend.service.user.UserDetailsCacheService;
+import com.developersboard.backend.service.security.impl.SlidingWindowCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+@ExtendWith(MockitoExtension.class)
+class BruteForceProtectionServiceTest {
+
+  private static final int MAX_FAILED_LOGINS = 3;
+  private static final int MAX_CLIENT_FAILED_LOGINS = 5;
+  private static final String CLIENT_IP = "127.0.0.1";
+
+  @Mock private transient UserRepository userRepository;
+  @Mock private transient TokenRevocationService tokenRevocationService;
+  @Mock private transient LoginEventService loginEventService;
+  @Mock private transient UserDetailsCacheService userDetailsCacheService;
+
+  private BruteForceProtectionService bruteForceProtectionService;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    bruteForceProtectionService =
+        new BruteForceProtectionServiceImpl(
+            userRepository,
+            tokenRevocationService,
+            loginEventService,
+            new ConcurrentMapCacheManager(),
+            userDetailsCacheService,
+            meterRegistry,
+            MAX_FAILED_LOGINS,
+            MAX_CLIENT_FAILED_LOGINS,
+            Duration.ofMinutes(15),
+            100);
+  }
+
+  @Test
+  void failuresBelowThresholdDoNotTouchTheDatabase() {
+    var username = UUID.randomUUID().toString();
+    for (int i = 0; i < MAX_FAILED_LOGINS; i++) {
+      bruteForceProtectionService.registerLoginFailure(username, CLIENT_IP);
+    }
+
+    Mockito.verifyNoInteractions(userRepository);
+    Mockito.verify(loginEventService).recordLoginFailure(username, MAX_FAILED_LOGINS);
+    Assertions.assertFalse(bruteForceProtectionService.isBruteForceAttack(username, CLIENT_IP));
+  }
+
+  @Test
+  void failuresAboveThresholdLockTheAccount() {
+    var user = new User();
+    user.setUsername(UUID.randomUUID().toString());
+    user.setPublicId(UUID.randomUUID().toString());
+    user.setAccountNonLocked(true);
+    Mockito.when(userRepository.findByUsername(user.getUsername())).thenReturn(user);
+
+    for (int i = 0; i <= MAX_FAILED_LOGINS; i++) {
+      bruteForceProtectionService.registerLoginFailure(user.getUsername(), null);
+    }
+
+    Assertions.assertFalse(user.isAccountNonLocked());
+    Assertions.assertTrue(bruteForceProtectionService.isBruteForceAttack(user.getUsername(), null));
+    Mockito.verify(userRepository).save(user);
+    Mockito.verify(tokenRevocationService).revokeTokens(user.getPublicId());
+    Assertions.assertEquals(1, meterRegistry.get("security.login.locked").counter().count());
+  }
+
+  @Test
+  void failuresWithTheEmailLockTheAccountOfTheUsername() {
+    var user = new User();
+    user.setUsername(UUID.randomUUID().toString());
+    user.setEmail(user.getUsername() + "@example.com");
+    user.setPublicId(UUID.randomUUID().toString());
+    user.setAccountNonLocked(true);
+    var userDetails = UserDetailsBuilder.builder().username(user.getUsername()).build();
+    Mockito.when(userDetailsCacheService.get(user.getEmail())).thenReturn(userDetails);
+    Mockito.when(userRepository.findByUsername(user.getUsername())).thenReturn(user);
+
+    for (int i = 0; i <= MAX_FAILED_LOGINS; i++) {
+      bruteForceProtectionService.registerLoginFailure(user.getEmail(), null);
+    }
+
+    Assertions.assertFalse(user.isAccountNonLocked());
+    Assertions.assertTrue(bruteForceProtectionService.isBruteForceAttack(user.getUsername(), null));
+  }
+
+  @Test
+  void failuresOfAnUnknownUsernameAreCountedAsTyped() {
+    var username = UUID.randomUUID().toString();
+
+    for (int i = 0; i <= MAX_FAILED_LOGINS; i++) {
+      bruteForceProtectionService.registerLoginFailure(username, null);
+    }
+
+    Assertions.assertTrue(bruteForceProtectionService.isBruteForceAttack(username, null));
+  }
+
+  @Test
+  void failuresOfAnUnknownEmailDoNotTouchTheDatabase() {
+    var email = UUID.randomUUID() + "@example.com";
+
+    for (int i = 0; i < MAX_FAILED_LOGINS; i++) {
+      bruteForceProtectionService.registerLoginFailure(email, CLIENT_IP);
+    }
+
+    Mockito.verify(userDetailsCacheService, Mockito.times(MAX_FAILED_LOGINS)).get(email);
+    Mockito.verifyNoInteractions(userRepository);
+    Assertions.assertFalse(bruteForceProtectionService.isBruteForceAttack(email, CLIENT_IP));
+  }
+
+  @Test
+  void failuresAcrossUsernamesFromOneClientAreBlocked() {
+    for (int i = 0; i < MAX_CLIENT_FAILED_LOGINS; i++) {
+      bruteForceProtectionService.registerLoginFailure(UUID.randomUUID().toString(), CLIENT_IP);
+    }
+    var username = UUID.randomUUID().toString();
+    Assertions.assertFalse(bruteForceProtectionService.isBruteForceAttack(username, CLIENT_IP));
+
+    bruteForceProtectionService.registerLoginFailure(UUID.randomUUID().toString(), CLIENT_IP);
+
+    Assertions.assertTrue(bruteForceProtectionService.isBruteForceAttack(username, CLIENT_IP));
+    Assertions.assertFalse(bruteForceProtectionService.isBruteForceAttack(username, "10.0.0.1"));
+  }
+
+  @Test
+  void resetClearsTheUsernameCounter() {
+    var username = UUID.randomUUID().toString();
+    for (int i = 0; i < MAX_FAILED_LOGINS; i++) {
+      bruteForceProtectionService.registerLoginFailure(username, null);
+    }
+
+    bruteForceProtectionService.resetBruteForceCounter(username);
+    bruteForceProtectionService.registerLoginFailure(username, null);
+
+    Assertions.assertFalse(bruteForceProtectionService.isBruteForceAttack(username, null));
+    Mockito.verify(loginEventService).recordLoginSuccess(username);
+    Mockito.verifyNoInteractions(userRepository);
+  }
+
+  @Test
+  void slidingWindowCounterDropsExpiredEvents() {
+    var counter = new SlidingWindowCounter(Duration.ofSeconds(10), 10);
+
+    Assertions.assertEquals(1, counter.increment(0));
+    Assertions.assertEquals(2, counter.increment(5_000));
+    Assertions.assertEquals(1, counter.count(12_000));
+    Assertions.assertEquals(0, counter.count(20_000));
+  }
+}
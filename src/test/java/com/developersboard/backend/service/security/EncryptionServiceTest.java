@@ -43,6 +43,18 @@ class EncryptionServiceTest {
     Assertions.assertEquals(uri, decryptRequestUri);
   }
 
+  @Test
+  void secretKeyIsDerivedOnlyOnce() throws Exception {
+    try (MockedStatic<SecretKeyFactory> mockStatic =
+        Mockito.mockStatic(SecretKeyFactory.class, Mockito.CALLS_REAL_METHODS)) {
+      var encryptRequestUri = encryptionService.encrypt(uri);
+      Assertions.assertEquals(uri, encryptionService.decrypt(encryptRequestUri));
+      Assertions.assertEquals(uri, encryptionService.decrypt(encryptionService.encrypt(uri)));
+
+      mockStatic.verify(() -> SecretKeyFactory.getInstance(ArgumentMatchers.anyString()));
+    }
+  }
+
   @Test
   void encryptWithNullThrowsException() {
     Assertions.assertNull(encryptionService.encrypt(StringUtils.EMPTY));
@@ -1,9 +1,13 @@
 package com.developersboard.backend.service.security;
 
+import com.developersboard.backend.service.impl.UserDetailsBuilder;
 import com.developersboard.backend.service.security.impl.JwtServiceImpl;
+import com.developersboard.enums.RoleType;
+import com.developersboard.shared.util.UserUtils;
 import com.developersboard.shared.util.core.JwtUtils;
 import com.developersboard.shared.util.core.JwtUtils.JwtTokenType;
 import java.util.Date;
+import java.util.UUID;
 import org.apache.commons.lang3.time.DateUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -39,6 +43,60 @@ class JwtServiceTest {
     Assertions.assertEquals(testInfo.getDisplayName(), jwtService.getUsernameFromToken(jwtToken));
   }
 
+  @Test
+  void generateJwtTokenThenVerifyClaims(TestInfo testInfo) {
+    var jwtToken = jwtService.generateJwtToken(testInfo.getDisplayName());
+
+    var claims = jwtService.getVerifiedClaims(jwtToken);
+    Assertions.assertNotNull(claims);
+    Assertions.assertEquals(testInfo.getDisplayName(), claims.getSubject());
+
+    // verified claims are reused for the same token
+    Assertions.assertSame(claims, jwtService.getVerifiedClaims(jwtToken));
+  }
+
+  @Test
+  void generateJwtTokenWithUserDetailsThenBuildUserDetailsFromClaims(TestInfo testInfo) {
+    var user = UserUtils.createUser(testInfo.getDisplayName(), RoleType.ROLE_ADMIN);
+    user.setId(1L);
+    user.setEnabled(true);
+    user.setPublicId(UUID.randomUUID().toString());
+    var userDetails = UserDetailsBuilder.buildUserDetails(user);
+    var expiration = DateUtils.addMinutes(new Date(), 1);
+
+    var jwtToken =
+        jwtService.generateJwtToken(
+            userDetails, user.getId(), user.getPublicId(), user.getEmail(), expiration);
+    var claims = jwtService.getVerifiedClaims(jwtToken);
+    var principal = UserDetailsBuilder.buildUserDetailsFromClaims(claims);
+
+    Assertions.assertNotNull(principal);
+    Assertions.assertEquals(userDetails, principal);
+    Assertions.assertEquals(userDetails.getId(), principal.getId());
+    Assertions.assertEquals(userDetails.getAuthorities(), principal.getAuthorities());
+    Assertions.assertEquals(userDetails.isEnabled(), principal.isEnabled());
+    Assertions.assertEquals(userDetails.isAccountNonLocked(), principal.isAccountNonLocked());
+    Assertions.assertFalse(principal.getAuthorities().isEmpty());
+  }
+
+  @Test
+  void buildUserDetailsFromClaimsWithoutPrincipalReturnsNull(TestInfo testInfo) {
+    var jwtToken = jwtService.generateJwtToken(testInfo.getDisplayName());
+
+    var claims = jwtService.getVerifiedClaims(jwtToken);
+
+    Assertions.assertNull(UserDetailsBuilder.buildUserDetailsFromClaims(claims));
+  }
+
+  @Test
+  void getVerifiedClaimsWithBadSignatureJwtTokenReturnsNull(TestInfo testInfo) {
+    var jwt = jwtService.generateJwtToken(testInfo.getDisplayName());
+    Assertions.assertNotNull(jwtService.getVerifiedClaims(jwt));
+
+    var badSignatureJwtToken = JwtUtils.generateTestJwtToken(jwt, JwtTokenType.BAD_SIGNATURE);
+    Assertions.assertNull(jwtService.getVerifiedClaims(badSignatureJwtToken));
+  }
+
   @Test
   void getUsernameFromTokenWithNullThrowsException() {
     Assertions.assertThrows(
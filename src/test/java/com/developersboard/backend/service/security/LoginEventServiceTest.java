@@ -0,0 +1,113 @@
+package com.developersboard.backend.service.security;
+
+import com.developersboard.backend.persistent.domain.user.User;
+import com.developersboard.backend.persistent.repository.UserRepository;
+import com.developersboard.backend.service.security.impl.LoginEventServiceImpl;
+import com.developersboard.backend.service.user.UserDetailsCacheService;
+import com.developersboard.enums.UserCacheEvictionCause;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class LoginEventServiceTest {
+
+  private static final int QUEUE_CAPACITY = 3;
+
+  @Mock private transient UserRepository userRepository;
+  @Mock private transient UserDetailsCacheService userDetailsCacheService;
+  @Mock private transient PlatformTransactionManager transactionManager;
+
+  private LoginEventService loginEventService;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    loginEventService =
+        new LoginEventServiceImpl(
+            userRepository,
+            new ConcurrentMapCacheManager(),
+            userDetailsCacheService,
+            transactionManager,
+            meterRegistry,
+            QUEUE_CAPACITY,
+            10);
+  }
+
+  @Test
+  void flushCoalescesEventsOfTheSameUser() {
+    var john = createUser(1L, "john");
+    var jane = createUser(2L, "jane");
+    Mockito.when(userRepository.findAllByUsernameIn(Set.of("john", "jane")))
+        .thenReturn(List.of(john, jane));
+    loginEventService.recordLoginFailure("john", 1);
+    loginEventService.recordLoginFailure("john", 2);
+    loginEventService.recordLoginFailure("jane", 2);
+
+    Assertions.assertEquals(3, loginEventService.flush());
+
+    Assertions.assertEquals(2, john.getFailedLoginAttempts());
+    Assertions.assertEquals(2, jane.getFailedLoginAttempts());
+    Assertions.assertNull(john.getLastSuccessfulLogin());
+    Mockito.verify(userRepository).findAllByUsernameIn(Set.of("john", "jane"));
+    Mockito.verifyNoMoreInteractions(userRepository);
+  }
+
+  @Test
+  void successAfterFailureClearsTheFailedAttempts() {
+    var john = createUser(1L, "john");
+    Mockito.when(userRepository.findAllByUsernameIn(Set.of("john"))).thenReturn(List.of(john));
+    loginEventService.recordLoginFailure("john", 1);
+    loginEventService.recordLoginSuccess("john");
+
+    loginEventService.flush();
+
+    Assertions.assertEquals(0, john.getFailedLoginAttempts());
+    Assertions.assertNotNull(john.getLastSuccessfulLogin());
+  }
+
+  @Test
+  void flushEvictsOnlyTheCachedDetailsOfTheUsersWritten() {
+    var john = createUser(1L, "john");
+    Mockito.when(userRepository.findAllByUsernameIn(Set.of("john", "unknown")))
+        .thenReturn(List.of(john));
+    loginEventService.recordLoginSuccess("john");
+    loginEventService.recordLoginFailure("unknown", 1);
+
+    loginEventService.flush();
+
+    Mockito.verify(userDetailsCacheService).evictById(1L, UserCacheEvictionCause.LOGIN);
+    Mockito.verifyNoMoreInteractions(userDetailsCacheService);
+  }
+
+  @Test
+  void eventsBeyondTheQueueCapacityAreDropped() {
+    for (int i = 0; i <= QUEUE_CAPACITY; i++) {
+      loginEventService.recordLoginSuccess("john");
+    }
+
+    Assertions.assertEquals(
+        QUEUE_CAPACITY, meterRegistry.get("security.login.events.queued").gauge().value());
+    Assertions.assertEquals(
+        1, meterRegistry.get("security.login.events.dropped").counter().count());
+    Assertions.assertEquals(QUEUE_CAPACITY, loginEventService.flush());
+    Assertions.assertEquals(1, meterRegistry.get("security.login.events.flush").timer().count());
+  }
+
+  private static User createUser(final Long id, final String username) {
+    var user = new User();
+    user.setId(id);
+    user.setUsername(username);
+    return user;
+  }
+}
@@ -0,0 +1,81 @@
+package com.developersboard.backend.service.security;
+
+import com.developersboard.backend.service.cache.CacheInvalidationBus;
+import com.developersboard.backend.service.cache.impl.CacheInvalidationServiceImpl;
+import com.developersboard.backend.service.cache.impl.InProcessCacheInvalidationBus;
+import com.developersboard.backend.service.security.impl.TokenRevocationServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TokenRevocationServiceTest {
+
+  private CacheInvalidationBus cacheInvalidationBus;
+  private TokenRevocationService tokenRevocationService;
+  private String publicId;
+
+  @BeforeEach
+  void setUp() {
+    cacheInvalidationBus = new InProcessCacheInvalidationBus();
+    tokenRevocationService = createTokenRevocationService();
+    publicId = UUID.randomUUID().toString();
+  }
+
+  @Test
+  void tokenIsNotRevokedWithoutRevocation() {
+    Assertions.assertFalse(tokenRevocationService.isRevoked(publicId, new Date()));
+  }
+
+  @Test
+  void tokensIssuedBeforeRevocationAreRevoked() {
+    var issuedAt = Date.from(Instant.now().minus(1, ChronoUnit.MINUTES));
+    tokenRevocationService.revokeTokens(publicId);
+
+    Assertions.assertTrue(tokenRevocationService.isRevoked(publicId, issuedAt));
+  }
+
+  @Test
+  void tokensIssuedAfterRevocationAreNotRevoked() {
+    tokenRevocationService.revokeTokens(publicId);
+    var issuedAt = Date.from(Instant.now().plus(1, ChronoUnit.SECONDS));
+
+    Assertions.assertFalse(tokenRevocationService.isRevoked(publicId, issuedAt));
+  }
+
+  @Test
+  void tokenWithoutIssuedAtIsRevoked() {
+    Assertions.assertTrue(tokenRevocationService.isRevoked(publicId, null));
+  }
+
+  @Test
+  void tokensRevokedOnAnotherNodeAreRevoked() {
+    var otherNode = createTokenRevocationService();
+    var issuedAt = Date.from(Instant.now().minus(1, ChronoUnit.MINUTES));
+
+    otherNode.revokeTokens(publicId);
+
+    Assertions.assertTrue(tokenRevocationService.isRevoked(publicId, issuedAt));
+  }
+
+  @Test
+  void revocationsAreKeptWhateverTheirNumber() {
+    var issuedAt = Date.from(Instant.now().minus(1, ChronoUnit.MINUTES));
+    tokenRevocationService.revokeTokens(publicId);
+
+    for (int i = 0; i < 200_000; i++) {
+      tokenRevocationService.revokeTokens(UUID.randomUUID().toString());
+    }
+
+    Assertions.assertTrue(tokenRevocationService.isRevoked(publicId, issuedAt));
+  }
+
+  private TokenRevocationService createTokenRevocationService() {
+    return new TokenRevocationServiceImpl(
+        new CacheInvalidationServiceImpl(cacheInvalidationBus, new SimpleMeterRegistry()), 5);
+  }
+}
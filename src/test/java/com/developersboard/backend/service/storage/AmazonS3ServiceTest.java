@@ -0,0 +1,265 @@
+package com.developersboard.backend.service.storage;
+
+import com.developersboard.backend.service.storage.impl.AmazonS3ServiceImpl;
+import com.developersboard.backend.service.storage.impl.ImageServiceImpl;
+import com.developersboard.config.properties.AwsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+@ExtendWith(MockitoExtension.class)
+class AmazonS3ServiceTest {
+
+  private static final String PATH = "files";
+  private static final String FILE_NAME = "file";
+  private static final String UPLOAD_ID = "uploadId";
+  private static final String ETAG = "\"etag\"";
+
+  @Mock private transient S3Client s3Client;
+
+  @Mock private transient S3Presigner s3Presigner;
+
+  private AwsProperties properties;
+  private ImageServiceImpl imageService;
+  private AmazonS3Service amazonS3Service;
+
+  @BeforeEach
+  void setUp() {
+    properties = new AwsProperties();
+    properties.setS3BucketName("bucket");
+    properties.setS3MultipartThreshold(DataSize.ofBytes(10));
+    properties.setS3PartSize(DataSize.ofBytes(4));
+    imageService = new ImageServiceImpl(new SimpleMeterRegistry(), 1, 10, 0.85f, 0.5f);
+    amazonS3Service = new AmazonS3ServiceImpl(s3Client, s3Presigner, properties, imageService);
+  }
+
+  @AfterEach
+  void tearDown() {
+    imageService.shutdown();
+  }
+
+  @Test
+  void storeImageIsResizedInMemory() throws Exception {
+    var content = new ClassPathResource("/profileImage.jpeg").getContentAsByteArray();
+    var file = new MockMultipartFile(FILE_NAME, "profile.jpeg", "image/jpeg", content);
+
+    var key = amazonS3Service.storeFile(file, PATH, FILE_NAME);
+
+    Assertions.assertEquals("files/file.jpeg", key);
+    var image = ImageIO.read(new ByteArrayInputStream(capturePutObject()));
+    Assertions.assertEquals(600, image.getWidth());
+    Assertions.assertEquals(600, image.getHeight());
+    Assertions.assertFalse(Files.exists(Path.of("profile.jpeg")));
+  }
+
+  @Test
+  void storeSmallFileIsStreamedAsIs() throws Exception {
+    var content = new byte[] {1, 2, 3, 4, 5};
+    var file = new MockMultipartFile(FILE_NAME, "notes.txt", "text/plain", content);
+
+    var key = amazonS3Service.storeFile(file, PATH, FILE_NAME);
+
+    Assertions.assertEquals("files/file.txt", key);
+    Assertions.assertArrayEquals(content, capturePutObject());
+    Mockito.verify(s3Client, Mockito.never())
+        .createMultipartUpload(ArgumentMatchers.any(CreateMultipartUploadRequest.class));
+  }
+
+  @Test
+  void storeLargeFileIsUploadedInParts() throws Exception {
+    var content = new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11};
+    var file = new MockMultipartFile(FILE_NAME, "notes.txt", "text/plain", content);
+    mockMultipartUpload();
+    var uploaded = new ByteArrayOutputStream();
+    Mockito.when(
+            s3Client.uploadPart(
+                ArgumentMatchers.any(UploadPartRequest.class),
+                ArgumentMatchers.any(RequestBody.class)))
+        .thenAnswer(
+            invocation -> {
+              RequestBody requestBody = invocation.getArgument(1);
+              try (var inputStream = requestBody.contentStreamProvider().newStream()) {
+                inputStream.transferTo(uploaded);
+              }
+              UploadPartRequest request = invocation.getArgument(0);
+              return UploadPartResponse.builder().eTag("etag" + request.partNumber()).build();
+            });
+
+    var key = amazonS3Service.storeFile(file, PATH, FILE_NAME);
+
+    Assertions.assertEquals("files/file.txt", key);
+    Assertions.assertArrayEquals(content, uploaded.toByteArray());
+    var captor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+    Mockito.verify(s3Client).completeMultipartUpload(captor.capture());
+    Assertions.assertEquals(3, captor.getValue().multipartUpload().parts().size());
+    Mockito.verify(s3Client, Mockito.never())
+        .putObject(
+            ArgumentMatchers.any(PutObjectRequest.class), ArgumentMatchers.any(RequestBody.class));
+  }
+
+  @Test
+  void storeLargeFileAbortsUploadWhenPartFails() {
+    var content = new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11};
+    var file = new MockMultipartFile(FILE_NAME, "notes.txt", "text/plain", content);
+    mockMultipartUpload();
+    Mockito.when(
+            s3Client.uploadPart(
+                ArgumentMatchers.any(UploadPartRequest.class),
+                ArgumentMatchers.any(RequestBody.class)))
+        .thenThrow(S3Exception.builder().message("failed").build());
+
+    Assertions.assertThrows(
+        S3Exception.class, () -> amazonS3Service.storeFile(file, PATH, FILE_NAME));
+
+    var captor = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+    Mockito.verify(s3Client).abortMultipartUpload(captor.capture());
+    Assertions.assertEquals(UPLOAD_ID, captor.getValue().uploadId());
+  }
+
+  @Test
+  void bucketIsVerifiedOncePerInterval() throws Exception {
+    var file = new MockMultipartFile(FILE_NAME, "notes.txt", "text/plain", new byte[] {1});
+
+    amazonS3Service.storeFile(file, PATH, FILE_NAME);
+    amazonS3Service.storeFile(file, PATH, FILE_NAME);
+
+    Mockito.verify(s3Client).headBucket(ArgumentMatchers.any(HeadBucketRequest.class));
+    Mockito.verify(s3Client, Mockito.times(2))
+        .putObject(
+            ArgumentMatchers.any(PutObjectRequest.class), ArgumentMatchers.any(RequestBody.class));
+  }
+
+  @Test
+  void bucketIsVerifiedOnEveryUploadWithoutInterval() throws Exception {
+    properties.setS3BucketVerificationInterval(Duration.ZERO);
+    var file = new MockMultipartFile(FILE_NAME, "notes.txt", "text/plain", new byte[] {1});
+
+    amazonS3Service.storeFile(file, PATH, FILE_NAME);
+    amazonS3Service.storeFile(file, PATH, FILE_NAME);
+
+    Mockito.verify(s3Client, Mockito.times(2))
+        .headBucket(ArgumentMatchers.any(HeadBucketRequest.class));
+  }
+
+  @Test
+  void missingBucketIsCreatedAgainAfterUploadFails() throws Exception {
+    var file = new MockMultipartFile(FILE_NAME, "notes.txt", "text/plain", new byte[] {1});
+    Mockito.when(
+            s3Client.putObject(
+                ArgumentMatchers.any(PutObjectRequest.class),
+                ArgumentMatchers.any(RequestBody.class)))
+        .thenThrow(NoSuchBucketException.builder().build())
+        .thenReturn(null);
+
+    Assertions.assertThrows(
+        NoSuchBucketException.class, () -> amazonS3Service.storeFile(file, PATH, FILE_NAME));
+    Mockito.when(s3Client.headBucket(ArgumentMatchers.any(HeadBucketRequest.class)))
+        .thenThrow(NoSuchBucketException.builder().build());
+    amazonS3Service.storeFile(file, PATH, FILE_NAME);
+
+    Mockito.verify(s3Client, Mockito.times(2))
+        .headBucket(ArgumentMatchers.any(HeadBucketRequest.class));
+    Mockito.verify(s3Client).createBucket(ArgumentMatchers.any(CreateBucketRequest.class));
+  }
+
+  private void mockMultipartUpload() {
+    Mockito.when(
+            s3Client.createMultipartUpload(
+                ArgumentMatchers.any(CreateMultipartUploadRequest.class)))
+        .thenReturn(CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build());
+  }
+
+  @Test
+  void getStoredFileReturnsTheContentAndItsMetadata() throws Exception {
+    var lastModified = Instant.parse("2024-01-01T00:00:00Z");
+    var response =
+        GetObjectResponse.builder()
+            .eTag(ETAG)
+            .contentType("image/png")
+            .contentLength(3L)
+            .lastModified(lastModified)
+            .build();
+    Mockito.when(s3Client.getObject(ArgumentMatchers.any(GetObjectRequest.class)))
+        .thenReturn(
+            new ResponseInputStream<>(
+                response, AbortableInputStream.create(new ByteArrayInputStream(new byte[3]))));
+
+    var storedFile = amazonS3Service.getStoredFile(PATH, null);
+
+    Assertions.assertFalse(storedFile.isNotModified());
+    Assertions.assertEquals(ETAG, storedFile.eTag());
+    Assertions.assertEquals("image/png", storedFile.contentType());
+    Assertions.assertEquals(lastModified, storedFile.lastModified());
+    Assertions.assertEquals(3, storedFile.content().readAllBytes().length);
+  }
+
+  @Test
+  void getStoredFileIsNotModifiedWhenTheEntityTagMatches() {
+    var notModified = S3Exception.builder().statusCode(304).build();
+    Mockito.when(s3Client.getObject(ArgumentMatchers.any(GetObjectRequest.class)))
+        .thenThrow(notModified);
+
+    var storedFile = amazonS3Service.getStoredFile(PATH, ETAG);
+
+    Assertions.assertTrue(storedFile.isNotModified());
+    Assertions.assertEquals(ETAG, storedFile.eTag());
+    var request = ArgumentCaptor.forClass(GetObjectRequest.class);
+    Mockito.verify(s3Client).getObject(request.capture());
+    Assertions.assertEquals(ETAG, request.getValue().ifNoneMatch());
+  }
+
+  @Test
+  void getStoredFileThatDoesNotExistReturnsNull() {
+    Mockito.when(s3Client.getObject(ArgumentMatchers.any(GetObjectRequest.class)))
+        .thenThrow(NoSuchKeyException.builder().build());
+
+    Assertions.assertNull(amazonS3Service.getStoredFile(PATH, null));
+  }
+
+  private byte[] capturePutObject() throws IOException {
+    var captor = ArgumentCaptor.forClass(RequestBody.class);
+    Mockito.verify(s3Client)
+        .putObject(ArgumentMatchers.any(PutObjectRequest.class), captor.capture());
+    try (var inputStream = captor.getValue().contentStreamProvider().newStream()) {
+      return inputStream.readAllBytes();
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package com.developersboard.backend.service.storage;
+
+import com.developersboard.backend.service.storage.impl.ImageServiceImpl;
+import com.developersboard.enums.ImageVariant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ImageServiceTest {
+
+  private ImageServiceImpl imageService;
+
+  @BeforeEach
+  void setUp() {
+    imageService = new ImageServiceImpl(new SimpleMeterRegistry(), 1, 10, 0.85f, 0.5f);
+  }
+
+  @AfterEach
+  void tearDown() {
+    imageService.shutdown();
+  }
+
+  @Test
+  void resizeCreatesEveryVariantRequested() throws Exception {
+    var image = encode(new BufferedImage(3000, 2000, BufferedImage.TYPE_INT_RGB), "jpg");
+
+    var variants =
+        imageService.resize(
+            new ByteArrayInputStream(image), "jpg", EnumSet.allOf(ImageVariant.class));
+
+    Assertions.assertEquals(EnumSet.allOf(ImageVariant.class), variants.keySet());
+    assertSize(variants.get(ImageVariant.THUMBNAIL), 150, 150);
+    assertSize(variants.get(ImageVariant.MEDIUM), 600, 600);
+    assertSize(variants.get(ImageVariant.ORIGINAL), 2048, 1365);
+  }
+
+  @Test
+  void resizeSmallImageKeepsItsSizeWhenFitted() throws Exception {
+    var image = encode(new BufferedImage(300, 200, BufferedImage.TYPE_INT_RGB), "png");
+
+    var variants =
+        imageService.resize(new ByteArrayInputStream(image), "png", Set.of(ImageVariant.ORIGINAL));
+
+    assertSize(variants.get(ImageVariant.ORIGINAL), 300, 200);
+  }
+
+  @Test
+  void resizeTransparentImageAsJpeg() throws Exception {
+    var image = encode(new BufferedImage(800, 800, BufferedImage.TYPE_INT_ARGB), "png");
+
+    var variants =
+        imageService.resize(new ByteArrayInputStream(image), "jpg", Set.of(ImageVariant.MEDIUM));
+
+    var resizedImage = ImageIO.read(new ByteArrayInputStream(variants.get(ImageVariant.MEDIUM)));
+    Assertions.assertEquals(Color.WHITE.getRGB(), resizedImage.getRGB(300, 300));
+  }
+
+  @Test
+  void resizeWithLowerJpegQualityIsSmaller() throws Exception {
+    var image = encode(createNoise(1200, 1200), "png");
+    var lowQualityService = new ImageServiceImpl(new SimpleMeterRegistry(), 1, 10, 0.3f, 0.5f);
+
+    try {
+      var highQuality =
+          imageService.resize(new ByteArrayInputStream(image), "jpg", Set.of(ImageVariant.MEDIUM));
+      var lowQuality =
+          lowQualityService.resize(
+              new ByteArrayInputStream(image), "jpg", Set.of(ImageVariant.MEDIUM));
+
+      Assertions.assertTrue(
+          lowQuality.get(ImageVariant.MEDIUM).length < highQuality.get(ImageVariant.MEDIUM).length);
+    } finally {
+      lowQualityService.shutdown();
+    }
+  }
+
+  @Test
+  void resizeWithUnknownFormatKeepsTheFormatOfTheImage() throws Exception {
+    var image = encode(new BufferedImage(800, 800, BufferedImage.TYPE_INT_RGB), "png");
+
+    var variants =
+        imageService.resize(new ByteArrayInputStream(image), "txt", Set.of(ImageVariant.MEDIUM));
+
+    var readers =
+        ImageIO.getImageReaders(
+            ImageIO.createImageInputStream(
+                new ByteArrayInputStream(variants.get(ImageVariant.MEDIUM))));
+    Assertions.assertEquals("png", readers.next().getFormatName().toLowerCase(Locale.ROOT));
+  }
+
+  @Test
+  void resizeStreamThatIsNotAnImageReturnsEmpty() throws Exception {
+    var content = new ByteArrayInputStream("not an image".getBytes(StandardCharsets.UTF_8));
+
+    var variants = imageService.resize(content, "png", Set.of(ImageVariant.MEDIUM));
+
+    Assertions.assertTrue(variants.isEmpty());
+  }
+
+  private static void assertSize(final byte[] image, final int width, final int height)
+      throws IOException {
+    var decodedImage = ImageIO.read(new ByteArrayInputStream(image));
+    Assertions.assertEquals(width, decodedImage.getWidth());
+    Assertions.assertEquals(height, decodedImage.getHeight());
+  }
+
+  private static BufferedImage createNoise(final int width, final int height) {
+    var image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    var random = new Random(width);
+    for (int x = 0; x < width; x++) {
+      for (int y = 0; y < height; y++) {
+        image.setRGB(x, y, random.nextInt());
+      }
+    }
+    return image;
+  }
+
+  private static byte[] encode(final BufferedImage image, final String format)
+      throws IOException {
+    var outputStream = new ByteArrayOutputStream();
+    ImageIO.write(image, format, outputStream);
+    return outputStream.toByteArray();
+  }
+}
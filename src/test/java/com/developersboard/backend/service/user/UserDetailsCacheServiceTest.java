@@ -0,0 +1,169 @@
+package com.developersboard.backend.service.user;
+
+import com.developersboard.backend.service.cache.CacheInvalidationBus;
+import com.developersboard.backend.service.cache.impl.CacheInvalidationServiceImpl;
+import com.developersboard.backend.service.cache.impl.InProcessCacheInvalidationBus;
+import com.developersboard.backend.service.impl.UserDetailsBuilder;
+import com.developersboard.backend.service.user.impl.UserDetailsCacheServiceImpl;
+import com.developersboard.config.properties.CacheConfigProperties;
+import com.developersboard.enums.UserCacheEvictionCause;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UserDetailsCacheServiceTest {
+
+  private static final String METRIC_EVICTIONS = "user.details.cache.evictions";
+
+  private SimpleMeterRegistry meterRegistry;
+  private CacheInvalidationBus cacheInvalidationBus;
+  private UserDetailsCacheService userDetailsCacheService;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    cacheInvalidationBus = new InProcessCacheInvalidationBus();
+    userDetailsCacheService = createUserDetailsCacheService();
+  }
+
+  @Test
+  void cachedUserIsFoundByUsernameAndEmail() {
+    var userDetails = createUserDetails(1L, "john", "john@example.com");
+
+    put(userDetailsCacheService, userDetails);
+
+    Assertions.assertSame(userDetails, userDetailsCacheService.get("john"));
+    Assertions.assertSame(userDetails, userDetailsCacheService.get("john@example.com"));
+    Assertions.assertNull(userDetailsCacheService.get("jane"));
+  }
+
+  @Test
+  void evictingByPublicIdRemovesEveryAlias() {
+    put(userDetailsCacheService, createUserDetails(1L, "john", "john@example.com"));
+    var other = createUserDetails(2L, "jane", "jane@example.com");
+    put(userDetailsCacheService, other);
+
+    userDetailsCacheService.evictByPublicId("publicId-1", UserCacheEvictionCause.UPDATED);
+
+    Assertions.assertNull(userDetailsCacheService.get("john"));
+    Assertions.assertNull(userDetailsCacheService.get("john@example.com"));
+    Assertions.assertSame(other, userDetailsCacheService.get("jane"));
+    Assertions.assertEquals(1, evictions(UserCacheEvictionCause.UPDATED));
+  }
+
+  @Test
+  void evictingAnUncachedUserIsNotCounted() {
+    userDetailsCacheService.evictById(1L, UserCacheEvictionCause.LOCKED);
+
+    Assertions.assertEquals(0, evictions(UserCacheEvictionCause.LOCKED));
+  }
+
+  @Test
+  void usernameShapedLikeAnEmailIsServedFromTheUsernames() {
+    var userDetails = createUserDetails(1L, "john@home", "john@example.com");
+    put(userDetailsCacheService, userDetails);
+
+    Assertions.assertSame(userDetails, userDetailsCacheService.get("john@home"));
+  }
+
+  @Test
+  void emailIsMatchedBeforeAUsernameShapedLikeIt() {
+    var byUsername = createUserDetails(1L, "john@example.com", "john@home.com");
+    var byEmail = createUserDetails(2L, "john", "john@example.com");
+    put(userDetailsCacheService, byUsername);
+    put(userDetailsCacheService, byEmail);
+
+    Assertions.assertSame(byEmail, userDetailsCacheService.get("john@example.com"));
+  }
+
+  @Test
+  void detailsReadBeforeAnEvictionAreNotCached() {
+    var readStamp = userDetailsCacheService.readStamp();
+    userDetailsCacheService.evictById(1L, UserCacheEvictionCause.UPDATED);
+
+    userDetailsCacheService.put(createUserDetails(1L, "john", "john@example.com"), readStamp);
+    Assertions.assertNull(userDetailsCacheService.get("john"));
+
+    // Details read after the eviction are cached again.
+    var userDetails = createUserDetails(1L, "john", "john@example.com");
+    put(userDetailsCacheService, userDetails);
+    Assertions.assertSame(userDetails, userDetailsCacheService.get("john"));
+  }
+
+  @Test
+  void detailsReadBeforeAnEvictionByPublicIdAreNotCached() {
+    var readStamp = userDetailsCacheService.readStamp();
+    userDetailsCacheService.evictByPublicId("publicId-1", UserCacheEvictionCause.DISABLED);
+    var other = createUserDetails(2L, "jane", "jane@example.com");
+
+    userDetailsCacheService.put(createUserDetails(1L, "john", "john@example.com"), readStamp);
+    userDetailsCacheService.put(other, readStamp);
+
+    Assertions.assertNull(userDetailsCacheService.get("john"));
+    Assertions.assertSame(other, userDetailsCacheService.get("jane"));
+  }
+
+  @Test
+  void detailsReadBeforeAnEvictionOnAnotherNodeAreNotCached() {
+    var otherNode = createUserDetailsCacheService();
+    var readStamp = otherNode.readStamp();
+
+    userDetailsCacheService.evictById(1L, UserCacheEvictionCause.UPDATED);
+    otherNode.put(createUserDetails(1L, "john", "john@example.com"), readStamp);
+
+    Assertions.assertNull(otherNode.get("john"));
+  }
+
+  @Test
+  void replacedUserIsNoLongerFoundByItsPreviousUsername() {
+    put(userDetailsCacheService, createUserDetails(1L, "john", "john@example.com"));
+    var renamed = createUserDetails(1L, "johnny", "john@example.com");
+
+    put(userDetailsCacheService, renamed);
+
+    Assertions.assertNull(userDetailsCacheService.get("john"));
+    Assertions.assertSame(renamed, userDetailsCacheService.get("johnny"));
+  }
+
+  @Test
+  void evictionReachesTheOtherNodes() {
+    var otherNode = createUserDetailsCacheService();
+    put(userDetailsCacheService, createUserDetails(1L, "john", "john@example.com"));
+    put(otherNode, createUserDetails(1L, "john", "john@example.com"));
+    put(otherNode, createUserDetails(2L, "jane", "jane@example.com"));
+
+    userDetailsCacheService.evictByPublicId("publicId-1", UserCacheEvictionCause.DISABLED);
+    userDetailsCacheService.evictById(2L, UserCacheEvictionCause.PRUNED);
+
+    Assertions.assertNull(otherNode.get("john"));
+    Assertions.assertNull(otherNode.get("jane"));
+    Assertions.assertEquals(2, evictions(UserCacheEvictionCause.INVALIDATED));
+  }
+
+  private UserDetailsCacheService createUserDetailsCacheService() {
+    return new UserDetailsCacheServiceImpl(
+        new CacheConfigProperties(),
+        new CacheInvalidationServiceImpl(cacheInvalidationBus, meterRegistry),
+        meterRegistry);
+  }
+
+  private static void put(
+      final UserDetailsCacheService userDetailsCacheService, final UserDetailsBuilder userDetails) {
+    userDetailsCacheService.put(userDetails, userDetailsCacheService.readStamp());
+  }
+
+  private double evictions(final UserCacheEvictionCause cause) {
+    return meterRegistry.get(METRIC_EVICTIONS).tag("cause", cause.getName()).counter().count();
+  }
+
+  private static UserDetailsBuilder createUserDetails(
+      final Long id, final String username, final String email) {
+    return UserDetailsBuilder.builder()
+        .id(id)
+        .publicId("publicId-" + id)
+        .username(username)
+        .email(email)
+        .build();
+  }
+}
@@ -3,14 +3,19 @@ package com.developersboard.backend.service.user;
 import com.developersboard.backend.persistent.domain.user.Role;
 import com.developersboard.backend.persistent.domain.user.User;
 import com.developersboard.backend.persistent.repository.UserRepository;
+import com.developersboard.backend.service.security.TokenRevocationService;
+import com.developersboard.backend.service.user.impl.UserImporter;
 import com.developersboard.backend.service.user.impl.UserServiceImpl;
 import com.developersboard.enums.RoleType;
 import com.developersboard.shared.dto.UserDto;
 import com.developersboard.shared.util.UserUtils;
+import com.developersboard.web.payload.request.UserExportRequest;
+import com.developersboard.web.payload.response.UserImportResponse;
+import com.developersboard.web.payload.response.UserResponse;
 import java.time.Clock;
-import java.time.Instant;
-import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,6 +26,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +42,12 @@ class UserServiceTest {
 
   @Mock private transient Clock clock;
 
+  @Mock private transient TokenRevocationService tokenRevocationService;
+
+  @Mock private transient UserImporter userImporter;
+
+  @Mock private transient UserDetailsCacheService userDetailsCacheService;
+
   private transient UserDto userDto;
   private transient User user;
 
@@ -70,6 +82,60 @@ class UserServiceTest {
     Assertions.assertThrows(NullPointerException.class, () -> userService.createUser(null, null));
   }
 
+  @Test
+  void createUsersDelegatesToTheImporter() {
+    var userDtos = Stream.of(userDto);
+    var response = new UserImportResponse();
+    Mockito.when(userImporter.importUsers(userDtos)).thenReturn(response);
+
+    Assertions.assertSame(response, userService.createUsers(userDtos));
+  }
+
+  @Test
+  void findUsersFetchesOneMoreToFindTheNextPage() {
+    var first = new UserResponse();
+    first.setPublicId("first");
+    var second = new UserResponse();
+    second.setPublicId("second");
+    Mockito.when(userRepository.findUserResponsesAfter("cursor", Limit.of(2)))
+        .thenReturn(List.of(first, second));
+
+    var page = userService.findUsers("cursor", 1, false);
+
+    Assertions.assertEquals(List.of(first), page.getUsers());
+    Assertions.assertEquals("first", page.getNext());
+    Mockito.verify(userRepository, Mockito.never()).estimateCount();
+  }
+
+  @Test
+  void findUsersOnTheLastPageHasNoNext() {
+    Mockito.when(userRepository.findUserResponses(Limit.of(3))).thenReturn(List.of());
+    Mockito.when(userRepository.estimateCount()).thenReturn(0L);
+
+    var page = userService.findUsers(null, 2, true);
+
+    Assertions.assertTrue(page.getUsers().isEmpty());
+    Assertions.assertNull(page.getNext());
+    Assertions.assertEquals(0L, page.getEstimatedTotal());
+  }
+
+  @Test
+  void exportUsersHandsEachUserToTheConsumer() {
+    var first = new UserResponse();
+    var second = new UserResponse();
+    var role = RoleType.ROLE_ADMIN;
+    Mockito.when(userRepository.streamUserResponses(true, null, null, role.getName()))
+        .thenReturn(Stream.of(first, second));
+
+    var exportRequest = new UserExportRequest();
+    exportRequest.setEnabled(true);
+    exportRequest.setRole(role);
+    List<UserResponse> exported = new ArrayList<>();
+
+    Assertions.assertEquals(2, userService.exportUsers(exportRequest, exported::add));
+    Assertions.assertEquals(List.of(first, second), exported);
+  }
+
   @Test
   void getUserByUsername() {
     Mockito.when(userRepository.findByUsername(userDto.getUsername())).thenReturn(user);
@@ -78,20 +144,49 @@ class UserServiceTest {
     Assertions.assertEquals(userDto, storedUserDetails);
   }
 
-  // Test find all users that failed to verify their email after a certain time.
   @Test
-  void findAllNotEnabledAfterAllowedDays() {
-    var user = UserUtils.createUser();
+  void deleteNotEnabledUsersWithoutIdsDoesNotReachTheDatabase() {
+    Assertions.assertEquals(0, userService.deleteNotEnabledUsers(List.of()));
+    Mockito.verifyNoInteractions(userRepository);
+  }
+
+  @Test
+  void deleteNotEnabledUsersDeletesChildrenFirst() {
+    var ids = List.of(1L, 2L);
+    Mockito.when(userRepository.lockNotEnabledUserIds(ids)).thenReturn(ids);
+    Mockito.when(userRepository.deleteByIdIn(ids)).thenReturn(2);
+
+    Assertions.assertEquals(2, userService.deleteNotEnabledUsers(ids));
+
+    var inOrder = Mockito.inOrder(userRepository);
+    inOrder.verify(userRepository).lockNotEnabledUserIds(ids);
+    inOrder.verify(userRepository).deleteUserHistoriesByUserIds(ids);
+    inOrder.verify(userRepository).deleteUserRolesByUserIds(ids);
+    inOrder.verify(userRepository).deleteByIdIn(ids);
+  }
+
+  @Test
+  void deleteNotEnabledUsersDeletesOnlyTheUsersStillNotEnabled() {
+    var ids = List.of(1L, 2L);
+    var lockedIds = List.of(2L);
+    Mockito.when(userRepository.lockNotEnabledUserIds(ids)).thenReturn(lockedIds);
+    Mockito.when(userRepository.deleteByIdIn(lockedIds)).thenReturn(1);
+
+    Assertions.assertEquals(1, userService.deleteNotEnabledUsers(ids));
 
-    var fixedClock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
-    Mockito.doReturn(fixedClock.instant()).when(clock).instant();
-    Mockito.doReturn(fixedClock.getZone()).when(clock).getZone();
+    Mockito.verify(userRepository).deleteUserHistoriesByUserIds(lockedIds);
+    Mockito.verify(userRepository).deleteUserRolesByUserIds(lockedIds);
+    Mockito.verify(userRepository).deleteByIdIn(lockedIds);
+  }
+
+  @Test
+  void deleteNotEnabledUsersAllEnabledInTheMeantimeDeletesNothing() {
+    var ids = List.of(1L, 2L);
 
-    Mockito.when(userRepository.findByEnabledFalseAndCreatedAtBefore(ArgumentMatchers.any()))
-        .thenReturn(List.of(user));
+    Assertions.assertEquals(0, userService.deleteNotEnabledUsers(ids));
 
-    List<UserDto> users = userService.findAllNotEnabledAfterAllowedDays();
-    Assertions.assertTrue(users.contains(UserUtils.convertToUserDto(user)));
+    Mockito.verify(userRepository).lockNotEnabledUserIds(ids);
+    Mockito.verifyNoMoreInteractions(userRepository);
   }
 
   @Test
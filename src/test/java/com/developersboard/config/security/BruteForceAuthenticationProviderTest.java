@@ -0,0 +1,67 @@
+package com.developersboard.config.security;
+
+import com.developersboard.backend.service.security.BruteForceProtectionService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+@ExtendWith(MockitoExtension.class)
+class BruteForceAuthenticationProviderTest {
+
+  private static final String CLIENT_IP = "10.0.0.1";
+  private static final String USERNAME = "unknown";
+
+  @Mock private transient UserDetailsService userDetailsService;
+  @Mock private transient BruteForceProtectionService bruteForceProtectionService;
+
+  private BruteForceAuthenticationProvider authenticationProvider;
+
+  @BeforeEach
+  void setUp() {
+    authenticationProvider =
+        new BruteForceAuthenticationProvider(userDetailsService, bruteForceProtectionService);
+  }
+
+  @Test
+  void clientUnderAttackIsRejectedBeforeTheUserIsLookedUp() {
+    Mockito.when(bruteForceProtectionService.isBruteForceAttack(null, CLIENT_IP)).thenReturn(true);
+
+    Assertions.assertThrows(
+        LockedException.class, () -> authenticationProvider.authenticate(createAuthentication()));
+    Mockito.verifyNoInteractions(userDetailsService);
+  }
+
+  @Test
+  void unknownUsernameFromAnotherClientIsLookedUp() {
+    Mockito.when(userDetailsService.loadUserByUsername(USERNAME))
+        .thenThrow(new UsernameNotFoundException(USERNAME));
+
+    // Unknown usernames are reported as bad credentials, so they are counted like wrong passwords.
+    Assertions.assertThrows(
+        BadCredentialsException.class,
+        () -> authenticationProvider.authenticate(createAuthentication()));
+    Mockito.verify(bruteForceProtectionService)
+        .isBruteForceAttack(ArgumentMatchers.isNull(), ArgumentMatchers.eq(CLIENT_IP));
+  }
+
+  private static UsernamePasswordAuthenticationToken createAuthentication() {
+    var request = new MockHttpServletRequest();
+    request.setRemoteAddr(CLIENT_IP);
+
+    var authentication = UsernamePasswordAuthenticationToken.unauthenticated(USERNAME, "password");
+    authentication.setDetails(new WebAuthenticationDetails(request));
+    return authentication;
+  }
+}
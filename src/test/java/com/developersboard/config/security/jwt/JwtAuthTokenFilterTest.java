@@ -3,9 +3,15 @@ package com.developersboard.config.security.jwt;
 import com.developersboard.backend.service.impl.UserDetailsBuilder;
 import com.developersboard.backend.service.security.EncryptionService;
 import com.developersboard.backend.service.security.JwtService;
+import com.developersboard.backend.service.security.TokenRevocationService;
+import com.developersboard.constant.SecurityConstants;
 import com.developersboard.shared.util.UserUtils;
+import com.developersboard.shared.util.core.SecurityUtils;
+import io.jsonwebtoken.Jwts;
 import jakarta.servlet.ServletException;
 import java.io.IOException;
+import java.util.Date;
+import java.util.UUID;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -21,6 +27,7 @@ import org.springframework.mock.web.MockFilterChain;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class JwtAuthTokenFilterTest {
@@ -37,6 +44,8 @@ class JwtAuthTokenFilterTest {
 
   @Mock private transient EncryptionService encryptionService;
 
+  @Mock private transient TokenRevocationService tokenRevocationService;
+
   @InjectMocks private transient JwtAuthTokenFilter jwtAuthTokenFilter;
 
   private transient MockHttpServletRequest request;
@@ -63,11 +72,13 @@ class JwtAuthTokenFilterTest {
   void testDoFilterInternalWhenTokenIsInHeader() throws ServletException, IOException {
     request.addHeader(HttpHeaders.AUTHORIZATION, bearerToken);
 
+    var claims = Jwts.claims().subject(UserUtils.createUser().getUsername()).build();
     Mockito.when(jwtService.generateJwtToken(ArgumentMatchers.anyString())).thenReturn(bearerToken);
-    Mockito.when(jwtService.isValidJwtToken(ArgumentMatchers.anyString())).thenReturn(true);
+    Mockito.when(jwtService.getVerifiedClaims(ArgumentMatchers.anyString())).thenReturn(claims);
     jwtAuthTokenFilter.doFilterInternal(request, response, filterChain);
 
     Assertions.assertEquals(HttpStatus.OK.value(), response.getStatus());
+    Mockito.verify(jwtService, Mockito.never()).isValidJwtToken(ArgumentMatchers.anyString());
   }
 
   @Test
@@ -98,4 +109,54 @@ class JwtAuthTokenFilterTest {
 
     Assertions.assertEquals(HttpStatus.OK.value(), response.getStatus());
   }
+
+  @Test
+  void testDoFilterInternalWithStatelessPrincipalSkipsUserLookup() throws Exception {
+    var authenticated = filterWithStatelessPrincipal(true);
+
+    Assertions.assertTrue(authenticated);
+    Assertions.assertEquals(HttpStatus.OK.value(), response.getStatus());
+    Mockito.verify(tokenRevocationService)
+        .isRevoked(ArgumentMatchers.anyString(), ArgumentMatchers.any());
+    Mockito.verify(userDetailsService, Mockito.never())
+        .loadUserByUsername(ArgumentMatchers.anyString());
+  }
+
+  @Test
+  void testDoFilterInternalWithStatelessPrincipalRejectsExpiredCredentials() throws Exception {
+    var authenticated = filterWithStatelessPrincipal(false);
+
+    Assertions.assertFalse(authenticated);
+    Mockito.verify(userDetailsService, Mockito.never())
+        .loadUserByUsername(ArgumentMatchers.anyString());
+  }
+
+  private boolean filterWithStatelessPrincipal(final boolean credentialsNonExpired)
+      throws Exception {
+    request.addHeader(HttpHeaders.AUTHORIZATION, bearerToken);
+
+    var claims =
+        Jwts.claims()
+            .subject(UserUtils.createUser().getUsername())
+            .add(SecurityConstants.CLAIM_PUBLIC_ID, UUID.randomUUID().toString())
+            .add(SecurityConstants.CLAIM_ENABLED, true)
+            .add(SecurityConstants.CLAIM_ACCOUNT_NON_LOCKED, true)
+            .add(SecurityConstants.CLAIM_ACCOUNT_NON_EXPIRED, true)
+            .add(SecurityConstants.CLAIM_CREDENTIALS_NON_EXPIRED, credentialsNonExpired)
+            .issuedAt(new Date())
+            .build();
+    Mockito.when(jwtService.getJwtToken(request, false)).thenReturn(token);
+    Mockito.when(jwtService.getVerifiedClaims(ArgumentMatchers.anyString())).thenReturn(claims);
+    Mockito.clearInvocations(userDetailsService, tokenRevocationService);
+
+    ReflectionTestUtils.setField(jwtAuthTokenFilter, "statelessPrincipal", true);
+    try {
+      SecurityUtils.clearAuthentication();
+      jwtAuthTokenFilter.doFilterInternal(request, response, filterChain);
+      return SecurityUtils.isAuthenticated();
+    } finally {
+      ReflectionTestUtils.setField(jwtAuthTokenFilter, "statelessPrincipal", false);
+      SecurityUtils.clearAuthentication();
+    }
+  }
 }
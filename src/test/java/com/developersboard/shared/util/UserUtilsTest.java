@@ -2,6 +2,7 @@ package com.developersboard.shared.util;
 
 import com.developersboard.TestUtils;
 import com.developersboard.backend.persistent.domain.user.User;
+import com.developersboard.constant.user.ProfileConstants;
 import com.developersboard.enums.RoleType;
 import com.developersboard.shared.dto.UserDto;
 import com.developersboard.web.payload.request.SignUpRequest;
@@ -97,6 +98,46 @@ class UserUtilsTest extends TestUtils {
     Assertions.assertEquals(user, userFromUserDto);
   }
 
+  @Test
+  void storedProfileImageIsServedByTheApplication() {
+    User user = UserUtils.createUser();
+    user.setProfileImage("profileImages/" + user.getUsername() + "/profileImage.png");
+
+    var userDto = UserUtils.convertToUserDto(user);
+
+    Assertions.assertEquals(
+        "/images/profileImages/" + user.getUsername() + "/profileImage.png?v=0",
+        userDto.getProfileImage());
+    Assertions.assertEquals(
+        user.getProfileImage(), UserUtils.convertToUser(userDto).getProfileImage());
+  }
+
+  @Test
+  void randomProfileImageIsNotStored() {
+    User user = UserUtils.createUser();
+
+    var userDto = UserUtils.convertToUserDto(user);
+
+    Assertions.assertEquals(ProfileConstants.PIC_SUM_PHOTOS_150_RANDOM, userDto.getProfileImage());
+    Assertions.assertNull(UserUtils.convertToUser(userDto).getProfileImage());
+  }
+
+  @Test
+  void externalProfileImageIsKept() {
+    var profileImage = "https://example.com/avatar.png";
+
+    Assertions.assertEquals(profileImage, UserUtils.getProfileImageKey(profileImage));
+  }
+
+  @Test
+  void emailIdentifierHasCharactersOnBothSidesOfTheAtSign() {
+    Assertions.assertTrue(UserUtils.isEmailIdentifier("john@example.com"));
+    Assertions.assertFalse(UserUtils.isEmailIdentifier("john"));
+    Assertions.assertFalse(UserUtils.isEmailIdentifier("@john"));
+    Assertions.assertFalse(UserUtils.isEmailIdentifier("john@"));
+    Assertions.assertFalse(UserUtils.isEmailIdentifier(null));
+  }
+
   @Test
   void convertSignUpRequestToUserDto() {
     var signUpRequest = new SignUpRequest();
@@ -0,0 +1,42 @@
+package com.developersboard.shared.util.core;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+class CsvUtilsTest {
+
+  @Test
+  void callingConstructorShouldThrowException() {
+    Assertions.assertThrows(
+        AssertionError.class, () -> ReflectionUtils.newInstance(CsvUtils.class));
+  }
+
+  @Test
+  void parseLineSplitsOnCommas() {
+    Assertions.assertEquals(
+        List.of("john", "john@example.com", ""), CsvUtils.parseLine("john, john@example.com,"));
+  }
+
+  @Test
+  void parseLineKeepsCommasAndQuotesWithinQuotedValues() {
+    Assertions.assertEquals(
+        List.of("john", "pa,ss\"word"), CsvUtils.parseLine("john,\"pa,ss\"\"word\""));
+  }
+
+  @Test
+  void formatLineQuotesOnlyTheValuesThatNeedIt() {
+    Assertions.assertEquals(
+        ",john,\"pa,ss\"\"word\",true",
+        CsvUtils.formatLine(Arrays.asList(null, "john", "pa,ss\"word", true)));
+  }
+
+  @Test
+  void formatLineIsReadBackByParseLine() {
+    var values = List.of("", "john", "pa,ss\"word", "line\nbreak");
+
+    Assertions.assertEquals(values, CsvUtils.parseLine(CsvUtils.formatLine(values)));
+  }
+}
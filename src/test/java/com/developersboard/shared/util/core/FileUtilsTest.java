@@ -1,5 +1,7 @@
 package com.developersboard.shared.util.core;
 
+import com.developersboard.enums.ImageResizeMode;
+import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
@@ -45,4 +47,52 @@ class FileUtilsTest {
     Assertions.assertEquals(width, image.getWidth());
     Assertions.assertEquals(height, image.getHeight());
   }
+
+  @Test
+  void resizeCropKeepsTheCenterOfTheImage() {
+    var image = new BufferedImage(400, 200, BufferedImage.TYPE_INT_RGB);
+    var graphics = image.createGraphics();
+    graphics.setColor(Color.RED);
+    graphics.fillRect(0, 0, 400, 200);
+    graphics.setColor(Color.BLUE);
+    graphics.fillRect(100, 0, 200, 200);
+    graphics.dispose();
+
+    var resized = FileUtils.resize(image, 100, 100, ImageResizeMode.CROP);
+
+    Assertions.assertEquals(100, resized.getWidth());
+    Assertions.assertEquals(100, resized.getHeight());
+    Assertions.assertEquals(Color.BLUE.getRGB(), resized.getRGB(0, 50));
+    Assertions.assertEquals(Color.BLUE.getRGB(), resized.getRGB(99, 50));
+  }
+
+  @Test
+  void resizeFitKeepsTheAspectRatio() {
+    var image = new BufferedImage(3000, 1500, BufferedImage.TYPE_INT_RGB);
+
+    var resized = FileUtils.resize(image, 600, 600, ImageResizeMode.FIT);
+
+    Assertions.assertEquals(600, resized.getWidth());
+    Assertions.assertEquals(300, resized.getHeight());
+  }
+
+  @Test
+  void resizeFitNeverScalesUp() {
+    var image = new BufferedImage(300, 200, BufferedImage.TYPE_INT_RGB);
+
+    var resized = FileUtils.resize(image, 600, 600, ImageResizeMode.FIT);
+
+    Assertions.assertEquals(300, resized.getWidth());
+    Assertions.assertEquals(200, resized.getHeight());
+  }
+
+  @Test
+  void resizeKeepsTransparency() {
+    var image = new BufferedImage(1200, 1200, BufferedImage.TYPE_4BYTE_ABGR);
+
+    var resized = FileUtils.resize(image, 600, 600, ImageResizeMode.CROP);
+
+    Assertions.assertTrue(resized.getColorModel().hasAlpha());
+    Assertions.assertEquals(0, resized.getRGB(300, 300) >>> 24);
+  }
 }
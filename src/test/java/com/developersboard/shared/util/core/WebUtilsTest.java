@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.platform.commons.util.ReflectionUtils;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -47,4 +48,18 @@ class WebUtilsTest {
         String.format("%s?%s=%s", SignUpConstants.SIGN_UP_VERIFY_MAPPING, WebUtils.TOKEN, publicId);
     Assertions.assertEquals(expected, genericUri);
   }
+
+  @Test
+  void getClientIpAddressReturnsRemoteAddress() {
+    Mockito.when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+
+    Assertions.assertEquals("127.0.0.1", WebUtils.getClientIpAddress());
+  }
+
+  @Test
+  void getClientIpAddressWithoutRequestReturnsNull() {
+    RequestContextHolder.resetRequestAttributes();
+
+    Assertions.assertNull(WebUtils.getClientIpAddress());
+  }
 }
@@ -14,6 +14,7 @@ import com.developersboard.backend.service.security.EncryptionService;
 import com.developersboard.backend.service.security.JwtService;
 import com.developersboard.backend.service.security.impl.EncryptionServiceImpl;
 import com.developersboard.backend.service.security.impl.JwtServiceImpl;
+import com.developersboard.backend.service.user.impl.UserAccountServiceImpl;
 import com.developersboard.backend.service.user.impl.UserServiceImpl;
 import com.developersboard.constant.user.PasswordConstants;
 import com.developersboard.shared.dto.UserDto;
@@ -52,9 +53,16 @@ class PasswordControllerTest {
     EncryptionService encryptionService = new EncryptionServiceImpl("salt", "password");
     JwtService jwtService = new JwtServiceImpl(JwtUtils.generateSecretKey());
 
+    var userAccountService =
+        new UserAccountServiceImpl(jwtService, userService, emailService, encryptionService);
     passwordController =
         new PasswordController(
-            jwtService, userService, emailService, passwordEncoder, encryptionService);
+            jwtService,
+            userService,
+            emailService,
+            passwordEncoder,
+            encryptionService,
+            userAccountService);
 
     this.mockMvc = MockMvcBuilders.standaloneSetup(passwordController).build();
   }
@@ -0,0 +1,104 @@
+package com.developersboard.web.controller.user;
+
+import com.developersboard.backend.service.storage.AmazonS3Service;
+import com.developersboard.backend.service.storage.AmazonS3Service.StoredFile;
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileImageControllerTest {
+
+  private static final String IMAGE_URL = "/images/profileImages/user/profileImage.png";
+  private static final String KEY = "profileImages/user/profileImage.png";
+  private static final String ETAG = "\"etag\"";
+
+  @Mock private transient AmazonS3Service amazonS3Service;
+
+  @Test
+  void profileImageRedirectsToThePreSignedUrl() throws Exception {
+    Mockito.when(amazonS3Service.generatePreSignedUrl(KEY)).thenReturn("https://s3/signed");
+
+    createMockMvc(false)
+        .perform(MockMvcRequestBuilders.get(IMAGE_URL))
+        .andExpect(MockMvcResultMatchers.status().isFound())
+        .andExpect(MockMvcResultMatchers.redirectedUrl("https://s3/signed"))
+        .andExpect(
+            MockMvcResultMatchers.header()
+                .string(HttpHeaders.CACHE_CONTROL, "max-age=3600, private"));
+  }
+
+  @Test
+  void proxiedProfileImageIsCacheable() throws Exception {
+    var content = new byte[] {1, 2, 3};
+    var lastModified = Instant.parse("2024-01-01T00:00:00Z");
+    Mockito.when(amazonS3Service.getStoredFile(KEY, null))
+        .thenReturn(
+            new StoredFile(
+                new ByteArrayInputStream(content), "image/png", 3, ETAG, lastModified));
+
+    createMockMvc(true)
+        .perform(MockMvcRequestBuilders.get(IMAGE_URL))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.content().bytes(content))
+        .andExpect(MockMvcResultMatchers.content().contentType("image/png"))
+        .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, ETAG))
+        .andExpect(
+            MockMvcResultMatchers.header()
+                .dateValue(HttpHeaders.LAST_MODIFIED, lastModified.toEpochMilli()))
+        .andExpect(
+            MockMvcResultMatchers.header()
+                .string(HttpHeaders.CACHE_CONTROL, "max-age=2592000, private"));
+  }
+
+  @Test
+  void proxiedProfileImageIsNotModified() throws Exception {
+    Mockito.when(amazonS3Service.getStoredFile(KEY, ETAG))
+        .thenReturn(new StoredFile(null, null, 0, ETAG, null));
+
+    createMockMvc(true)
+        .perform(MockMvcRequestBuilders.get(IMAGE_URL).header(HttpHeaders.IF_NONE_MATCH, ETAG))
+        .andExpect(MockMvcResultMatchers.status().isNotModified())
+        .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, ETAG))
+        .andExpect(MockMvcResultMatchers.content().bytes(new byte[0]));
+  }
+
+  @Test
+  void proxiedProfileImageNotModifiedSince() throws Exception {
+    var content = new ByteArrayInputStream(new byte[] {1, 2, 3});
+    var lastModified = Instant.parse("2024-01-01T00:00:00Z");
+    Mockito.when(amazonS3Service.getStoredFile(KEY, null))
+        .thenReturn(new StoredFile(content, "image/png", 3, ETAG, lastModified));
+
+    createMockMvc(true)
+        .perform(
+            MockMvcRequestBuilders.get(IMAGE_URL)
+                .header(HttpHeaders.IF_MODIFIED_SINCE, "Mon, 01 Jan 2024 00:00:00 GMT"))
+        .andExpect(MockMvcResultMatchers.status().isNotModified())
+        .andExpect(MockMvcResultMatchers.content().bytes(new byte[0]));
+  }
+
+  @Test
+  void proxiedProfileImageThatDoesNotExistIsNotFound() throws Exception {
+    createMockMvc(true)
+        .perform(MockMvcRequestBuilders.get(IMAGE_URL))
+        .andExpect(MockMvcResultMatchers.status().isNotFound());
+  }
+
+  private MockMvc createMockMvc(final boolean proxy) {
+    var controller =
+        new ProfileImageController(
+            amazonS3Service, proxy, Duration.ofDays(30), Duration.ofHours(1));
+    return MockMvcBuilders.standaloneSetup(controller).build();
+  }
+}